@@ -0,0 +1,63 @@
+// src/main/java/com/epr/cache/CatalogueVersion.java
+package com.epr.cache;
+
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Version and last-modified time of everything the public endpoints serve.
+ *
+ * Every admin write to blogs, services, taxonomy or ratings calls {@link #bump()}. The version
+ * drives strong ETags, so an unchanged catalogue can be answered with 304 without touching
+ * the database. The epoch prefix keeps ETags from a previous process from matching after a restart.
+ */
+@Component
+public class CatalogueVersion {
+
+    private record State(long version, long lastModified) {
+    }
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private volatile State state = new State(0, System.currentTimeMillis());
+
+    public long version() {
+        return state.version();
+    }
+
+    public String etag() {
+        return "\"" + epoch + "-" + state.version() + "\"";
+    }
+
+    public long lastModified() {
+        return state.lastModified();
+    }
+
+    /**
+     * Marks the catalogue as changed once the current transaction commits (right away without one).
+     * Runs after the after-commit cache listeners, so a new ETag is never paired with stale data.
+     */
+    public void bump() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            advance();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) advance();
+            }
+
+            @Override
+            public int getOrder() {
+                return Ordered.LOWEST_PRECEDENCE;
+            }
+        });
+    }
+
+    private synchronized void advance() {
+        state = new State(state.version() + 1, System.currentTimeMillis());
+    }
+}
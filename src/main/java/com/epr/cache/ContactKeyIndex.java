@@ -0,0 +1,132 @@
+// src/main/java/com/epr/cache/ContactKeyIndex.java
+package com.epr.cache;
+
+import com.epr.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bloom filter of the contact keys (see ContactKeys) of every stored enquiry, so a first-time
+ * contact is recognised without a database lookup. A "no" is exact; a "maybe" still goes to the
+ * indexed lookup. Until the first load everything is a "maybe".
+ *
+ * Loaded by EnquiryServiceImpl; new enquiries add their keys once the insert commits. Keys added
+ * while a load is running are replayed into the new filter, so none fall between the two. Keys of
+ * deleted enquiries stay until the next load, which only costs a lookup.
+ */
+@Component
+public class ContactKeyIndex {
+
+    private final long expectedKeys;
+    private final double falsePositiveRate;
+
+    // guarded by this
+    private BloomFilter filter;
+    private List<String> addedDuringLoad;
+
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+
+    public ContactKeyIndex(@Value("${app.enquiry.contact-filter.expected-keys:1000000}") long expectedKeys,
+                           @Value("${app.enquiry.contact-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.expectedKeys = expectedKeys;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public synchronized boolean isLoaded() {
+        return filter != null;
+    }
+
+    /**
+     * A filter sized for the given number of stored keys, with room to grow
+     */
+    public BloomFilter newFilter(long storedKeys) {
+        return BloomFilter.create(Math.max(expectedKeys, storedKeys * 2), falsePositiveRate);
+    }
+
+    public synchronized void beginLoad() {
+        addedDuringLoad = new ArrayList<>();
+    }
+
+    public synchronized void abandonLoad() {
+        addedDuringLoad = null;
+    }
+
+    public synchronized void replaceAll(BloomFilter loaded) {
+        if (addedDuringLoad != null) addedDuringLoad.forEach(loaded::put);
+        addedDuringLoad = null;
+        filter = loaded;
+    }
+
+    /**
+     * False only if no stored enquiry has this key; counted as a skipped lookup
+     */
+    public boolean mightContain(String key) {
+        if (key == null) return false;
+        boolean maybe;
+        synchronized (this) {
+            maybe = filter == null || filter.mightContain(key);
+        }
+        (maybe ? lookups : skipped).incrementAndGet();
+        return maybe;
+    }
+
+    /**
+     * The lookup after a "maybe" found nothing
+     */
+    public void lookupMissed() {
+        falsePositives.incrementAndGet();
+    }
+
+    /**
+     * Called by the write that inserts an enquiry; applied once it commits
+     */
+    public void added(String emailKey, String mobileKey) {
+        if (emailKey == null && mobileKey == null) return;
+        afterCommit(() -> {
+            synchronized (this) {
+                for (String key : new String[]{emailKey, mobileKey}) {
+                    if (key == null) continue;
+                    if (filter != null) filter.put(key);
+                    if (addedDuringLoad != null) addedDuringLoad.add(key);
+                }
+            }
+        });
+    }
+
+    public synchronized Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("loaded", filter != null);
+        if (filter != null) {
+            metrics.put("keys", filter.keys());
+            metrics.put("capacity", filter.expectedKeys());
+            metrics.put("bytes", filter.sizeInBytes());
+        }
+        metrics.put("skippedLookups", skipped.get());
+        metrics.put("lookups", lookups.get());
+        metrics.put("falsePositives", falsePositives.get());
+        return metrics;
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,90 @@
+// src/main/java/com/epr/cache/EnquiryBlocklist.java
+package com.epr.cache;
+
+import com.epr.util.ContactKeys;
+import com.epr.util.IpRangeSet;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Blocked enquiry contacts (enquiry_blocker) held in memory, so blocked submissions are turned
+ * away before any database work: emails and mobiles as hash sets of their normalized keys, email
+ * domains ("@domain.com") as a set of domains, and IPs / CIDR ranges as an {@link IpRangeSet}.
+ *
+ * The lists are an immutable snapshot replaced as a whole by {@link #replaceAll}; checks read
+ * whichever snapshot is current and never lock.
+ */
+@Component
+public class EnquiryBlocklist {
+
+    public enum Match { EMAIL, MOBILE, IP }
+
+    private record Snapshot(Set<String> emails, Set<String> domains, Set<String> mobiles, IpRangeSet ips) {
+    }
+
+    private volatile Snapshot snapshot = new Snapshot(Set.of(), Set.of(), Set.of(), IpRangeSet.empty());
+
+    private final Map<Match, AtomicLong> blocked = new EnumMap<>(Match.class);
+    private final AtomicLong reloads = new AtomicLong();
+
+    public EnquiryBlocklist() {
+        for (Match match : Match.values()) blocked.put(match, new AtomicLong());
+    }
+
+    /**
+     * emails are addresses or "@domain" entries, mobiles are normalized keys, ipRanges are valid
+     * IpRangeSet entries
+     */
+    public void replaceAll(Collection<String> emails, Collection<String> mobiles, List<String> ipRanges) {
+        Set<String> addresses = new HashSet<>();
+        Set<String> domains = new HashSet<>();
+        for (String email : emails) {
+            String key = ContactKeys.emailKey(email);
+            if (key == null) continue;
+            if (key.startsWith("@")) domains.add(key.substring(1));
+            else addresses.add(key);
+        }
+        snapshot = new Snapshot(Set.copyOf(addresses), Set.copyOf(domains), Set.copyOf(mobiles), IpRangeSet.of(ipRanges));
+        reloads.incrementAndGet();
+    }
+
+    /**
+     * What the submission is blocked by, if anything
+     */
+    public Optional<Match> match(String email, String mobile, String ipAddress) {
+        Snapshot current = snapshot;
+        Match match = null;
+
+        String emailKey = ContactKeys.emailKey(email);
+        String mobileKey = ContactKeys.mobileKey(mobile);
+        if (emailKey != null && (current.emails().contains(emailKey) || current.domains().contains(domain(emailKey)))) {
+            match = Match.EMAIL;
+        } else if (mobileKey != null && current.mobiles().contains(mobileKey)) {
+            match = Match.MOBILE;
+        } else if (current.ips().contains(ipAddress)) {
+            match = Match.IP;
+        }
+
+        if (match != null) blocked.get(match).incrementAndGet();
+        return Optional.ofNullable(match);
+    }
+
+    public Map<String, Object> metrics() {
+        Snapshot current = snapshot;
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("emails", current.emails().size());
+        metrics.put("domains", current.domains().size());
+        metrics.put("mobiles", current.mobiles().size());
+        metrics.put("ipRanges", current.ips().size());
+        blocked.forEach((match, count) -> metrics.put("blocked." + match.name().toLowerCase(Locale.ROOT), count.get()));
+        metrics.put("reloads", reloads.get());
+        return metrics;
+    }
+
+    private static String domain(String emailKey) {
+        int at = emailKey.lastIndexOf('@');
+        return at >= 0 ? emailKey.substring(at + 1) : "";
+    }
+}
@@ -0,0 +1,85 @@
+// src/main/java/com/epr/cache/EnquiryRateLimiter.java
+package com.epr.cache;
+
+import com.epr.config.EnquiryRateLimitProperties;
+import com.epr.util.ContactKeys;
+import com.epr.util.TokenBucketLimiter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-node submission limits for POST /api/enquiries: a token bucket per client IP and one per
+ * normalized email and mobile (so one contact cannot be replayed from many IPs). Nothing is shared
+ * between nodes; each node protects its own connection pool.
+ */
+@Component
+public class EnquiryRateLimiter {
+
+    private final boolean enabled;
+    private final TokenBucketLimiter byIp;
+    private final TokenBucketLimiter byContact;
+
+    private final AtomicLong allowed = new AtomicLong();
+    private final AtomicLong limitedByIp = new AtomicLong();
+    private final AtomicLong limitedByContact = new AtomicLong();
+    private final AtomicLong evictedIdle = new AtomicLong();
+
+    public EnquiryRateLimiter(EnquiryRateLimitProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.byIp = new TokenBucketLimiter(properties.getIp().getBurst(), properties.getIp().getPerMinute(),
+                properties.getMaxEntries(), properties.getStripes());
+        this.byContact = new TokenBucketLimiter(properties.getContact().getBurst(), properties.getContact().getPerMinute(),
+                properties.getMaxEntries(), properties.getStripes());
+    }
+
+    /**
+     * Takes a token from the IP's bucket, then from the email's and the mobile's; 0 if all had one,
+     * otherwise the seconds to wait (for Retry-After). A refused call does not spend later buckets.
+     */
+    public long tryAcquire(String ipAddress, String email, String mobile) {
+        if (!enabled) return 0;
+
+        long wait = ipAddress != null ? byIp.tryAcquire(ipAddress) : 0;
+        if (wait > 0) {
+            limitedByIp.incrementAndGet();
+            return seconds(wait);
+        }
+        for (String key : new String[]{ContactKeys.emailKey(email), ContactKeys.mobileKey(mobile)}) {
+            if (key == null) continue;
+            wait = byContact.tryAcquire(key);
+            if (wait > 0) {
+                limitedByContact.incrementAndGet();
+                return seconds(wait);
+            }
+        }
+        allowed.incrementAndGet();
+        return 0;
+    }
+
+    @Scheduled(fixedDelayString = "${app.enquiry-rate-limit.evict-interval-ms:60000}")
+    public void evictIdle() {
+        evictedIdle.addAndGet(byIp.evictIdle() + byContact.evictIdle());
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", enabled);
+        metrics.put("allowed", allowed.get());
+        metrics.put("limited.ip", limitedByIp.get());
+        metrics.put("limited.contact", limitedByContact.get());
+        metrics.put("buckets.ip", byIp.size());
+        metrics.put("buckets.contact", byContact.size());
+        metrics.put("evicted.idle", evictedIdle.get());
+        metrics.put("evicted.full", byIp.evictedForSpace() + byContact.evictedForSpace());
+        return metrics;
+    }
+
+    private static long seconds(long nanos) {
+        return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,116 @@
+// src/main/java/com/epr/cache/LatestRing.java
+package com.epr.cache;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The newest {@code capacity} public items, postDate DESC then id DESC, ready to serve.
+ *
+ * Readers take the current immutable array without locking. Writers copy, insert or drop one entry
+ * and swap, which is O(capacity). Items that fall off the end are forgotten; when a removal leaves a
+ * full ring short the ring marks itself unloaded so the owner refills it with one bounded query.
+ *
+ * Every change advances a generation. The owner passes the generation it saw before querying to
+ * {@link #replaceAll}, so rows read before a concurrent write committed are never loaded over it.
+ */
+public class LatestRing<T> {
+
+    public record Entry<T>(Long id, LocalDateTime postDate, T item) {
+    }
+
+    private static final Comparator<Entry<?>> NEWEST_FIRST = Comparator
+            .comparing((Entry<?> e) -> e.postDate(), Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Entry::id, Comparator.reverseOrder());
+
+    private final int capacity;
+
+    // null until loaded (or after an invalidation)
+    private volatile List<Entry<T>> entries;
+    // false when more items exist beyond the ring, so a removal cannot be backfilled from memory
+    private volatile boolean complete;
+    // guarded by this
+    private long generation;
+
+    public LatestRing(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive");
+        this.capacity = capacity;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public boolean isLoaded() {
+        return entries != null;
+    }
+
+    public List<T> latest(int limit) {
+        List<Entry<T>> current = entries;
+        if (current == null) return List.of();
+        int n = Math.min(Math.max(limit, 0), current.size());
+        List<T> items = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) items.add(current.get(i).item());
+        return items;
+    }
+
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Loads from a newest-first query limited to {@link #capacity()} rows, read after
+     * {@link #generation()} returned {@code seenGeneration}; ignored (false) if anything changed in between
+     */
+    public synchronized boolean replaceAll(Collection<Entry<T>> newest, long seenGeneration) {
+        if (seenGeneration != generation) return false;
+        List<Entry<T>> sorted = new ArrayList<>(newest);
+        sorted.sort(NEWEST_FIRST);
+        complete = sorted.size() < capacity;
+        entries = List.copyOf(sorted.subList(0, Math.min(sorted.size(), capacity)));
+        return true;
+    }
+
+    // Create, publish or edit of a visible item
+    public synchronized void upsert(Entry<T> entry) {
+        generation++;
+        if (entries == null) return; // the next read loads it
+        List<Entry<T>> next = new ArrayList<>(entries.size() + 1);
+        for (Entry<T> e : entries) {
+            if (!e.id().equals(entry.id())) next.add(e);
+        }
+        boolean wasPresent = next.size() < entries.size();
+
+        int at = 0;
+        while (at < next.size() && NEWEST_FIRST.compare(next.get(at), entry) < 0) at++;
+        if (at == next.size() && !complete) {
+            // Older than everything held while more items exist beyond the ring, so its place is unknown.
+            // If it was in the ring (postDate moved back), the ring is now one short: reload.
+            if (wasPresent) entries = null;
+            return;
+        }
+        next.add(at, entry);
+        if (next.size() > capacity) {
+            next.remove(next.size() - 1);
+            complete = false;
+        }
+        entries = List.copyOf(next);
+    }
+
+    // Unpublish or delete
+    public synchronized void remove(Long id) {
+        generation++;
+        if (entries == null) return;
+        List<Entry<T>> next = new ArrayList<>(entries);
+        if (!next.removeIf(e -> e.id().equals(id))) return;
+        entries = complete ? List.copyOf(next) : null;
+    }
+
+    public synchronized void invalidate() {
+        generation++;
+        entries = null;
+    }
+}
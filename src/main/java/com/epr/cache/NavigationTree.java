@@ -0,0 +1,157 @@
+// src/main/java/com/epr/cache/NavigationTree.java
+package com.epr.cache;
+
+import com.epr.dto.customer.NavigationCategoryDto;
+import com.epr.dto.customer.NavigationSubcategoryDto;
+import com.epr.repository.projection.NavigationCategoryRow;
+import com.epr.repository.projection.NavigationSubcategoryRow;
+import com.epr.repository.projection.PlacementCountRow;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * Public navigation (visible categories, their visible subcategories, and the number of public blogs
+ * and services under each), held in memory and rendered once per change.
+ *
+ * Loaded from grouped count queries by NavigationServiceImpl. After that the admin write methods
+ * report what changed: {@link #moved} with where a blog or service was publicly listed before and
+ * after the write, and {@link #categoryChanged} / {@link #subcategoryChanged} for taxonomy nodes.
+ * Changes are applied once the write commits and never on rollback.
+ */
+@Component
+public class NavigationTree {
+
+    public enum Content { BLOG, SERVICE }
+
+    /**
+     * Where a publicly listed blog or service is filed; null stands for "not publicly listed"
+     */
+    public record Placement(Long categoryId, Long subcategoryId) {
+    }
+
+    // guarded by this
+    private final Map<Long, NavigationCategoryRow> categories = new HashMap<>();
+    private final Map<Long, NavigationSubcategoryRow> subcategories = new HashMap<>();
+    // [blogs, services] per node id; kept for hidden nodes too so they are right when shown again
+    private final Map<Long, long[]> categoryCounts = new HashMap<>();
+    private final Map<Long, long[]> subcategoryCounts = new HashMap<>();
+    private boolean loaded;
+
+    private volatile List<NavigationCategoryDto> rendered;
+
+    public synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    public synchronized void replaceAll(List<NavigationCategoryRow> categoryRows, List<NavigationSubcategoryRow> subcategoryRows,
+                                        List<PlacementCountRow> blogCounts, List<PlacementCountRow> serviceCounts) {
+        categories.clear();
+        subcategories.clear();
+        categoryCounts.clear();
+        subcategoryCounts.clear();
+        categoryRows.forEach(row -> categories.put(row.id(), row));
+        subcategoryRows.forEach(row -> subcategories.put(row.id(), row));
+        blogCounts.forEach(row -> add(Content.BLOG, new Placement(row.categoryId(), row.subcategoryId()), row.count()));
+        serviceCounts.forEach(row -> add(Content.SERVICE, new Placement(row.categoryId(), row.subcategoryId()), row.count()));
+        loaded = true;
+        rendered = null;
+    }
+
+    public List<NavigationCategoryDto> tree() {
+        List<NavigationCategoryDto> tree = rendered;
+        if (tree != null) return tree;
+        synchronized (this) {
+            if (rendered == null) rendered = render();
+            return rendered;
+        }
+    }
+
+    public void moved(Content content, Placement before, Placement after) {
+        if (Objects.equals(before, after)) return;
+        afterCommit(() -> {
+            synchronized (this) {
+                if (before != null) add(content, before, -1);
+                if (after != null) add(content, after, 1);
+                rendered = null;
+            }
+        });
+    }
+
+    /**
+     * row is null when the category is no longer publicly visible (hidden or soft deleted)
+     */
+    public void categoryChanged(Long categoryId, NavigationCategoryRow row) {
+        afterCommit(() -> {
+            synchronized (this) {
+                if (row != null) categories.put(categoryId, row);
+                else categories.remove(categoryId);
+                rendered = null;
+            }
+        });
+    }
+
+    /**
+     * row is null when the subcategory is no longer publicly visible (hidden or soft deleted)
+     */
+    public void subcategoryChanged(Long subcategoryId, NavigationSubcategoryRow row) {
+        afterCommit(() -> {
+            synchronized (this) {
+                if (row != null) subcategories.put(subcategoryId, row);
+                else subcategories.remove(subcategoryId);
+                rendered = null;
+            }
+        });
+    }
+
+    public synchronized Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("loaded", loaded);
+        metrics.put("categories", categories.size());
+        metrics.put("subcategories", subcategories.size());
+        return metrics;
+    }
+
+    // ---- helpers, callers hold the monitor ----
+
+    private void add(Content content, Placement placement, long delta) {
+        int slot = content.ordinal();
+        if (placement.categoryId() != null) categoryCounts.computeIfAbsent(placement.categoryId(), id -> new long[2])[slot] += delta;
+        if (placement.subcategoryId() != null) subcategoryCounts.computeIfAbsent(placement.subcategoryId(), id -> new long[2])[slot] += delta;
+    }
+
+    private List<NavigationCategoryDto> render() {
+        Map<Long, List<NavigationSubcategoryDto>> children = new HashMap<>();
+        for (NavigationSubcategoryRow sub : subcategories.values()) {
+            long[] counts = subcategoryCounts.getOrDefault(sub.id(), new long[2]);
+            children.computeIfAbsent(sub.categoryId(), id -> new ArrayList<>())
+                    .add(new NavigationSubcategoryDto(sub.id(), sub.name(), sub.slug(), counts[0], counts[1]));
+        }
+
+        List<NavigationCategoryDto> tree = new ArrayList<>(categories.size());
+        for (NavigationCategoryRow category : categories.values()) {
+            long[] counts = categoryCounts.getOrDefault(category.id(), new long[2]);
+            List<NavigationSubcategoryDto> subs = children.getOrDefault(category.id(), new ArrayList<>());
+            subs.sort(Comparator.comparing(NavigationSubcategoryDto::getName, String.CASE_INSENSITIVE_ORDER));
+            tree.add(new NavigationCategoryDto(category.id(), category.name(), category.slug(), category.icon(),
+                    counts[0], counts[1], List.copyOf(subs)));
+        }
+        tree.sort(Comparator.comparing(NavigationCategoryDto::getName, String.CASE_INSENSITIVE_ORDER));
+        return List.copyOf(tree);
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,26 @@
+// src/main/java/com/epr/cache/PublicBlog.java
+package com.epr.cache;
+
+import com.epr.dto.customer.BlogCardDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One publicly visible blog as held by {@link PublicBlogCatalogue}.
+ * Carries the raw fields the catalogue sorts and indexes on, next to the ready-to-serve card.
+ */
+public record PublicBlog(BlogCardDto card,
+                         LocalDateTime postDate,
+                         int showHomeStatus,
+                         String searchKeyword,
+                         List<Long> serviceIds) {
+
+    public PublicBlog {
+        serviceIds = serviceIds == null ? List.of() : List.copyOf(serviceIds);
+    }
+
+    public Long id() {
+        return card.getId();
+    }
+}
@@ -0,0 +1,267 @@
+// src/main/java/com/epr/cache/PublicBlogCatalogue.java
+package com.epr.cache;
+
+import com.epr.dto.customer.BlogCardDto;
+import com.epr.dto.customer.CursorPage;
+import com.epr.event.BlogChangedEvent;
+import com.epr.event.VisitsFlushedEvent;
+import com.epr.util.KeysetCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * Immutable, versioned in-memory copy of every public blog (deleteStatus = 2, displayStatus = 1).
+ * Only list cards are held; the description body is read from the database on the slug endpoint.
+ *
+ * Readers grab the current {@link Snapshot} without locking. Writers (initial load and the
+ * after-commit {@link BlogChangedEvent} listener) build a new snapshot from the previous one
+ * and swap it in, so a reader never sees a half-applied change.
+ *
+ * A full load reads the database outside the lock, so a blog write committing meanwhile may be
+ * missing from its rows. Loads therefore start with {@link #beginLoad}, and every change applied
+ * after that is replayed over the loaded rows before they are swapped in.
+ *
+ * The visit count is the one card field updated in place: flushed views are added to the shared
+ * card, so the catalogue and everything built from its cards show them without a new snapshot.
+ */
+@Component
+public class PublicBlogCatalogue {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicBlogCatalogue.class);
+
+    private static final Comparator<PublicBlog> NEWEST_FIRST = Comparator
+            .comparing(PublicBlog::postDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(PublicBlog::id, Comparator.reverseOrder());
+
+    // null until the first full load has completed
+    private volatile Snapshot snapshot;
+
+    private record Change(long seq, Long blogId, PublicBlog blog) {
+    }
+
+    // guarded by this; changes are kept while any load is running
+    private long changeSeq;
+    private int loadsRunning;
+    private final List<Change> changesDuringLoad = new ArrayList<>();
+
+    public Optional<Snapshot> snapshot() {
+        return Optional.ofNullable(snapshot);
+    }
+
+    /**
+     * Call before reading the rows for {@link #replaceAll}; the returned mark is passed to it, or
+     * to {@link #abandonLoad} if the read fails
+     */
+    public synchronized long beginLoad() {
+        loadsRunning++;
+        return changeSeq;
+    }
+
+    public synchronized void abandonLoad() {
+        endLoad();
+    }
+
+    /**
+     * Installs the loaded blogs with every change since loadMark applied over them
+     */
+    public synchronized void replaceAll(long loadMark, Collection<PublicBlog> blogs) {
+        Map<Long, PublicBlog> byId = new HashMap<>();
+        for (PublicBlog blog : blogs) byId.put(blog.id(), blog);
+        int replayed = 0;
+        for (Change change : changesDuringLoad) {
+            if (change.seq() <= loadMark) continue;
+            if (change.blog() != null) byId.put(change.blogId(), change.blog());
+            else byId.remove(change.blogId());
+            replayed++;
+        }
+        endLoad();
+
+        long version = snapshot != null ? snapshot.version + 1 : 1;
+        snapshot = new Snapshot(version, byId.values());
+        log.info("Public blog catalogue loaded: {} blogs (version {}, {} changes replayed)", byId.size(), version, replayed);
+    }
+
+    public synchronized void upsert(PublicBlog blog) {
+        record(blog.id(), blog);
+        if (snapshot == null) return; // not loaded yet, the running or next full load picks it up
+        Map<Long, PublicBlog> byId = new HashMap<>(snapshot.byId);
+        byId.put(blog.id(), blog);
+        snapshot = new Snapshot(snapshot.version + 1, byId.values());
+    }
+
+    public synchronized void remove(Long blogId) {
+        record(blogId, null);
+        if (snapshot == null || !snapshot.byId.containsKey(blogId)) return;
+        Map<Long, PublicBlog> byId = new HashMap<>(snapshot.byId);
+        byId.remove(blogId);
+        snapshot = new Snapshot(snapshot.version + 1, byId.values());
+    }
+
+    // callers hold the lock
+    private void record(Long blogId, PublicBlog blog) {
+        changeSeq++;
+        if (loadsRunning > 0) changesDuringLoad.add(new Change(changeSeq, blogId, blog));
+    }
+
+    // callers hold the lock
+    private void endLoad() {
+        if (loadsRunning > 0) loadsRunning--;
+        if (loadsRunning == 0) changesDuringLoad.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogChanged(BlogChangedEvent event) {
+        if (event.publicBlog() != null) {
+            upsert(event.publicBlog());
+        } else {
+            remove(event.blogId());
+        }
+    }
+
+    // Not replayed: a load reading its rows around a flush may or may not see those views already
+    @EventListener
+    public synchronized void onVisitsFlushed(VisitsFlushedEvent event) {
+        if (event.target() != VisitCounterBuffer.Target.BLOG || snapshot == null) return;
+        event.deltas().forEach((blogId, delta) -> snapshot.card(blogId).ifPresent(card ->
+                card.setVisited((card.getVisited() != null ? card.getVisited() : 0) + delta)));
+    }
+
+    public static final class Snapshot {
+
+        private final long version;
+        private final Map<Long, PublicBlog> byId;
+        private final List<BlogCardDto> all;
+        private final Map<String, BlogCardDto> bySlug;
+        private final Map<Long, List<BlogCardDto>> byCategory;
+        private final Map<Long, List<BlogCardDto>> bySubcategory;
+        private final Map<Long, List<BlogCardDto>> byService;
+        private final Map<Integer, List<BlogCardDto>> byShowHomeStatus;
+
+        private Snapshot(long version, Collection<PublicBlog> blogs) {
+            List<PublicBlog> sorted = new ArrayList<>(blogs);
+            sorted.sort(NEWEST_FIRST);
+
+            Map<Long, PublicBlog> ids = new HashMap<>();
+            Map<String, BlogCardDto> slugs = new HashMap<>();
+            Map<Long, List<BlogCardDto>> categories = new HashMap<>();
+            Map<Long, List<BlogCardDto>> subcategories = new HashMap<>();
+            Map<Long, List<BlogCardDto>> services = new HashMap<>();
+            Map<Integer, List<BlogCardDto>> showHome = new HashMap<>();
+            List<BlogCardDto> dtos = new ArrayList<>(sorted.size());
+
+            // Walking the sorted list keeps every index list in postDate DESC order as well
+            for (PublicBlog b : sorted) {
+                BlogCardDto dto = b.card();
+                dtos.add(dto);
+                ids.put(b.id(), b);
+                slugs.put(dto.getSlug().toLowerCase(), dto);
+                addTo(categories, dto.getCategoryId(), dto);
+                addTo(subcategories, dto.getSubcategoryId(), dto);
+                for (Long serviceId : b.serviceIds()) addTo(services, serviceId, dto);
+                showHome.computeIfAbsent(b.showHomeStatus(), k -> new ArrayList<>()).add(dto);
+            }
+
+            this.version = version;
+            this.byId = Collections.unmodifiableMap(ids);
+            this.all = Collections.unmodifiableList(dtos);
+            this.bySlug = Collections.unmodifiableMap(slugs);
+            this.byCategory = freeze(categories);
+            this.bySubcategory = freeze(subcategories);
+            this.byService = freeze(services);
+            this.byShowHomeStatus = freeze(showHome);
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public int size() {
+            return all.size();
+        }
+
+        public List<BlogCardDto> all() {
+            return all;
+        }
+
+        public List<BlogCardDto> latest(int limit) {
+            return all.subList(0, Math.min(Math.max(limit, 0), all.size()));
+        }
+
+        // Newest first
+        public List<PublicBlog> blogs() {
+            return all.stream().map(dto -> byId.get(dto.getId())).toList();
+        }
+
+        public Optional<PublicBlog> blog(Long id) {
+            return Optional.ofNullable(byId.get(id));
+        }
+
+        public Optional<BlogCardDto> card(Long id) {
+            return Optional.ofNullable(byId.get(id)).map(PublicBlog::card);
+        }
+
+        public Optional<BlogCardDto> bySlug(String slug) {
+            return slug == null ? Optional.empty() : Optional.ofNullable(bySlug.get(slug.toLowerCase()));
+        }
+
+        public List<BlogCardDto> byCategory(Long categoryId) {
+            return byCategory.getOrDefault(categoryId, List.of());
+        }
+
+        public List<BlogCardDto> bySubcategory(Long subcategoryId) {
+            return bySubcategory.getOrDefault(subcategoryId, List.of());
+        }
+
+        public List<BlogCardDto> byService(Long serviceId) {
+            return byService.getOrDefault(serviceId, List.of());
+        }
+
+        public List<BlogCardDto> byShowHomeStatus(int showHomeStatus) {
+            return byShowHomeStatus.getOrDefault(showHomeStatus, List.of());
+        }
+
+        /**
+         * Keyset page over one of this snapshot's listings (all of them are newest first).
+         * The start position is found by binary search, so deep pages cost the same as the first.
+         */
+        public CursorPage<BlogCardDto> page(List<BlogCardDto> listing, KeysetCursor after, int size) {
+            int from = after == null ? 0 : firstIndexAfter(listing, after);
+            int to = Math.min(from + size, listing.size());
+            List<BlogCardDto> items = listing.subList(from, to);
+
+            String nextCursor = null;
+            if (to < listing.size() && !items.isEmpty()) {
+                PublicBlog last = byId.get(items.get(items.size() - 1).getId());
+                nextCursor = new KeysetCursor(last.postDate(), last.id()).encode();
+            }
+            return new CursorPage<>(items, nextCursor);
+        }
+
+        private int firstIndexAfter(List<BlogCardDto> listing, KeysetCursor after) {
+            int lo = 0;
+            int hi = listing.size();
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                PublicBlog b = byId.get(listing.get(mid).getId());
+                if (after.precedes(b.postDate(), b.id())) hi = mid;
+                else lo = mid + 1;
+            }
+            return lo;
+        }
+
+        private static <K> void addTo(Map<K, List<BlogCardDto>> index, K key, BlogCardDto dto) {
+            if (key != null) index.computeIfAbsent(key, k -> new ArrayList<>()).add(dto);
+        }
+
+        private static <K> Map<K, List<BlogCardDto>> freeze(Map<K, List<BlogCardDto>> index) {
+            Map<K, List<BlogCardDto>> frozen = new HashMap<>(index.size());
+            index.forEach((k, v) -> frozen.put(k, Collections.unmodifiableList(v)));
+            return Collections.unmodifiableMap(frozen);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+// src/main/java/com/epr/cache/ResponseByteCache.java
+package com.epr.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Already-encoded public responses (identity and gzip bytes) keyed by route and query string,
+ * least recently used evicted first, bounded by entry count and total bytes.
+ *
+ * Entries carry the content tags the request collected through {@link ResponseCacheContext}.
+ * Write methods call {@link #invalidate} with the tags they touched: right away and once more after
+ * commit. Each invalidation advances a generation, and a response rendered before it is not stored.
+ * With app.response-cache.off-heap=true the bodies live in direct buffers outside the Java heap.
+ */
+@Component
+public class ResponseByteCache {
+
+    // Collection tags: any write to the collection can change every list of it
+    public static final String BLOGS = "blogs";
+    public static final String SERVICES = "services";
+    // Related-content responses; invalidated when the background graph refresh has applied a change
+    public static final String RELATED = "related";
+
+    public static String blog(Long id) {
+        return "blog:" + id;
+    }
+
+    public static String service(Long id) {
+        return "service:" + id;
+    }
+
+    public static String category(Long id) {
+        return "category:" + id;
+    }
+
+    // Bodies below this size are not worth a gzip copy
+    private static final int MIN_GZIP_BYTES = 512;
+
+    /**
+     * conditional: the original response carried an ETag, so hits must answer If-None-Match as well
+     */
+    public record Entry(int status, String contentType, Map<String, List<String>> headers, boolean conditional,
+                        Body identity, Body gzip, Set<String> tags, List<ResponseCacheContext.Visit> visits) {
+
+        long bytes() {
+            return identity.length() + (gzip != null ? gzip.length() : 0);
+        }
+    }
+
+    /**
+     * An encoded body, on the heap or in a direct buffer.
+     */
+    public static final class Body {
+
+        private final byte[] heap;
+        private final ByteBuffer direct;
+
+        private Body(byte[] bytes, boolean offHeap) {
+            if (offHeap) {
+                this.heap = null;
+                this.direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().asReadOnlyBuffer();
+            } else {
+                this.heap = bytes;
+                this.direct = null;
+            }
+        }
+
+        public int length() {
+            return heap != null ? heap.length : direct.capacity();
+        }
+
+        public void writeTo(OutputStream out) throws IOException {
+            if (heap != null) {
+                out.write(heap);
+                return;
+            }
+            // Servlet streams only take arrays, so direct bodies go out through a small chunk buffer
+            ByteBuffer source = direct.duplicate();
+            byte[] chunk = new byte[Math.min(8192, source.remaining())];
+            while (source.hasRemaining()) {
+                int n = Math.min(chunk.length, source.remaining());
+                source.get(chunk, 0, n);
+                out.write(chunk, 0, n);
+            }
+        }
+    }
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final boolean offHeap;
+
+    // guarded by this
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, Set<String>> keysByTag = new HashMap<>();
+    private long totalBytes;
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ResponseByteCache(@Value("${app.response-cache.max-entries:256}") int maxEntries,
+                             @Value("${app.response-cache.max-size:64MB}") DataSize maxSize,
+                             @Value("${app.response-cache.off-heap:false}") boolean offHeap) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxSize.toBytes();
+        this.offHeap = offHeap;
+    }
+
+    public Entry newEntry(int status, String contentType, Map<String, List<String>> headers, boolean conditional,
+                          byte[] body, Set<String> tags, List<ResponseCacheContext.Visit> visits) {
+        Body gzip = body.length >= MIN_GZIP_BYTES ? new Body(gzip(body), offHeap) : null;
+        return new Entry(status, contentType, Map.copyOf(headers), conditional, new Body(body, offHeap), gzip,
+                Set.copyOf(tags), List.copyOf(visits));
+    }
+
+    public synchronized Optional<Entry> get(String key) {
+        Entry entry = entries.get(key);
+        (entry != null ? hits : misses).incrementAndGet();
+        return Optional.ofNullable(entry);
+    }
+
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Stores a response rendered after {@link #generation()} returned {@code seenGeneration};
+     * ignored if anything was invalidated in between, or if it is bigger than the whole cache
+     */
+    public synchronized void put(String key, Entry entry, long seenGeneration) {
+        if (seenGeneration != generation || entry.bytes() > maxBytes) return;
+        remove(key);
+        entries.put(key, entry);
+        totalBytes += entry.bytes();
+        for (String tag : entry.tags()) keysByTag.computeIfAbsent(tag, t -> new HashSet<>()).add(key);
+
+        while (entries.size() > maxEntries || totalBytes > maxBytes) {
+            String eldest = entries.keySet().iterator().next();
+            if (eldest.equals(key)) break; // only the new entry is left
+            remove(eldest);
+            evictions.incrementAndGet();
+        }
+    }
+
+    public void invalidate(String... tags) {
+        invalidateNow(tags);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidateNow(tags);
+            }
+        });
+    }
+
+    public synchronized Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("entries", entries.size());
+        metrics.put("bytes", totalBytes);
+        metrics.put("offHeap", offHeap);
+        metrics.put("hits", hits.get());
+        metrics.put("misses", misses.get());
+        metrics.put("invalidations", invalidations.get());
+        metrics.put("evictions", evictions.get());
+        return metrics;
+    }
+
+    private synchronized void invalidateNow(String... tags) {
+        generation++;
+        for (String tag : tags) {
+            Set<String> keys = keysByTag.get(tag);
+            if (keys == null) continue;
+            for (String key : new ArrayList<>(keys)) remove(key);
+        }
+        invalidations.incrementAndGet();
+    }
+
+    // ---- helpers, callers hold the monitor ----
+
+    private void remove(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) unlink(key, removed);
+    }
+
+    private void unlink(String key, Entry entry) {
+        totalBytes -= entry.bytes();
+        for (String tag : entry.tags()) {
+            Set<String> keys = keysByTag.get(tag);
+            if (keys == null) continue;
+            keys.remove(key);
+            if (keys.isEmpty()) keysByTag.remove(tag);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,78 @@
+// src/main/java/com/epr/cache/ResponseCacheContext.java
+package com.epr.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.util.*;
+
+/**
+ * What a cacheable public response was built from, collected while the request runs.
+ *
+ * Service-layer reads call {@link #tag} with the content they served (see {@link ResponseByteCache}
+ * for the tag names), and {@link VisitCounterBuffer} records the views it counted so a cached copy
+ * can count them again. Outside a request opened by the response cache filter both calls do nothing.
+ *
+ * A response written while it is produced (see {@link #unbuffered}) is never stored, so it can go
+ * straight to the client instead of through the filter's buffer.
+ */
+public final class ResponseCacheContext {
+
+    private static final String ATTRIBUTE = ResponseCacheContext.class.getName();
+
+    public record Visit(VisitCounterBuffer.Target target, Long id) {
+    }
+
+    private final Set<String> tags = new LinkedHashSet<>();
+    private final List<Visit> visits = new ArrayList<>();
+    private boolean streamed;
+
+    private ResponseCacheContext() {
+    }
+
+    public static ResponseCacheContext open(HttpServletRequest request) {
+        ResponseCacheContext context = new ResponseCacheContext();
+        request.setAttribute(ATTRIBUTE, context);
+        return context;
+    }
+
+    public static void tag(String... tags) {
+        current().ifPresent(context -> Collections.addAll(context.tags, tags));
+    }
+
+    public static void visit(VisitCounterBuffer.Target target, Long id) {
+        current().ifPresent(context -> context.visits.add(new Visit(target, id)));
+    }
+
+    /**
+     * The response to stream a body to: the one under the cache filter's buffer when there is one,
+     * with this response marked as not to be stored
+     */
+    public static HttpServletResponse unbuffered(HttpServletResponse response) {
+        current().ifPresent(context -> context.streamed = true);
+        ContentCachingResponseWrapper buffer = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        return buffer != null ? (HttpServletResponse) buffer.getResponse() : response;
+    }
+
+    public boolean streamed() {
+        return streamed;
+    }
+
+    public Set<String> tags() {
+        return tags;
+    }
+
+    public List<Visit> visits() {
+        return visits;
+    }
+
+    private static Optional<ResponseCacheContext> current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) return Optional.empty();
+        return Optional.ofNullable((ResponseCacheContext) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+}
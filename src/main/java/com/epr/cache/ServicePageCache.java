@@ -0,0 +1,106 @@
+// src/main/java/com/epr/cache/ServicePageCache.java
+package com.epr.cache;
+
+import com.epr.dto.customer.ServicePageDto;
+import com.epr.event.TaxonomyChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Assembled public service pages by slug, least recently used evicted first.
+ *
+ * Writes to a service, its sections or its FAQs call {@link #evict(Long)}. A page is dropped right
+ * away and once more after the write commits. Every eviction also advances a generation. A reader
+ * passes the generation it saw before loading to {@link #put}, so a page read from pre-commit data
+ * is never stored over the eviction.
+ */
+@Component
+public class ServicePageCache {
+
+    private final int maxEntries;
+
+    // guarded by this
+    private final LinkedHashMap<String, ServicePageDto> bySlug;
+    private final Map<Long, String> slugById = new HashMap<>();
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ServicePageCache(@Value("${app.service-page.cache-size:500}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.bySlug = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public synchronized Optional<ServicePageDto> get(String slug) {
+        ServicePageDto page = bySlug.get(slug);
+        (page != null ? hits : misses).incrementAndGet();
+        return Optional.ofNullable(page);
+    }
+
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Stores a page loaded after {@link #generation()} returned {@code seenGeneration}; ignored if
+     * anything was evicted in between
+     */
+    public synchronized void put(String slug, ServicePageDto page, long seenGeneration) {
+        if (seenGeneration != generation) return;
+        bySlug.put(slug, page);
+        slugById.put(page.getService().getId(), slug);
+        if (bySlug.size() > maxEntries) {
+            String eldest = bySlug.keySet().iterator().next();
+            ServicePageDto dropped = bySlug.remove(eldest);
+            slugById.remove(dropped.getService().getId());
+        }
+    }
+
+    public void evict(Long serviceId) {
+        if (serviceId == null) return;
+        evictNow(serviceId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evictNow(serviceId);
+            }
+        });
+    }
+
+    // Pages carry category and subcategory names
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaxonomyChanged(TaxonomyChangedEvent event) {
+        generation++;
+        bySlug.clear();
+        slugById.clear();
+        evictions.incrementAndGet();
+    }
+
+    public synchronized Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("entries", bySlug.size());
+        metrics.put("hits", hits.get());
+        metrics.put("misses", misses.get());
+        metrics.put("evictions", evictions.get());
+        return metrics;
+    }
+
+    private synchronized void evictNow(Long serviceId) {
+        generation++;
+        String slug = slugById.remove(serviceId);
+        if (slug != null) bySlug.remove(slug);
+        evictions.incrementAndGet();
+    }
+}
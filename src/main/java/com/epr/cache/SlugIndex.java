@@ -0,0 +1,195 @@
+// src/main/java/com/epr/cache/SlugIndex.java
+package com.epr.cache;
+
+import com.epr.entity.SlugHistory.ContentType;
+import com.epr.event.BlogChangedEvent;
+import com.epr.event.ServiceChangedEvent;
+import com.epr.repository.projection.SlugRow;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Slug resolution for the public blog and service endpoints, held in memory: the live slug of every
+ * publicly visible blog and service, and the slugs they were renamed away from (slug_history).
+ *
+ * A lookup never goes to the database: a live slug gives the id, a renamed slug gives the current
+ * slug to redirect to, and anything else is unknown. Loaded by BlogServiceImpl / ServiceServiceImpl,
+ * kept current from their after-commit change events and {@link #moved} on renames.
+ *
+ * A full load reads its rows outside the lock, so loads start with {@link #beginLoad} and every
+ * change applied to that content type after it is replayed over the loaded table before the swap.
+ */
+@Component
+public class SlugIndex {
+
+    private static final class Table {
+        final Map<String, Long> live = new HashMap<>();
+        final Map<Long, String> slugs = new HashMap<>();
+        final Map<String, Long> history = new HashMap<>();
+        boolean loaded;
+
+        void publish(Long id, String slug) {
+            String previous = slugs.put(id, slug);
+            if (previous != null && !previous.equals(slug)) live.remove(previous, id);
+            live.put(slug, id);
+        }
+
+        void unpublish(Long id) {
+            String previous = slugs.remove(id);
+            if (previous != null) live.remove(previous, id);
+        }
+    }
+
+    private record Change(long seq, ContentType type, Consumer<Table> apply) {
+    }
+
+    // guarded by this; changes are kept while any load of their content type is running
+    private final Map<ContentType, Table> tables = new EnumMap<>(ContentType.class);
+    private final Map<ContentType, Integer> loadsRunning = new EnumMap<>(ContentType.class);
+    private final List<Change> changesDuringLoad = new ArrayList<>();
+    private long changeSeq;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong redirects = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public SlugIndex() {
+        for (ContentType type : ContentType.values()) {
+            tables.put(type, new Table());
+            loadsRunning.put(type, 0);
+        }
+    }
+
+    public synchronized boolean isLoaded(ContentType type) {
+        return tables.get(type).loaded;
+    }
+
+    /**
+     * Call before reading the rows for {@link #replaceAll}; the returned mark is passed to it, or
+     * to {@link #abandonLoad} if the read fails
+     */
+    public synchronized long beginLoad(ContentType type) {
+        loadsRunning.merge(type, 1, Integer::sum);
+        return changeSeq;
+    }
+
+    public synchronized void abandonLoad(ContentType type) {
+        endLoad(type);
+    }
+
+    /**
+     * Installs the loaded slugs with every change to the content type since loadMark applied over them
+     */
+    public synchronized void replaceAll(ContentType type, long loadMark, List<SlugRow> live, List<SlugRow> history) {
+        Table table = new Table();
+        live.forEach(row -> table.publish(row.id(), key(row.slug())));
+        history.forEach(row -> table.history.put(key(row.slug()), row.id()));
+        for (Change change : changesDuringLoad) {
+            if (change.type() == type && change.seq() > loadMark) change.apply().accept(table);
+        }
+        endLoad(type);
+        table.loaded = true;
+        tables.put(type, table);
+    }
+
+    /**
+     * Id of the publicly visible blog or service currently published under slug
+     */
+    public synchronized Optional<Long> find(ContentType type, String slug) {
+        Long id = tables.get(type).live.get(key(slug));
+        if (id != null) hits.incrementAndGet();
+        return Optional.ofNullable(id);
+    }
+
+    /**
+     * Current slug for a slug the content was renamed away from; empty if the slug is unknown or
+     * the content is no longer public
+     */
+    public synchronized Optional<String> movedTo(ContentType type, String slug) {
+        Table table = tables.get(type);
+        Long id = table.history.get(key(slug));
+        String current = id != null ? table.slugs.get(id) : null;
+        (current != null ? redirects : misses).incrementAndGet();
+        return Optional.ofNullable(current);
+    }
+
+    /**
+     * Called by the write that renames (oldSlug -> newSlug) or creates (oldSlug null) the content;
+     * applied once the write commits
+     */
+    public void moved(ContentType type, Long id, String oldSlug, String newSlug) {
+        afterCommit(() -> apply(type, table -> {
+            table.history.remove(key(newSlug));
+            if (oldSlug != null && !key(oldSlug).equals(key(newSlug))) table.history.put(key(oldSlug), id);
+        }));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogChanged(BlogChangedEvent event) {
+        if (event.publicBlog() != null) {
+            String slug = key(event.publicBlog().card().getSlug());
+            apply(ContentType.BLOG, table -> table.publish(event.blogId(), slug));
+        } else {
+            apply(ContentType.BLOG, table -> table.unpublish(event.blogId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceChanged(ServiceChangedEvent event) {
+        if (event.searchDocument() != null) {
+            String slug = key(event.searchDocument().payload().getSlug());
+            apply(ContentType.SERVICE, table -> table.publish(event.serviceId(), slug));
+        } else {
+            apply(ContentType.SERVICE, table -> table.unpublish(event.serviceId()));
+        }
+    }
+
+    public synchronized Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        tables.forEach((type, table) -> {
+            String prefix = type.name().toLowerCase(Locale.ROOT);
+            metrics.put(prefix + ".live", table.live.size());
+            metrics.put(prefix + ".history", table.history.size());
+        });
+        metrics.put("hits", hits.get());
+        metrics.put("redirects", redirects.get());
+        metrics.put("misses", misses.get());
+        return metrics;
+    }
+
+    // Patches the current table and keeps the change for any load of the type that is running
+    private synchronized void apply(ContentType type, Consumer<Table> change) {
+        changeSeq++;
+        if (loadsRunning.get(type) > 0) changesDuringLoad.add(new Change(changeSeq, type, change));
+        change.accept(tables.get(type));
+    }
+
+    // callers hold the lock
+    private void endLoad(ContentType type) {
+        if (loadsRunning.get(type) > 0) loadsRunning.merge(type, -1, Integer::sum);
+        changesDuringLoad.removeIf(change -> loadsRunning.get(change.type()) == 0);
+    }
+
+    private static String key(String slug) {
+        return slug.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
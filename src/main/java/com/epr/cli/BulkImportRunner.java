@@ -0,0 +1,79 @@
+// src/main/java/com/epr/cli/BulkImportRunner.java
+package com.epr.cli;
+
+import com.epr.dto.admin.importer.ImportReportDto;
+import com.epr.dto.admin.importer.ImportRowErrorDto;
+import com.epr.service.BulkImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command-line bulk import, for migrations too large to send through the admin endpoint:
+ *
+ * <pre>
+ * java -jar epr_web.jar --spring.main.web-application-type=none \
+ *     --app.import.file=blogs.ndjson --app.import.kind=blogs --app.import.user-id=1
+ * </pre>
+ *
+ * The format follows the file extension (.csv, anything else is NDJSON) unless app.import.format is set.
+ * Rejected rows are logged; the process exits with 0 when every row was imported and 1 otherwise.
+ */
+@Component
+@ConditionalOnProperty(name = "app.import.file")
+public class BulkImportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkImportRunner.class);
+
+    private final BulkImportService bulkImportService;
+    private final ConfigurableApplicationContext context;
+    private final Path file;
+    private final String kind;
+    private final Long userId;
+    private final String format;
+
+    public BulkImportRunner(BulkImportService bulkImportService, ConfigurableApplicationContext context,
+                            @Value("${app.import.file}") String file,
+                            @Value("${app.import.kind}") String kind,
+                            @Value("${app.import.user-id}") Long userId,
+                            @Value("${app.import.format:}") String format) {
+        this.bulkImportService = bulkImportService;
+        this.context = context;
+        this.file = Path.of(file);
+        this.kind = kind;
+        this.userId = userId;
+        this.format = format;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        BulkImportService.Format fileFormat = !format.isBlank()
+                ? BulkImportService.Format.fromName(format)
+                : file.getFileName().toString().toLowerCase().endsWith(".csv")
+                ? BulkImportService.Format.CSV
+                : BulkImportService.Format.NDJSON;
+
+        ImportReportDto report;
+        try (InputStream in = Files.newInputStream(file)) {
+            report = bulkImportService.importRows(BulkImportService.Kind.fromPath(kind), fileFormat, in, userId);
+        }
+        for (ImportRowErrorDto error : report.getErrors()) {
+            log.warn("Row {} ({}): {}", error.getRow(), error.getKey(), error.getMessage());
+        }
+        log.info("Imported {} of {} {} rows from {}", report.getImported(), report.getReceived(), report.getKind(), file);
+
+        int exitCode = report.getFailed() == 0 ? 0 : 1;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+}
@@ -0,0 +1,36 @@
+// src/main/java/com/epr/config/CatalogueConditionalGetInterceptor.java
+package com.epr.config;
+
+import com.epr.cache.CatalogueVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Adds ETag, Last-Modified and Cache-Control to public catalogue GETs and answers
+ * If-None-Match / If-Modified-Since with 304 before the controller (and any repository) runs.
+ */
+public class CatalogueConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final CatalogueVersion catalogueVersion;
+    private final String cacheControl;
+
+    public CatalogueConditionalGetInterceptor(CatalogueVersion catalogueVersion, CacheControl cacheControl) {
+        this.catalogueVersion = catalogueVersion;
+        this.cacheControl = cacheControl.getHeaderValue();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) return true;
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        // checkNotModified also writes ETag and Last-Modified on the full response
+        boolean notModified = new ServletWebRequest(request, response)
+                .checkNotModified(catalogueVersion.etag(), catalogueVersion.lastModified());
+        return !notModified;
+    }
+}
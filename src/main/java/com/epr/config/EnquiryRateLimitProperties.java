@@ -0,0 +1,40 @@
+// src/main/java/com/epr/config/EnquiryRateLimitProperties.java
+package com.epr.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Token buckets for POST /api/enquiries (app.enquiry-rate-limit.*): one per client IP and one per
+ * normalized email / mobile. burst is the bucket size, perMinute the refill rate.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.enquiry-rate-limit")
+public class EnquiryRateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Buckets kept per key kind; the least recently used go first beyond this
+    private int maxEntries = 100_000;
+
+    private int stripes = 32;
+
+    private Limit ip = new Limit(10, 6);
+
+    private Limit contact = new Limit(3, 1);
+
+    @Data
+    public static class Limit {
+
+        private int burst;
+        private double perMinute;
+
+        public Limit() {
+        }
+
+        public Limit(int burst, double perMinute) {
+            this.burst = burst;
+            this.perMinute = perMinute;
+        }
+    }
+}
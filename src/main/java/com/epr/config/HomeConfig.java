@@ -0,0 +1,35 @@
+// src/main/java/com/epr/config/HomeConfig.java
+package com.epr.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class HomeConfig {
+
+    /**
+     * Loads the pieces of the home page in parallel when the cached page is out of date.
+     * Same shape as the search executor: bounded queue, the caller runs the piece when it is full.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService homeExecutor(@Value("${app.home.threads:5}") int threads) {
+        AtomicInteger seq = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(64),
+                r -> {
+                    Thread t = new Thread(r, "home-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
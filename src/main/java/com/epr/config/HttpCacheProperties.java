@@ -0,0 +1,35 @@
+// src/main/java/com/epr/config/HttpCacheProperties.java
+package com.epr.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conditional GET / Cache-Control policy per public endpoint group (app.http-cache.endpoints.*).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.http-cache")
+public class HttpCacheProperties {
+
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    @Data
+    public static class Endpoint {
+        // Ant-style path patterns, e.g. /blogs/**
+        private List<String> paths = new ArrayList<>();
+        private Duration maxAge = Duration.ZERO;
+        private Duration staleWhileRevalidate = Duration.ZERO;
+
+        public CacheControl toCacheControl() {
+            CacheControl cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+            return staleWhileRevalidate.isZero() ? cacheControl : cacheControl.staleWhileRevalidate(staleWhileRevalidate);
+        }
+    }
+}
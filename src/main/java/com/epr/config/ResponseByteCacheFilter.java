@@ -0,0 +1,143 @@
+// src/main/java/com/epr/config/ResponseByteCacheFilter.java
+package com.epr.config;
+
+import com.epr.cache.CatalogueVersion;
+import com.epr.cache.ResponseByteCache;
+import com.epr.cache.ResponseCacheContext;
+import com.epr.cache.VisitCounterBuffer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Serves hot public GETs from {@link ResponseByteCache}: a hit writes the stored bytes (gzip when the
+ * client accepts it) straight to the servlet output stream without reaching a controller.
+ *
+ * A miss runs normally and is stored only if it is a 200 JSON response whose service-layer reads
+ * tagged it, so anything the cache could not invalidate is never kept. Streamed listings bypass the
+ * buffer (ResponseCacheContext.unbuffered) and are never kept either. A hit still answers
+ * conditional requests from the current catalogue ETag and replays the visits the original counted.
+ */
+public class ResponseByteCacheFilter extends OncePerRequestFilter {
+
+    public static final String CACHE_STATUS_HEADER = "X-Response-Cache";
+
+    // Recomputed or per-response headers that are never replayed from a stored entry
+    private static final Set<String> NOT_STORED = Set.of(
+            "etag", "last-modified", "content-length", "content-type", "content-encoding",
+            "transfer-encoding", "set-cookie", "date", CACHE_STATUS_HEADER.toLowerCase(Locale.ROOT));
+
+    private final ResponseByteCache cache;
+    private final CatalogueVersion catalogueVersion;
+    private final VisitCounterBuffer visitCounterBuffer;
+    private final List<PathPattern> paths;
+
+    public ResponseByteCacheFilter(ResponseByteCache cache, CatalogueVersion catalogueVersion,
+                                   VisitCounterBuffer visitCounterBuffer, List<String> paths) {
+        this.cache = cache;
+        this.catalogueVersion = catalogueVersion;
+        this.visitCounterBuffer = visitCounterBuffer;
+        this.paths = paths.stream().map(PathPatternParser.defaultInstance::parse).toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) return true;
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        return paths.stream().noneMatch(pattern -> pattern.matches(path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = key(request);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        Optional<ResponseByteCache.Entry> hit = cache.get(key);
+        if (hit.isPresent()) {
+            serve(hit.get(), request, response);
+            return;
+        }
+
+        long generation = cache.generation();
+        ResponseCacheContext context = ResponseCacheContext.open(request);
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        wrapper.setHeader(CACHE_STATUS_HEADER, "MISS");
+        try {
+            chain.doFilter(request, wrapper);
+            if (isCacheable(wrapper, context)) {
+                boolean conditional = wrapper.getHeader(HttpHeaders.ETAG) != null;
+                cache.put(key, cache.newEntry(wrapper.getStatus(), wrapper.getContentType(), storedHeaders(wrapper), conditional,
+                        wrapper.getContentAsByteArray(), context.tags(), context.visits()), generation);
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void serve(ResponseByteCache.Entry entry, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        entry.headers().forEach((name, values) -> {
+            response.setHeader(name, values.get(0));
+            for (int i = 1; i < values.size(); i++) response.addHeader(name, values.get(i));
+        });
+        response.setHeader(CACHE_STATUS_HEADER, "HIT");
+
+        // Same answer the conditional GET interceptor would give, for the routes it covers
+        if (entry.conditional()
+                && new ServletWebRequest(request, response).checkNotModified(catalogueVersion.etag(), catalogueVersion.lastModified())) {
+            return;
+        }
+
+        for (ResponseCacheContext.Visit visit : entry.visits()) {
+            visitCounterBuffer.increment(visit.target(), visit.id());
+        }
+
+        boolean gzip = entry.gzip() != null && acceptsGzip(request);
+        ResponseByteCache.Body body = gzip ? entry.gzip() : entry.identity();
+        response.setStatus(entry.status());
+        response.setContentType(entry.contentType());
+        if (gzip) response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        response.setContentLength(body.length());
+        body.writeTo(response.getOutputStream());
+    }
+
+    private static boolean isCacheable(ContentCachingResponseWrapper response, ResponseCacheContext context) {
+        if (response.getStatus() != HttpServletResponse.SC_OK || context.tags().isEmpty() || context.streamed()) return false;
+        if (response.getHeader(HttpHeaders.SET_COOKIE) != null) return false;
+        String contentType = response.getContentType();
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    private static Map<String, List<String>> storedHeaders(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (NOT_STORED.contains(name.toLowerCase(Locale.ROOT))) continue;
+            headers.put(name, List.copyOf(response.getHeaders(name)));
+        }
+        return headers;
+    }
+
+    // CORS headers are only written when the request carries an Origin, so that is part of the key
+    private static String key(HttpServletRequest request) {
+        String query = request.getQueryString();
+        String origin = request.getHeader(HttpHeaders.ORIGIN) != null ? "|cors" : "";
+        return query != null ? request.getRequestURI() + "?" + query + origin : request.getRequestURI() + origin;
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return accept != null && accept.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+}
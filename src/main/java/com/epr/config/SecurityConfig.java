@@ -45,6 +45,9 @@ public class SecurityConfig {
                         // === BLOG ENDPOINTS - FULLY PUBLIC (including all sub-paths) ===
                         .requestMatchers("/blogs", "/blogs/**").permitAll()
 
+                        // === SITEMAPS ===
+                        .requestMatchers("/sitemap.xml", "/sitemaps/**").permitAll()
+
                         // Everything else requires authentication
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,29 @@
+// src/main/java/com/epr/config/SitemapProperties.java
+package com.epr.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Public site the sitemap points at (app.sitemap.*). pages maps a sitemap segment (blogs, services,
+ * categories, subcategories, authors) to its page path on that site, with {slug} as the placeholder.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.sitemap")
+public class SitemapProperties {
+
+    private String baseUrl = "http://localhost:3000";
+
+    // Protocol limit per sitemap file
+    private int urlsPerFile = 50_000;
+
+    private Map<String, String> pages = new LinkedHashMap<>(Map.of(
+            "blogs", "/blogs/{slug}",
+            "services", "/services/{slug}",
+            "categories", "/category/{slug}",
+            "subcategories", "/subcategory/{slug}",
+            "authors", "/authors/{slug}"));
+}
@@ -0,0 +1,47 @@
+// src/main/java/com/epr/config/WebConfig.java
+package com.epr.config;
+
+import com.epr.cache.CatalogueVersion;
+import com.epr.cache.ResponseByteCache;
+import com.epr.cache.VisitCounterBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties({HttpCacheProperties.class, SitemapProperties.class, EnquiryRateLimitProperties.class})
+public class WebConfig implements WebMvcConfigurer {
+
+    private final CatalogueVersion catalogueVersion;
+    private final HttpCacheProperties httpCacheProperties;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        httpCacheProperties.getEndpoints().values().stream()
+                .filter(endpoint -> !endpoint.getPaths().isEmpty())
+                .forEach(endpoint -> registry
+                        .addInterceptor(new CatalogueConditionalGetInterceptor(catalogueVersion, endpoint.toCacheControl()))
+                        .addPathPatterns(endpoint.getPaths()));
+    }
+
+    // Registered after the security filter chain, so cached responses pass the same access rules
+    @Bean
+    @ConditionalOnProperty(name = "app.response-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ResponseByteCacheFilter> responseByteCacheFilter(
+            ResponseByteCache responseByteCache, VisitCounterBuffer visitCounterBuffer,
+            @Value("${app.response-cache.paths:/blogs,/blogs/**,/services,/services/**}") List<String> paths) {
+        FilterRegistrationBean<ResponseByteCacheFilter> registration = new FilterRegistrationBean<>(
+                new ResponseByteCacheFilter(responseByteCache, catalogueVersion, visitCounterBuffer, paths));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
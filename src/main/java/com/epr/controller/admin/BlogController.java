@@ -5,6 +5,8 @@ import com.epr.dto.admin.blog.BlogRequestDto;
 import com.epr.dto.admin.blog.BlogResponseDto;
 import com.epr.error.ApiResponse;
 import com.epr.service.BlogService;
+import com.epr.util.JsonArrayWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import tools.jackson.databind.ObjectMapper;
 
 import java.util.List;
 
@@ -24,12 +27,15 @@ public class BlogController {
     @Autowired
     private BlogService blogService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Full bodies of every blog, written to the response as the rows are read
     @GetMapping
-    public ResponseEntity<List<BlogResponseDto>> getAllActiveBlogs() {
-        List<BlogResponseDto> blogs = blogService.findAllActiveBlogs();
-        return blogs.isEmpty()
-                ? new ResponseEntity<>(HttpStatus.NO_CONTENT)
-                : ResponseEntity.ok(blogs);
+    public void getAllActiveBlogs(HttpServletResponse response) {
+        JsonArrayWriter writer = new JsonArrayWriter(objectMapper, response);
+        blogService.streamAllActiveBlogs(writer);
+        writer.finish();
     }
 
     @GetMapping("/search")
@@ -0,0 +1,50 @@
+// src/main/java/com/epr/controller/admin/EnquiryBlockerController.java
+package com.epr.controller.admin;
+
+import com.epr.dto.admin.enquiry.EnquiryBlockerRequestDto;
+import com.epr.dto.admin.enquiry.EnquiryBlockerResponseDto;
+import com.epr.error.ApiResponse;
+import com.epr.service.EnquiryBlockerService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/enquiry-blockers")
+public class EnquiryBlockerController {
+
+    @Autowired
+    private EnquiryBlockerService enquiryBlockerService;
+
+    @GetMapping
+    public ResponseEntity<List<EnquiryBlockerResponseDto>> getAll() {
+        List<EnquiryBlockerResponseDto> blockers = enquiryBlockerService.findAll();
+        return blockers.isEmpty()
+                ? new ResponseEntity<>(HttpStatus.NO_CONTENT)
+                : ResponseEntity.ok(blockers);
+    }
+
+    @PostMapping
+    public ResponseEntity<?> block(@Valid @RequestBody EnquiryBlockerRequestDto dto, @RequestParam Long userId) {
+        try {
+            return new ResponseEntity<>(enquiryBlockerService.block(dto, userId), HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> unblock(@PathVariable Long id, @RequestParam Long userId) {
+        try {
+            enquiryBlockerService.unblock(id, userId);
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(e.getMessage().contains("not found") ? 404 : 400)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+}
@@ -1,20 +1,27 @@
 // src/main/java/com/epr/controller/EnquiryController.java
 package com.epr.controller.admin;
 
+import com.epr.cache.EnquiryRateLimiter;
+import com.epr.dto.admin.enquiry.EnquiryFilterDto;
 import com.epr.dto.admin.enquiry.EnquiryRequestDto;
 import com.epr.dto.admin.enquiry.EnquiryResponseDto;
+import com.epr.dto.customer.CursorPage;
 import com.epr.error.ApiResponse;
+import com.epr.service.EnquiryBlockerService;
 import com.epr.service.EnquiryService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/enquiries")
@@ -22,13 +29,42 @@ public class EnquiryController {
 
     private static final Logger log = LoggerFactory.getLogger(EnquiryController.class);
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     @Autowired
     private EnquiryService enquiryService;
 
+    @Autowired
+    private EnquiryBlockerService enquiryBlockerService;
+
+    @Autowired
+    private EnquiryRateLimiter enquiryRateLimiter;
 
+    // Accept into the local enquiry log (202) instead of writing to the database on the request (201)
+    @Value("${app.enquiry-log.enabled:false}")
+    private boolean queued;
+
+    // Keyset paged by default: newest first, next page's cursor in X-Next-Cursor, and on the first page
+    // the number of matching enquiries in X-Total-Count. The unbounded list only on an explicit ?all=true
+    // without cursor, size or filters.
     @GetMapping
-    public ResponseEntity<List<EnquiryResponseDto>> getAll() {
-        return ResponseEntity.ok(enquiryService.findAllActive());
+    public ResponseEntity<List<EnquiryResponseDto>> getAll(@ModelAttribute EnquiryFilterDto filter,
+                                                           @RequestParam(required = false) Long cursor,
+                                                           @RequestParam(required = false) Integer size,
+                                                           @RequestParam(defaultValue = "false") boolean all) {
+        if (all && cursor == null && size == null && filter.isEmpty()) {
+            return ResponseEntity.ok(enquiryService.findAllActive());
+        }
+        try {
+            CursorPage<EnquiryResponseDto> page = enquiryService.findActivePage(filter, cursor, size);
+            ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+            if (page.nextCursor() != null) ok.header(NEXT_CURSOR_HEADER, page.nextCursor());
+            if (cursor == null) ok.header(TOTAL_COUNT_HEADER, String.valueOf(enquiryService.countActive(filter)));
+            return ok.body(page.items());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @PostMapping
@@ -38,8 +74,30 @@ public class EnquiryController {
 
         try {
             String clientIp = getClientIp(request);
+
+            // In-memory checks, before any lookup or write
+            if (enquiryBlockerService.isBlocked(enquiryRequestDto.getEmail(), enquiryRequestDto.getMobile(), clientIp)) {
+                log.info("Blocked enquiry rejected from IP {}", clientIp);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.error("Enquiry not accepted", HttpStatus.FORBIDDEN.value()));
+            }
+
+            long retryAfter = enquiryRateLimiter.tryAcquire(clientIp, enquiryRequestDto.getEmail(), enquiryRequestDto.getMobile());
+            if (retryAfter > 0) {
+                log.info("Enquiry rate limit hit from IP {}", clientIp);
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                        .body(ApiResponse.error("Too many enquiries. Please try again later.",
+                                HttpStatus.TOO_MANY_REQUESTS.value()));
+            }
+
             String url = request.getRequestURI() + (request.getQueryString() != null ? "?" + request.getQueryString() : "");
 
+            if (queued) {
+                String uuid = enquiryService.submitEnquiry(enquiryRequestDto, clientIp, url);
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of("uuid", uuid));
+            }
+
             EnquiryResponseDto saved = enquiryService.createEnquiry(enquiryRequestDto, clientIp, url);
             log.info("Enquiry created successfully: {}", saved.getName());
             return new ResponseEntity<>(saved, HttpStatus.CREATED);
@@ -47,6 +105,12 @@ public class EnquiryController {
             log.error("Validation failed: {}", e.getMessage());
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            log.error("Enquiry not accepted: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .body(ApiResponse.error("We are receiving too many enquiries right now. Please try again shortly.",
+                            HttpStatus.SERVICE_UNAVAILABLE.value()));
         } catch (Exception e) {
             log.error("Unexpected error while creating enquiry", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -76,11 +140,10 @@ public class EnquiryController {
         }
     }
 
+    // The rate limiter and the IP blocklist key on this, so it must not come from a header the client
+    // sets: with server.forward-headers-strategy=native, Tomcat's RemoteIpValve reads X-Forwarded-For
+    // from the right and stops at the first hop that is not one of our proxies
     private String getClientIp(HttpServletRequest request) {
-        String xff = request.getHeader("X-Forwarded-For");
-        if (xff != null && !xff.isEmpty()) {
-            return xff.split(",")[0].trim();
-        }
         return request.getRemoteAddr();
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+// src/main/java/com/epr/controller/admin/ImportController.java
+package com.epr.controller.admin;
+
+import com.epr.dto.admin.importer.ImportReportDto;
+import com.epr.error.ApiResponse;
+import com.epr.service.BulkImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/import")
+public class ImportController {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportController.class);
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    /**
+     * Bulk import of blogs, services, blog-faqs or service-faqs. The body is NDJSON (one object per line)
+     * or CSV with a header row; the format comes from ?format= or else the Content-Type (text/csv).
+     * Answers with the per-row report; rejected rows do not fail the request.
+     */
+    @PostMapping("/{kind}")
+    public ResponseEntity<?> importRows(@PathVariable String kind,
+                                        @RequestParam Long userId,
+                                        @RequestParam(required = false) String format,
+                                        HttpServletRequest request) {
+        try {
+            BulkImportService.Format bodyFormat = format != null
+                    ? BulkImportService.Format.fromName(format)
+                    : formatOf(request.getContentType());
+            ImportReportDto report = bulkImportService.importRows(BulkImportService.Kind.fromPath(kind), bodyFormat,
+                    request.getInputStream(), userId);
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        } catch (IOException e) {
+            log.warn("Bulk import body could not be read", e);
+            return ResponseEntity.badRequest().body(ApiResponse.error("Failed to read import body"));
+        } catch (Exception e) {
+            log.error("Unexpected error in bulk import", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to import", 500));
+        }
+    }
+
+    private static BulkImportService.Format formatOf(String contentType) {
+        return contentType != null && contentType.toLowerCase().contains("csv")
+                ? BulkImportService.Format.CSV
+                : BulkImportService.Format.NDJSON;
+    }
+}
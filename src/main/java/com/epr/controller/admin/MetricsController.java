@@ -0,0 +1,88 @@
+// src/main/java/com/epr/controller/admin/MetricsController.java
+package com.epr.controller.admin;
+
+import com.epr.cache.ContactKeyIndex;
+import com.epr.cache.EnquiryBlocklist;
+import com.epr.cache.EnquiryRateLimiter;
+import com.epr.cache.ResponseByteCache;
+import com.epr.cache.ServicePageCache;
+import com.epr.cache.SlugIndex;
+import com.epr.cache.VisitCounterBuffer;
+import com.epr.ingest.EnquiryLogWriter;
+import com.epr.search.PublicSearchIndex;
+import com.epr.service.HomeService;
+import com.epr.service.NavigationService;
+import com.epr.service.RelatedContentService;
+import com.epr.service.SitemapService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    @Autowired
+    private VisitCounterBuffer visitCounterBuffer;
+
+    @Autowired
+    private PublicSearchIndex publicSearchIndex;
+
+    @Autowired
+    private RelatedContentService relatedContentService;
+
+    @Autowired
+    private ServicePageCache servicePageCache;
+
+    @Autowired
+    private ResponseByteCache responseByteCache;
+
+    @Autowired
+    private NavigationService navigationService;
+
+    @Autowired
+    private HomeService homeService;
+
+    @Autowired
+    private SitemapService sitemapService;
+
+    @Autowired
+    private SlugIndex slugIndex;
+
+    @Autowired
+    private EnquiryLogWriter enquiryLogWriter;
+
+    @Autowired
+    private ContactKeyIndex contactKeyIndex;
+
+    @Autowired
+    private EnquiryBlocklist enquiryBlocklist;
+
+    @Autowired
+    private EnquiryRateLimiter enquiryRateLimiter;
+
+    // GET: In-memory counters of the write-behind / caching components
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("visits", visitCounterBuffer.metrics());
+        metrics.put("search", publicSearchIndex.metrics());
+        metrics.put("related", relatedContentService.metrics());
+        metrics.put("servicePages", servicePageCache.metrics());
+        metrics.put("responseCache", responseByteCache.metrics());
+        metrics.put("navigation", navigationService.metrics());
+        metrics.put("home", homeService.metrics());
+        metrics.put("sitemap", sitemapService.metrics());
+        metrics.put("slugs", slugIndex.metrics());
+        metrics.put("enquiryLog", enquiryLogWriter.metrics());
+        metrics.put("contactKeys", contactKeyIndex.metrics());
+        metrics.put("blocklist", enquiryBlocklist.metrics());
+        metrics.put("enquiryRateLimit", enquiryRateLimiter.metrics());
+        return ResponseEntity.ok(metrics);
+    }
+}
@@ -1,67 +1,113 @@
 package com.epr.controller.customer;
 
+import com.epr.dto.customer.BlogCardDto;
 import com.epr.dto.customer.BlogCustomerDto;
+import com.epr.dto.customer.RelatedContentDto;
 import com.epr.service.BlogService;
+import com.epr.service.RelatedContentService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/blogs")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = PagedResponses.NEXT_CURSOR_HEADER)
 public class CustomerBlogController {
 
     @Autowired
     private BlogService blogService;
 
+    @Autowired
+    private RelatedContentService relatedContentService;
+
     @GetMapping
-    public ResponseEntity<List<BlogCustomerDto>> getAllActiveBlogs() {
-        List<BlogCustomerDto> blogs = blogService.findAllPublicBlogs();
+    public ResponseEntity<List<BlogCardDto>> getAllActiveBlogs(@RequestParam(required = false) String cursor,
+                                                                   @RequestParam(required = false) Integer size,
+                                                                   @RequestParam(name = PagedResponses.ALL_PARAM, defaultValue = "false") boolean all) {
+        if (!PagedResponses.isFullList(all, cursor, size)) {
+            return PagedResponses.paged(() -> blogService.findPublicBlogsPage(cursor, size));
+        }
+        List<BlogCardDto> blogs = blogService.findAllPublicBlogs();
         return ResponseEntity.ok(blogs);
     }
 
     @GetMapping("/{slug}")
     public ResponseEntity<BlogCustomerDto> getBlogBySlug(@PathVariable String slug) {
         BlogCustomerDto blog = blogService.findPublicBySlugAndIncrementVisit(slug);
-        return blog != null ? ResponseEntity.ok(blog) : ResponseEntity.notFound().build();
+        return blog != null ? ResponseEntity.ok(blog) : movedOrNotFound(slug, "/blogs/{slug}");
+    }
+
+    @GetMapping("/{slug}/related")
+    public ResponseEntity<RelatedContentDto> getRelatedContent(@PathVariable String slug) {
+        RelatedContentDto related = relatedContentService.findRelatedForBlog(slug);
+        return related != null ? ResponseEntity.ok(related) : movedOrNotFound(slug, "/blogs/{slug}/related");
+    }
+
+    // 301 to the same endpoint under the current slug when the blog was renamed
+    private <T> ResponseEntity<T> movedOrNotFound(String slug, String path) {
+        String moved = blogService.findMovedSlug(slug);
+        if (moved == null) return ResponseEntity.notFound().build();
+        return ResponseEntity.status(HttpStatus.MOVED_PERMANENTLY)
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath().path(path).buildAndExpand(moved).toUri())
+                .build();
     }
 
     @GetMapping("/latest")
-    public ResponseEntity<List<BlogCustomerDto>> getLatestBlogs() {
+    public ResponseEntity<List<BlogCardDto>> getLatestBlogs() {
         return ResponseEntity.ok(blogService.findLatestPublicBlogs(10));
     }
 
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<List<BlogCustomerDto>> getBlogsByCategory(@PathVariable Long categoryId) {
-        List<BlogCustomerDto> blogs = blogService.findPublicByCategoryId(categoryId);
+    public ResponseEntity<List<BlogCardDto>> getBlogsByCategory(@PathVariable Long categoryId,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(required = false) Integer size,
+                                                                    @RequestParam(name = PagedResponses.ALL_PARAM, defaultValue = "false") boolean all) {
+        if (!PagedResponses.isFullList(all, cursor, size)) {
+            return PagedResponses.paged(() -> blogService.findPublicByCategoryIdPage(categoryId, cursor, size));
+        }
+        List<BlogCardDto> blogs = blogService.findPublicByCategoryId(categoryId);
         return ResponseEntity.ok(blogs);
     }
 
     @GetMapping("/subcategory/{subcategoryId}")
-    public ResponseEntity<List<BlogCustomerDto>> getBlogsBySubcategory(@PathVariable Long subcategoryId) {
-        List<BlogCustomerDto> blogs = blogService.findPublicBySubcategoryId(subcategoryId);
+    public ResponseEntity<List<BlogCardDto>> getBlogsBySubcategory(@PathVariable Long subcategoryId,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(required = false) Integer size,
+                                                                       @RequestParam(name = PagedResponses.ALL_PARAM, defaultValue = "false") boolean all) {
+        if (!PagedResponses.isFullList(all, cursor, size)) {
+            return PagedResponses.paged(() -> blogService.findPublicBySubcategoryIdPage(subcategoryId, cursor, size));
+        }
+        List<BlogCardDto> blogs = blogService.findPublicBySubcategoryId(subcategoryId);
         return ResponseEntity.ok(blogs);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<BlogCustomerDto>> search(@RequestParam String q) {
+    public ResponseEntity<List<BlogCardDto>> search(@RequestParam String q) {
         return ResponseEntity.ok(blogService.searchPublicBlogs(q.trim()));
     }
 
 
 
     @GetMapping("/featured")
-    public ResponseEntity<List<BlogCustomerDto>> getFeaturedBlogs() {
+    public ResponseEntity<List<BlogCardDto>> getFeaturedBlogs() {
         return ResponseEntity.ok(blogService.findFeaturedPublicBlogs());
     }
 
 
 
     @GetMapping("/service/{serviceId}")
-    public ResponseEntity<List<BlogCustomerDto>> getBlogsByServiceId(@PathVariable Long serviceId) {
-        List<BlogCustomerDto> blogs = blogService.findPublicBlogsByServiceId(serviceId);
+    public ResponseEntity<List<BlogCardDto>> getBlogsByServiceId(@PathVariable Long serviceId,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(required = false) Integer size,
+                                                                     @RequestParam(name = PagedResponses.ALL_PARAM, defaultValue = "false") boolean all) {
+        if (!PagedResponses.isFullList(all, cursor, size)) {
+            return PagedResponses.paged(() -> blogService.findPublicBlogsByServiceIdPage(serviceId, cursor, size));
+        }
+        List<BlogCardDto> blogs = blogService.findPublicBlogsByServiceId(serviceId);
         return ResponseEntity.ok(blogs);
     }
 
@@ -1,29 +1,52 @@
 // src/main/java/com/epr/controller/customer/CustomerServiceController.java
 package com.epr.controller.customer;
 
+import com.epr.cache.ResponseCacheContext;
+import com.epr.dto.customer.RelatedContentDto;
+import com.epr.dto.customer.ServiceCardDto;
 import com.epr.dto.customer.ServiceCustomerDto;
+import com.epr.dto.customer.ServicePageDto;
+import com.epr.service.RelatedContentService;
 import com.epr.service.ServiceService;
+import com.epr.util.JsonArrayWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tools.jackson.databind.ObjectMapper;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/services")
-@CrossOrigin(origins = "*") // Adjust in production
+@CrossOrigin(origins = "*", exposedHeaders = PagedResponses.NEXT_CURSOR_HEADER) // Adjust in production
 public class CustomerServiceController {
 
     @Autowired
     private ServiceService serviceService;
 
-    // 1. Get all active & displayed services
+    @Autowired
+    private RelatedContentService relatedContentService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // 1. Get all active & displayed services (?all=true), written to the response as the rows are read
+    // (past the response cache's buffer, so memory stays flat however many there are)
+    @GetMapping(params = {PagedResponses.ALL_PARAM + "=true", "!cursor", "!size"})
+    public void getAllActiveServices(HttpServletResponse response) {
+        JsonArrayWriter writer = new JsonArrayWriter(objectMapper, ResponseCacheContext.unbuffered(response));
+        serviceService.streamAllActivePublicServices(writer);
+        writer.finish();
+    }
+
+    // Keyset paged unless the full list is asked for
     @GetMapping
-    public ResponseEntity<List<ServiceCustomerDto>> getAllActiveServices() {
-        List<ServiceCustomerDto> services = serviceService.findAllActivePublicServices();
-        return services.isEmpty()
-                ? ResponseEntity.noContent().build()
-                : ResponseEntity.ok(services);
+    public ResponseEntity<List<ServiceCardDto>> getActiveServicesPage(@RequestParam(required = false) String cursor,
+                                                                          @RequestParam(required = false) Integer size) {
+        return PagedResponses.paged(() -> serviceService.findActivePublicServicesPage(cursor, size));
     }
 
     // 2. Get service by slug (SEO friendly URL: /service/web-development)
@@ -32,34 +55,73 @@ public class CustomerServiceController {
         ServiceCustomerDto service = serviceService.findActiveBySlug(slug);
         return service != null
                 ? ResponseEntity.ok(service)
-                : ResponseEntity.notFound().build();
+                : movedOrNotFound(slug, "/services/slug/{slug}");
+    }
+
+    // Whole service page (sections, FAQs, documents) in one response
+    @GetMapping("/slug/{slug}/page")
+    public ResponseEntity<ServicePageDto> getServicePage(@PathVariable String slug) {
+        ServicePageDto page = serviceService.findPublicPageBySlug(slug);
+        return page != null
+                ? ResponseEntity.ok(page)
+                : movedOrNotFound(slug, "/services/slug/{slug}/page");
+    }
+
+    // Blogs written about this service and services related to it
+    @GetMapping("/slug/{slug}/related")
+    public ResponseEntity<RelatedContentDto> getRelatedContent(@PathVariable String slug) {
+        RelatedContentDto related = relatedContentService.findRelatedForService(slug);
+        return related != null
+                ? ResponseEntity.ok(related)
+                : movedOrNotFound(slug, "/services/slug/{slug}/related");
+    }
+
+    // 301 to the same endpoint under the current slug when the service was renamed
+    private <T> ResponseEntity<T> movedOrNotFound(String slug, String path) {
+        String moved = serviceService.findMovedSlug(slug);
+        if (moved == null) return ResponseEntity.notFound().build();
+        return ResponseEntity.status(HttpStatus.MOVED_PERMANENTLY)
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath().path(path).buildAndExpand(moved).toUri())
+                .build();
     }
 
     // 3. Get services by category ID (for category page)
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<List<ServiceCustomerDto>> getServicesByCategory(@PathVariable Long categoryId) {
-        List<ServiceCustomerDto> services = serviceService.findActiveByCategoryId(categoryId);
+    public ResponseEntity<List<ServiceCardDto>> getServicesByCategory(@PathVariable Long categoryId,
+                                                                          @RequestParam(required = false) String cursor,
+                                                                          @RequestParam(required = false) Integer size,
+                                                                          @RequestParam(name = PagedResponses.ALL_PARAM, defaultValue = "false") boolean all) {
+        if (!PagedResponses.isFullList(all, cursor, size)) {
+            return PagedResponses.paged(() -> serviceService.findActiveByCategoryIdPage(categoryId, cursor, size));
+        }
+        List<ServiceCardDto> services = serviceService.findActiveByCategoryId(categoryId);
         return services.isEmpty()
                 ? ResponseEntity.noContent().build()
                 : ResponseEntity.ok(services);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<ServiceCustomerDto>> searchServices(@RequestParam String q) {
-        List<ServiceCustomerDto> services = serviceService.searchPublicServices(q.trim());
+    public ResponseEntity<List<ServiceCardDto>> searchServices(@RequestParam String q) {
+        List<ServiceCardDto> services = serviceService.searchPublicServices(q.trim());
         return ResponseEntity.ok(services);
     }
 
     @GetMapping("/featured")
-    public ResponseEntity<List<ServiceCustomerDto>> getFeaturedServices() {
-        List<ServiceCustomerDto> services = serviceService.findFeaturedServices();
+    public ResponseEntity<List<ServiceCardDto>> getFeaturedServices() {
+        List<ServiceCardDto> services = serviceService.findFeaturedServices();
         return ResponseEntity.ok(services);
     }
 
 
     @GetMapping("/subcategory/{subcategoryId}")
-    public ResponseEntity<List<ServiceCustomerDto>> getServicesBySubcategory(@PathVariable Long subcategoryId) {
-        List<ServiceCustomerDto> services = serviceService.findActiveBySubcategoryId(subcategoryId);
+    public ResponseEntity<List<ServiceCardDto>> getServicesBySubcategory(@PathVariable Long subcategoryId,
+                                                                             @RequestParam(required = false) String cursor,
+                                                                             @RequestParam(required = false) Integer size,
+                                                                             @RequestParam(name = PagedResponses.ALL_PARAM, defaultValue = "false") boolean all) {
+        if (!PagedResponses.isFullList(all, cursor, size)) {
+            return PagedResponses.paged(() -> serviceService.findActiveBySubcategoryIdPage(subcategoryId, cursor, size));
+        }
+        List<ServiceCardDto> services = serviceService.findActiveBySubcategoryId(subcategoryId);
         return services.isEmpty()
                 ? ResponseEntity.noContent().build()
                 : ResponseEntity.ok(services);
@@ -67,8 +129,8 @@ public class CustomerServiceController {
 
     // 5. NEW: Latest 10 recently posted services
     @GetMapping("/latest")
-    public ResponseEntity<List<ServiceCustomerDto>> getLatestServices() {
-        List<ServiceCustomerDto> services = serviceService.findLatestActiveServices(10);
+    public ResponseEntity<List<ServiceCardDto>> getLatestServices() {
+        List<ServiceCardDto> services = serviceService.findLatestActiveServices(10);
         return ResponseEntity.ok(services); // Always return 200 + empty list if none
     }
 
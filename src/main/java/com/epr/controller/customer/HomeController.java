@@ -0,0 +1,28 @@
+// src/main/java/com/epr/controller/customer/HomeController.java
+package com.epr.controller.customer;
+
+import com.epr.dto.customer.HomePageDto;
+import com.epr.service.HomeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/public")
+@CrossOrigin(origins = "*")
+public class HomeController {
+
+    @Autowired
+    private HomeService homeService;
+
+    // Featured blogs and services, latest blogs, platform ratings and home categories in one response
+    @GetMapping("/home")
+    public ResponseEntity<HomePageDto> getHomePage() {
+        HomePageDto page = homeService.findHomePage();
+        // A page with fallback pieces carries the current ETag, so clients must not keep it
+        return page.getStaleSections().isEmpty()
+                ? ResponseEntity.ok(page)
+                : ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(page);
+    }
+}
@@ -0,0 +1,25 @@
+// src/main/java/com/epr/controller/customer/NavigationController.java
+package com.epr.controller.customer;
+
+import com.epr.dto.customer.NavigationCategoryDto;
+import com.epr.service.NavigationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/public")
+@CrossOrigin(origins = "*")
+public class NavigationController {
+
+    @Autowired
+    private NavigationService navigationService;
+
+    // Category -> subcategory menu with public blog and service counts per node
+    @GetMapping("/navigation")
+    public ResponseEntity<List<NavigationCategoryDto>> getNavigation() {
+        return ResponseEntity.ok(navigationService.findNavigation());
+    }
+}
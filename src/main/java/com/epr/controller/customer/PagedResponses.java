@@ -0,0 +1,38 @@
+package com.epr.controller.customer;
+
+import com.epr.dto.customer.CursorPage;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The public list endpoints are keyset paged by default (?size= / ?cursor=, CursorPage sizes), so a
+ * response stays bounded however much content there is. The unbounded full list is only served on
+ * an explicit ?all=true without paging parameters.
+ * The body stays a plain JSON array; the opaque cursor for the next page travels in a header.
+ */
+final class PagedResponses {
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private PagedResponses() {
+    }
+
+    static final String ALL_PARAM = "all";
+
+    static boolean isFullList(boolean all, String cursor, Integer size) {
+        return all && cursor == null && size == null;
+    }
+
+    static <T> ResponseEntity<List<T>> paged(Supplier<CursorPage<T>> query) {
+        try {
+            CursorPage<T> page = query.get();
+            ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+            if (page.nextCursor() != null) ok.header(NEXT_CURSOR_HEADER, page.nextCursor());
+            return ok.body(page.items());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+// src/main/java/com/epr/controller/customer/RatingController.java
+package com.epr.controller.customer;
+
+import com.epr.dto.customer.PlatformRatingDto;
+import com.epr.dto.customer.PlatformRatingSummaryDto;
+import com.epr.service.PlatformRatingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/public/ratings")
+@CrossOrigin(origins = "*")
+public class RatingController {
+
+    @Autowired
+    private PlatformRatingService platformRatingService;
+
+    // Visible platform ratings, best first (served from memory)
+    @GetMapping
+    public ResponseEntity<List<PlatformRatingDto>> getRatings() {
+        return ResponseEntity.ok(platformRatingService.findAllActiveAndVisible());
+    }
+
+    // Review-weighted aggregate rating and total review count for trust badges
+    @GetMapping("/summary")
+    public ResponseEntity<PlatformRatingSummaryDto> getSummary() {
+        return ResponseEntity.ok(platformRatingService.findSummary());
+    }
+}
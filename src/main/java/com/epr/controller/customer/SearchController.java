@@ -1,11 +1,16 @@
 package com.epr.controller.customer;
 
 import com.epr.dto.customer.SearchResultDto;
+import com.epr.dto.customer.SuggestionDto;
 import com.epr.service.SearchService;
+import com.epr.service.SuggestService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/search")
 @CrossOrigin(origins = "*") // Adjust in production
@@ -14,12 +19,27 @@ public class SearchController {
     @Autowired
     private SearchService searchService;
 
+    @Autowired
+    private SuggestService suggestService;
+
     @GetMapping
-    public ResponseEntity<SearchResultDto> search(@RequestParam String q) {
-        SearchResultDto results = searchService.searchPublic(q.trim());
-        if (results.getBlogs().isEmpty() && results.getServices().isEmpty()) {
+    public ResponseEntity<SearchResultDto> search(@RequestParam String q,
+                                                  @RequestParam(required = false) Integer limit) {
+        SearchResultDto results = searchService.searchPublic(q.trim(), limit);
+        // A partial response with no hits is still returned so the client can see which source failed
+        if (results.getResults().isEmpty() && !results.isPartial()) {
             return ResponseEntity.noContent().build();
         }
-        return ResponseEntity.ok(results);
+        // A partial result carries the current ETag, so clients must not keep it
+        return results.isPartial()
+                ? ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(results)
+                : ResponseEntity.ok(results);
+    }
+
+    // Search-as-you-type, served from memory
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggest(@RequestParam String q,
+                                                       @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(suggestService.suggest(q, limit));
     }
 }
\ No newline at end of file
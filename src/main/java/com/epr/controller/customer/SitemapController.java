@@ -0,0 +1,40 @@
+// src/main/java/com/epr/controller/customer/SitemapController.java
+package com.epr.controller.customer;
+
+import com.epr.service.SitemapService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+public class SitemapController {
+
+    private static final CacheControl CACHE = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+
+    @Autowired
+    private SitemapService sitemapService;
+
+    // Sitemap index; 503 in the moment after startup before the first generation has finished
+    @GetMapping("/sitemap.xml")
+    public ResponseEntity<byte[]> getIndex() {
+        return sitemapService.index()
+                .map(xml -> ResponseEntity.ok().cacheControl(CACHE).contentType(MediaType.APPLICATION_XML).body(xml))
+                .orElseGet(() -> ResponseEntity.status(503).header(HttpHeaders.RETRY_AFTER, "30").build());
+    }
+
+    // Gzipped child sitemap, e.g. /sitemaps/blogs-1.xml.gz
+    @GetMapping("/sitemaps/{fileName:.+}")
+    public ResponseEntity<byte[]> getPart(@PathVariable String fileName) {
+        return sitemapService.part(fileName)
+                .map(gzip -> ResponseEntity.ok().cacheControl(CACHE)
+                        .contentType(MediaType.parseMediaType("application/gzip")).body(gzip))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,24 @@
+// src/main/java/com/epr/dto/admin/enquiry/EnquiryBlockerRequestDto.java
+package com.epr.dto.admin.enquiry;
+
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * At least one of email ("@domain.com" for a whole domain), mobile or ipAddress (IP or CIDR range)
+ */
+@Data
+public class EnquiryBlockerRequestDto {
+
+    @Size(max = 255)
+    private String email;
+
+    @Size(max = 50)
+    private String mobile;
+
+    @Size(max = 50)
+    private String ipAddress;
+
+    @Size(max = 500)
+    private String reason;
+}
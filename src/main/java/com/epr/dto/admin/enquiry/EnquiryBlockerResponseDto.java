@@ -0,0 +1,16 @@
+// src/main/java/com/epr/dto/admin/enquiry/EnquiryBlockerResponseDto.java
+package com.epr.dto.admin.enquiry;
+
+import lombok.Data;
+
+@Data
+public class EnquiryBlockerResponseDto {
+
+    private Long id;
+    private String email;
+    private String mobile;
+    private String ipAddress;
+    private String reason;
+    private String blockedByUuid;
+    private String blockedAt;
+}
@@ -0,0 +1,37 @@
+// src/main/java/com/epr/dto/admin/enquiry/EnquiryFilterDto.java
+package com.epr.dto.admin.enquiry;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Filters of the admin enquiry listing, from query parameters; all optional and combined with AND.
+ * from / to are inclusive IST dates on createdAt.
+ */
+@Data
+public class EnquiryFilterDto {
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    private String type;
+    private String city;
+    private String utmSource;
+    private String utmCampaign;
+    private Long categoryId;
+    private Long serviceId;
+
+    public boolean isEmpty() {
+        return from == null && to == null && isBlank(type) && isBlank(city) && isBlank(utmSource)
+                && isBlank(utmCampaign) && categoryId == null && serviceId == null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
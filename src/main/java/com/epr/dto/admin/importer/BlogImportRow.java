@@ -0,0 +1,31 @@
+// src/main/java/com/epr/dto/admin/importer/BlogImportRow.java
+package com.epr.dto.admin.importer;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One blog in a bulk import. Category, subcategory and linked services are given by slug;
+ * in CSV, serviceSlugs is a single column separated by '|'.
+ */
+@Data
+public class BlogImportRow {
+
+    private String title;
+    private String slug;
+    private String image;
+    private String summary;
+    private String description;
+    private String metaTitle;
+    private String metaKeyword;
+    private String metaDescription;
+    private String searchKeyword;
+    private Integer displayStatus;   // 1 = visible (default), 2 = hidden
+    private Integer showHomeStatus;  // 1 = featured, 2 = not (default)
+    private String categorySlug;
+    private String subcategorySlug;
+    private List<String> serviceSlugs;
+    private LocalDateTime postDate;  // original publication date (UTC); now if absent
+}
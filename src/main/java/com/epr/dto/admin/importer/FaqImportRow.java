@@ -0,0 +1,18 @@
+// src/main/java/com/epr/dto/admin/importer/FaqImportRow.java
+package com.epr.dto.admin.importer;
+
+import lombok.Data;
+
+/**
+ * One blog or service FAQ in a bulk import; parentSlug is the slug of the blog or service it belongs to.
+ * For blog FAQs the question and answer become the FAQ title and description.
+ */
+@Data
+public class FaqImportRow {
+
+    private String parentSlug;
+    private String question;
+    private String answer;
+    private Integer displayOrder;   // service FAQs only
+    private Integer displayStatus;  // 1 = show (default), 2 = hide
+}
@@ -0,0 +1,25 @@
+// src/main/java/com/epr/dto/admin/importer/ImportReportDto.java
+package com.epr.dto.admin.importer;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: rows read, rows inserted, and why each rejected row was rejected
+ */
+@Data
+public class ImportReportDto {
+
+    private String kind;
+    private int received;
+    private int imported;
+    private int failed;
+    private List<ImportRowErrorDto> errors = new ArrayList<>();
+
+    public void reject(int row, String key, String message) {
+        errors.add(new ImportRowErrorDto(row, key, message));
+        failed++;
+    }
+}
@@ -0,0 +1,20 @@
+// src/main/java/com/epr/dto/admin/importer/ImportRowErrorDto.java
+package com.epr.dto.admin.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * row is the line number for NDJSON and the record number after the header for CSV;
+ * key is the row's slug (the parent's slug for FAQs) when it could be read
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowErrorDto {
+
+    private int row;
+    private String key;
+    private String message;
+}
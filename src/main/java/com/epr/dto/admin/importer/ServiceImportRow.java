@@ -0,0 +1,29 @@
+// src/main/java/com/epr/dto/admin/importer/ServiceImportRow.java
+package com.epr.dto.admin.importer;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * One service in a bulk import; category and subcategory are given by slug
+ */
+@Data
+public class ServiceImportRow {
+
+    private String title;
+    private String slug;
+    private String shortDescription;
+    private String fullDescription;
+    private String bannerImage;
+    private String thumbnail;
+    private String videoUrl;
+    private String metaTitle;
+    private String metaKeyword;
+    private String metaDescription;
+    private Integer displayStatus;   // 1 = visible (default), 2 = hidden
+    private Integer showHomeStatus;  // 1 = featured, 2 = not (default)
+    private String categorySlug;
+    private String subcategorySlug;
+    private LocalDateTime postDate;  // original publication date (UTC); now if absent
+}
@@ -0,0 +1,28 @@
+package com.epr.dto.customer;
+
+import lombok.Data;
+
+/**
+ * Blog as rendered on list pages (cards). Never carries the LONGTEXT description;
+ * use {@link BlogCustomerDto} from the slug endpoint for the full article.
+ */
+@Data
+public class BlogCardDto {
+    private Long id;
+    private String title;
+    private String slug;
+    private String image;
+    private String summary;
+
+    private String postDate;
+    private String postedByName;
+    private Long visited;
+
+    private Long categoryId;
+    private String categoryName;
+    private String categorySlug;
+
+    private Long subcategoryId;
+    private String subcategoryName;
+    private String subcategorySlug;
+}
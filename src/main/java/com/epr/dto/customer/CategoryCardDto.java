@@ -0,0 +1,16 @@
+// src/main/java/com/epr/dto/customer/CategoryCardDto.java
+package com.epr.dto.customer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryCardDto {
+    private Long id;
+    private String name;
+    private String slug;
+    private String icon;
+}
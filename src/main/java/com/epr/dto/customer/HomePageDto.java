@@ -0,0 +1,23 @@
+// src/main/java/com/epr/dto/customer/HomePageDto.java
+package com.epr.dto.customer;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Everything the home page shows, in one response.
+ * staleSections names the pieces that missed their deadline and were filled from the last good value
+ * (or left empty when there was none).
+ */
+@Data
+@NoArgsConstructor
+public class HomePageDto {
+    private List<BlogCardDto> featuredBlogs;
+    private List<ServiceCardDto> featuredServices;
+    private List<BlogCardDto> latestBlogs;
+    private List<PlatformRatingDto> ratings;
+    private List<CategoryCardDto> categories;
+    private List<String> staleSections;
+}
@@ -0,0 +1,25 @@
+// src/main/java/com/epr/dto/customer/NavigationCategoryDto.java
+package com.epr.dto.customer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One top-level entry of the public navigation: a visible category, its visible subcategories
+ * and how many public blogs and services each of them holds.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NavigationCategoryDto {
+    private Long id;
+    private String name;
+    private String slug;
+    private String icon;
+    private long blogCount;
+    private long serviceCount;
+    private List<NavigationSubcategoryDto> subcategories;
+}
@@ -0,0 +1,17 @@
+// src/main/java/com/epr/dto/customer/NavigationSubcategoryDto.java
+package com.epr.dto.customer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NavigationSubcategoryDto {
+    private Long id;
+    private String name;
+    private String slug;
+    private long blogCount;
+    private long serviceCount;
+}
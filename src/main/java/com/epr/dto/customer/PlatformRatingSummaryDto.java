@@ -0,0 +1,20 @@
+// src/main/java/com/epr/dto/customer/PlatformRatingSummaryDto.java
+package com.epr.dto.customer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Trust badge figures over all visible platforms.
+ * aggregateRating is weighted by each platform's review count (plain mean when no platform has reviews),
+ * rounded to one decimal; null when no platform is visible.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlatformRatingSummaryDto {
+    private Double aggregateRating;
+    private long totalReviews;
+    private int platformCount;
+}
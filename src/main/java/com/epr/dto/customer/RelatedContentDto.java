@@ -0,0 +1,18 @@
+package com.epr.dto.customer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * "Related" block of a blog or service page, best match first.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedContentDto {
+    private List<BlogCardDto> blogs;
+    private List<ServiceCardDto> services;
+}
@@ -0,0 +1,24 @@
+package com.epr.dto.customer;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * One entry of the merged search ranking. item is a BlogCardDto or ServiceCardDto depending on type.
+ */
+@Getter
+@Setter
+public class SearchHitDto {
+    public static final String TYPE_BLOG = "blog";
+    public static final String TYPE_SERVICE = "service";
+
+    private String type;
+    private double score;
+    private Object item;
+
+    public SearchHitDto(String type, double score, Object item) {
+        this.type = type;
+        this.score = score;
+        this.item = item;
+    }
+}
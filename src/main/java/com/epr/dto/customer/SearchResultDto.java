@@ -4,15 +4,31 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
 public class SearchResultDto {
-    private List<BlogCustomerDto> blogs;
-    private List<ServiceCustomerDto> services;
+    // Top matches per source
+    private List<BlogCardDto> blogs;
+    private List<ServiceCardDto> services;
 
-    public SearchResultDto(List<BlogCustomerDto> blogs, List<ServiceCustomerDto> services) {
+    // Both sources merged into one ranking, cut to the requested limit
+    private List<SearchHitDto> results;
+
+    // Matches before the limit was applied
+    private int totalBlogs;
+    private int totalServices;
+
+    // true when a source timed out or failed and its results are missing
+    private boolean partial;
+    private List<String> failedSources;
+
+    private long tookMs;
+    private Map<String, Long> sourceTookMs;
+
+    public SearchResultDto(List<BlogCardDto> blogs, List<ServiceCardDto> services) {
         this.blogs = blogs;
         this.services = services;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.epr.dto.customer;
+
+import lombok.Data;
+
+/**
+ * Service as rendered on list pages (cards). Never carries fullDescription;
+ * use {@link ServiceCustomerDto} from the slug endpoint for the full page.
+ */
+@Data
+public class ServiceCardDto {
+    private Long id;
+    private String title;
+    private String slug;
+    private String shortDescription;
+    private String thumbnail;
+    private String bannerImage;
+
+    private String postDate; // formatted IST
+    private Long visited;
+
+    private Long categoryId;
+    private String categoryName;
+    private String categorySlug;
+
+    private Long subcategoryId;
+    private String subcategoryName;
+    private String subcategorySlug;
+}
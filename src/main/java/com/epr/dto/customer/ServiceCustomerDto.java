@@ -10,6 +10,7 @@ public class ServiceCustomerDto {
     private String title;
     private String slug;
     private String shortDescription;
+    private String fullDescription;
     private String bannerImage;
     private String thumbnail;
     private String videoUrl;
@@ -0,0 +1,15 @@
+package com.epr.dto.customer;
+
+import lombok.Data;
+
+@Data
+public class ServiceDocumentCustomerDto {
+    private Long id;
+    private String documentName;
+    private String description;
+    private String sampleLink;
+    private String downloadLink;
+    private String format;
+    private Boolean mandatory;
+    private Integer displayOrder;
+}
@@ -0,0 +1,11 @@
+package com.epr.dto.customer;
+
+import lombok.Data;
+
+@Data
+public class ServiceFaqCustomerDto {
+    private Long id;
+    private String question;
+    private String answer;
+    private Integer displayOrder;
+}
@@ -0,0 +1,17 @@
+// src/main/java/com/epr/dto/customer/ServicePageDto.java
+package com.epr.dto.customer;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Everything a public service page renders, in one response.
+ */
+@Data
+public class ServicePageDto {
+    private ServiceCustomerDto service;
+    private List<ServiceSectionCustomerDto> sections;
+    private List<ServiceFaqCustomerDto> faqs;
+    private List<ServiceDocumentCustomerDto> documents;
+}
@@ -0,0 +1,11 @@
+package com.epr.dto.customer;
+
+import lombok.Data;
+
+@Data
+public class ServiceSectionCardCustomerDto {
+    private Long id;
+    private String title;
+    private String description;
+    private String icon;
+}
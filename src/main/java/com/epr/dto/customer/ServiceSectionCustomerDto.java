@@ -0,0 +1,15 @@
+package com.epr.dto.customer;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ServiceSectionCustomerDto {
+    private Long id;
+    private String tabName;
+    private String title;
+    private String description;
+    private String displayOrder;
+    private List<ServiceSectionCardCustomerDto> cards;
+}
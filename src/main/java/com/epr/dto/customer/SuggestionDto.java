@@ -0,0 +1,17 @@
+package com.epr.dto.customer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One autocomplete suggestion. slug is null for keyword suggestions (run them as a search).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDto {
+    private String text;
+    private String type; // blog | service | category | subcategory | keyword
+    private String slug;
+}
@@ -10,7 +10,21 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "enquiries")
+@Table(
+        name = "enquiries",
+        indexes = {
+                @Index(name = "idx_enquiries_email_key", columnList = "emailKey, deleteStatus"),
+                @Index(name = "idx_enquiries_mobile_key", columnList = "mobileKey, deleteStatus"),
+                // Admin listing: one per filter, each ending in id so a page is a seek in id order
+                @Index(name = "idx_enquiries_active_created", columnList = "deleteStatus, createdAt, id"),
+                @Index(name = "idx_enquiries_active_type", columnList = "deleteStatus, type, id"),
+                @Index(name = "idx_enquiries_active_city", columnList = "deleteStatus, city, id"),
+                @Index(name = "idx_enquiries_active_utm_source", columnList = "deleteStatus, utmSource, id"),
+                @Index(name = "idx_enquiries_active_utm_campaign", columnList = "deleteStatus, utmCampaign, id"),
+                @Index(name = "idx_enquiries_active_category", columnList = "deleteStatus, categoryId, id"),
+                @Index(name = "idx_enquiries_active_service", columnList = "deleteStatus, serviceId, id")
+        }
+)
 @Getter
 @Setter
 public class Enquiry {
@@ -44,6 +58,13 @@ public class Enquiry {
     @Column(length = 50, nullable = true)
     private String mobile;
 
+    // Normalized email / mobile (see ContactKeys); duplicates are matched on these
+    @Column(length = 255)
+    private String emailKey;
+
+    @Column(length = 20)
+    private String mobileKey;
+
     @NotBlank(message = "Please enter your city !!")
     @Column(length = 250, nullable = false)
     private String city;
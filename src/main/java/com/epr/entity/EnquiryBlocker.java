@@ -17,10 +17,13 @@ public class EnquiryBlocker {
     private Long id;
 
     @Column(length = 50)
-    private String mobile;
+    private String mobile;                  // Normalized, see ContactKeys
 
     @Column(length = 255)
-    private String email;
+    private String email;                   // Lowercased; "@domain.com" blocks the whole domain
+
+    @Column(length = 50)
+    private String ipAddress;               // Single IP or CIDR range, IPv4 or IPv6
 
     private LocalDateTime blockedAt;
 
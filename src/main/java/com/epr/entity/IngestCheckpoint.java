@@ -0,0 +1,37 @@
+// src/main/java/com/epr/entity/IngestCheckpoint.java
+package com.epr.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * How far a local write-ahead log has been applied to the database: every record with a sequence
+ * number up to position is in its table. Saved in the same transaction as the records it covers.
+ */
+@Entity
+@Table(name = "ingest_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+public class IngestCheckpoint {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private Long position;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public IngestCheckpoint(String name, Long position, LocalDateTime updatedAt) {
+        this.name = name;
+        this.position = position;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,44 @@
+// src/main/java/com/epr/entity/SlugHistory.java
+package com.epr.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A slug a blog or service was published under before it was renamed; the public slug
+ * endpoints answer it with a 301 to the current slug.
+ */
+@Entity
+@Table(
+        name = "slug_history",
+        indexes = {
+                @Index(name = "idx_slug_history_slug", columnList = "contentType, oldSlug", unique = true),
+                @Index(name = "idx_slug_history_content", columnList = "contentType, contentId")
+        }
+)
+@Getter
+@Setter
+public class SlugHistory {
+
+    public enum ContentType { BLOG, SERVICE }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ContentType contentType;
+
+    @Column(nullable = false, length = 300)
+    private String oldSlug;
+
+    @Column(nullable = false)
+    private Long contentId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdDate;
+}
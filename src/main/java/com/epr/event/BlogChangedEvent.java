@@ -0,0 +1,13 @@
+// src/main/java/com/epr/event/BlogChangedEvent.java
+package com.epr.event;
+
+import com.epr.cache.PublicBlog;
+import com.epr.dto.customer.BlogCardDto;
+import com.epr.search.SearchDocument;
+
+/**
+ * Published by BlogServiceImpl on every admin write.
+ * publicBlog and searchDocument are null when the blog is no longer publicly visible (hidden or soft deleted).
+ */
+public record BlogChangedEvent(Long blogId, PublicBlog publicBlog, SearchDocument<BlogCardDto> searchDocument) {
+}
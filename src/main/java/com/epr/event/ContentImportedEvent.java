@@ -0,0 +1,10 @@
+// src/main/java/com/epr/event/ContentImportedEvent.java
+package com.epr.event;
+
+/**
+ * Published by BulkImportServiceImpl once an import has inserted rows. Bulk inserts bypass the
+ * per-row change events, so the in-memory views reload instead: blogs after a blog import,
+ * services after a service import.
+ */
+public record ContentImportedEvent(boolean blogs, boolean services) {
+}
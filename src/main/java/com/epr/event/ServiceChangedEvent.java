@@ -0,0 +1,15 @@
+// src/main/java/com/epr/event/ServiceChangedEvent.java
+package com.epr.event;
+
+import com.epr.dto.customer.ServiceCardDto;
+import com.epr.search.SearchDocument;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by ServiceServiceImpl on every admin write.
+ * searchDocument is null when the service is no longer publicly visible (hidden or soft deleted).
+ * postDate is the raw sort key of the card (the card itself carries it formatted).
+ */
+public record ServiceChangedEvent(Long serviceId, LocalDateTime postDate, SearchDocument<ServiceCardDto> searchDocument) {
+}
@@ -0,0 +1,9 @@
+// src/main/java/com/epr/event/TaxonomyChangedEvent.java
+package com.epr.event;
+
+/**
+ * Published when a category or subcategory is updated or soft deleted.
+ * subcategoryId is null for category writes.
+ */
+public record TaxonomyChangedEvent(Long categoryId, Long subcategoryId) {
+}
@@ -0,0 +1,17 @@
+// src/main/java/com/epr/event/VisitsFlushedEvent.java
+package com.epr.event;
+
+import com.epr.cache.VisitCounterBuffer;
+
+import java.util.Map;
+
+/**
+ * Published by VisitCounterBuffer once a batch of buffered views has been written, so the
+ * in-memory cards and suggestion weights can add the same deltas (id -> views added).
+ */
+public record VisitsFlushedEvent(VisitCounterBuffer.Target target, Map<Long, Long> deltas) {
+
+    public VisitsFlushedEvent {
+        deltas = Map.copyOf(deltas);
+    }
+}
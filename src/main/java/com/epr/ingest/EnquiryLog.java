@@ -0,0 +1,452 @@
+// src/main/java/com/epr/ingest/EnquiryLog.java
+package com.epr.ingest;
+
+import com.epr.dto.admin.enquiry.EnquiryRequestDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of accepted enquiries on local disk, so a submission can be acknowledged before
+ * it reaches MySQL and still survive a crash or restart.
+ *
+ * Records are one line each, "crc32 json", in segment files named after their first sequence
+ * number. An append returns once its line is fsynced; concurrent appends share fsyncs (the first
+ * caller to sync covers every line written so far), so a burst costs a few fsyncs, not one per
+ * enquiry. Durable records wait in memory, in sequence order, for {@link EnquiryLogWriter}, which
+ * applies them and reports the applied position back via {@link #applied}; segments whose records
+ * are all applied are deleted. On startup {@link #open} re-reads the segments and queues every
+ * record past the database checkpoint again.
+ *
+ * Sequence numbers are local to the directory, so the checkpoint is stored under the log's own
+ * id ({@link #logId}), kept in a file next to the segments; nodes never share a checkpoint.
+ */
+@Component
+public class EnquiryLog {
+
+    private static final Logger log = LoggerFactory.getLogger(EnquiryLog.class);
+
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String REJECTED_FILE = "rejected.jsonl";
+    private static final String ID_FILE = "log-id";
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final long segmentBytes;
+    private final int maxPending;
+
+    private final Object writeLock = new Object();
+    private final Object syncLock = new Object();
+
+    // guarded by writeLock
+    private final NavigableMap<Long, Path> segments = new TreeMap<>();
+    private final ArrayDeque<EnquiryLogRecord> pending = new ArrayDeque<>();
+    private final Set<Long> failed = new HashSet<>();
+    private FileChannel channel;
+    private long channelDurableBytes;
+    private long lastSeq;
+    private boolean opened;
+    private String logId;
+
+    private final AtomicLong durableSeq = new AtomicLong();
+    private final AtomicLong appended = new AtomicLong();
+    private final AtomicLong fsyncs = new AtomicLong();
+    private final AtomicLong recovered = new AtomicLong();
+    private final AtomicLong corrupt = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public EnquiryLog(ObjectMapper objectMapper,
+                      @Value("${app.enquiry-log.dir:data/enquiry-log}") String directory,
+                      @Value("${app.enquiry-log.segment-size:64MB}") DataSize segmentSize,
+                      @Value("${app.enquiry-log.max-pending:100000}") int maxPending) {
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory);
+        this.segmentBytes = Math.max(1, segmentSize.toBytes());
+        this.maxPending = Math.max(1, maxPending);
+    }
+
+    /**
+     * This log's id, created on first use; the database checkpoint is kept under it
+     */
+    public String logId() {
+        synchronized (writeLock) {
+            if (logId != null) return logId;
+            Path file = directory.resolve(ID_FILE);
+            try {
+                if (Files.exists(file)) {
+                    logId = Files.readString(file, StandardCharsets.US_ASCII).trim();
+                } else {
+                    Files.createDirectories(directory);
+                    String id = UUID.randomUUID().toString();
+                    Path tmp = directory.resolve(ID_FILE + ".tmp");
+                    Files.writeString(tmp, id, StandardCharsets.US_ASCII, StandardOpenOption.CREATE,
+                            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+                    Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+                    syncDirectory();
+                    logId = id;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read or create the enquiry log id in " + directory, e);
+            }
+            if (logId.isEmpty()) throw new IllegalStateException("Enquiry log id file is empty: " + file);
+            return logId;
+        }
+    }
+
+    /**
+     * Whether a previous run left segments behind (applied or not)
+     */
+    public boolean hasSegments() {
+        return !listSegments().isEmpty();
+    }
+
+    /**
+     * Reads the existing segments and queues every intact record after checkpoint; new records
+     * continue the sequence. The next append starts a fresh segment.
+     */
+    public void open(long checkpoint) {
+        synchronized (writeLock) {
+            if (opened) return;
+            long last = checkpoint;
+            for (Path segment : listSegments()) {
+                segments.put(firstSeq(segment), segment);
+                last = Math.max(last, recover(segment, checkpoint));
+            }
+            lastSeq = last;
+            durableSeq.set(last);
+            opened = true;
+            deleteAppliedSegments(checkpoint);
+        }
+        if (recovered.get() > 0) log.info("Enquiry log: {} enquiries to replay from {}", recovered.get(), directory);
+    }
+
+    /**
+     * Appends an accepted enquiry and returns once it is on disk. When this throws, the record is
+     * dropped and never applied, so the caller may safely resubmit; the only exception is a disk
+     * that fails the sync and then also refuses to cut the record off its segment (logged as an
+     * error), where the record can come back on the next restart.
+     *
+     * @throws IllegalStateException when the writer is too far behind to take more
+     */
+    public EnquiryLogRecord append(String uuid, LocalDateTime receivedAt, String ipAddress, String url, EnquiryRequestDto enquiry) {
+        EnquiryLogRecord record;
+        synchronized (writeLock) {
+            if (!opened) throw new IllegalStateException("Enquiry log is not open");
+            if (pending.size() >= maxPending) throw new IllegalStateException("Enquiry log is full");
+            record = new EnquiryLogRecord(lastSeq + 1, uuid, receivedAt, ipAddress, url, enquiry);
+            write(record);
+            lastSeq = record.seq();
+            pending.addLast(record);
+        }
+        sync(record.seq());
+        appended.incrementAndGet();
+        return record;
+    }
+
+    /**
+     * Up to max durable records, oldest first; they stay queued until {@link #applied}
+     */
+    public List<EnquiryLogRecord> durableBatch(int max) {
+        long durable = durableSeq.get();
+        List<EnquiryLogRecord> batch = new ArrayList<>(Math.min(max, 64));
+        synchronized (writeLock) {
+            for (EnquiryLogRecord record : pending) {
+                if (batch.size() == max || record.seq() > durable) break;
+                batch.add(record);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Every record up to seq is in the database (its checkpoint has committed)
+     */
+    public void applied(long seq) {
+        synchronized (writeLock) {
+            while (!pending.isEmpty() && pending.peekFirst().seq() <= seq) pending.pollFirst();
+            deleteAppliedSegments(seq);
+        }
+    }
+
+    /**
+     * Keeps a record the database would not take, so it is not lost with its segment
+     */
+    public void reject(EnquiryLogRecord record, String reason) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("reason", reason);
+        line.put("record", record);
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve(REJECTED_FILE), objectMapper.writeValueAsString(line) + "\n",
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND,
+                    StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write rejected enquiry " + record.uuid(), e);
+        }
+        rejected.incrementAndGet();
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        synchronized (writeLock) {
+            metrics.put("pending", pending.size());
+            metrics.put("segments", segments.size());
+            metrics.put("lastSeq", lastSeq);
+        }
+        metrics.put("durableSeq", durableSeq.get());
+        metrics.put("appended", appended.get());
+        metrics.put("fsyncs", fsyncs.get());
+        metrics.put("recovered", recovered.get());
+        metrics.put("corrupt", corrupt.get());
+        metrics.put("rejected", rejected.get());
+        return metrics;
+    }
+
+    @PreDestroy
+    public void close() {
+        synchronized (writeLock) {
+            closeSegment();
+        }
+    }
+
+    // ---- writing ----
+
+    // callers hold writeLock
+    private void write(EnquiryLogRecord record) {
+        byte[] line = encode(record);
+        try {
+            if (channel == null) openSegment(record.seq());
+            long start = channel.position();
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(line);
+                while (buffer.hasRemaining()) channel.write(buffer);
+            } catch (IOException e) {
+                // Never leave half a line for the next record to be appended to
+                channel.truncate(start);
+                throw e;
+            }
+        } catch (IOException e) {
+            closeSegment();
+            throw new UncheckedIOException("Could not write to the enquiry log", e);
+        }
+    }
+
+    /**
+     * Group commit: whoever gets the sync lock first forces everything written so far, and the
+     * appends waiting behind it find their record already durable. A failed force fails every
+     * record it covered: they are cut off the segment and dropped from pending.
+     */
+    private void sync(long seq) {
+        synchronized (syncLock) {
+            synchronized (writeLock) {
+                if (failed.remove(seq)) throw new UncheckedIOException(new IOException("Enquiry " + seq + " could not be synced"));
+            }
+            if (durableSeq.get() >= seq) return;
+            FileChannel target;
+            long upTo;
+            long upToBytes;
+            synchronized (writeLock) {
+                target = channel;
+                upTo = lastSeq;
+                upToBytes = channelBytes();
+            }
+            try {
+                if (target != null) {
+                    target.force(false);
+                    fsyncs.incrementAndGet();
+                    durableSeq.accumulateAndGet(upTo, Math::max);
+                    synchronized (writeLock) {
+                        if (channel == target) {
+                            channelDurableBytes = Math.max(channelDurableBytes, upToBytes);
+                            if (upToBytes >= segmentBytes) closeSegment();
+                        }
+                    }
+                }
+            } catch (ClosedChannelException e) {
+                // Closed by a rotation, which forced it first; checked below
+            } catch (IOException e) {
+                synchronized (writeLock) {
+                    if (channel == target) dropUnsynced(target);
+                    failed.remove(seq);
+                }
+                throw new UncheckedIOException("Could not sync the enquiry log", e);
+            }
+            if (durableSeq.get() < seq) throw new UncheckedIOException(new IOException("Enquiry " + seq + " was not synced"));
+        }
+    }
+
+    // callers hold writeLock; every record past durableSeq is in target and fails to its appender
+    private void dropUnsynced(FileChannel target) {
+        long durable = durableSeq.get();
+        Iterator<EnquiryLogRecord> it = pending.descendingIterator();
+        while (it.hasNext()) {
+            EnquiryLogRecord record = it.next();
+            if (record.seq() <= durable) break;
+            failed.add(record.seq());
+            it.remove();
+        }
+        try {
+            target.truncate(channelDurableBytes);
+        } catch (IOException e) {
+            log.error("Could not cut unsynced enquiries off the enquiry log; they may be replayed after a restart", e);
+        }
+        try {
+            target.close();
+        } catch (IOException e) {
+            log.warn("Could not close enquiry log segment", e);
+        }
+        channel = null;
+    }
+
+    // callers hold writeLock
+    private long channelBytes() {
+        try {
+            return channel != null ? channel.position() : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    // callers hold writeLock
+    private void openSegment(long firstSeq) throws IOException {
+        Files.createDirectories(directory);
+        Path path = directory.resolve(String.format("%020d%s", firstSeq, SEGMENT_SUFFIX));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        channelDurableBytes = 0;
+        segments.put(firstSeq, path);
+        syncDirectory();
+    }
+
+    // The directory entries themselves must survive a crash
+    private void syncDirectory() {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("Could not sync enquiry log directory {}", directory);
+        }
+    }
+
+    // callers hold writeLock; the next append starts a new segment
+    private void closeSegment() {
+        if (channel == null) return;
+        try {
+            channel.force(false);
+            durableSeq.accumulateAndGet(lastSeq, Math::max);
+        } catch (IOException e) {
+            log.error("Could not sync enquiry log segment before closing it", e);
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Could not close enquiry log segment", e);
+        }
+        channel = null;
+    }
+
+    private byte[] encode(EnquiryLogRecord record) {
+        byte[] json = objectMapper.writeValueAsString(record).getBytes(StandardCharsets.UTF_8);
+        byte[] prefix = String.format("%08x ", crc(json)).getBytes(StandardCharsets.US_ASCII);
+        byte[] line = new byte[prefix.length + json.length + 1];
+        System.arraycopy(prefix, 0, line, 0, prefix.length);
+        System.arraycopy(json, 0, line, prefix.length, json.length);
+        line[line.length - 1] = '\n';
+        return line;
+    }
+
+    // ---- recovery and cleanup ----
+
+    // callers hold writeLock; returns the highest sequence number found
+    private long recover(Path segment, long checkpoint) {
+        long last = 0;
+        try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                EnquiryLogRecord record = decode(line);
+                if (record == null) {
+                    // A torn last line from a crash mid-write, or a damaged one
+                    corrupt.incrementAndGet();
+                    log.error("Enquiry log {}: skipping unreadable line after seq {}", segment.getFileName(), last);
+                    continue;
+                }
+                last = Math.max(last, record.seq());
+                if (record.seq() > checkpoint) {
+                    pending.addLast(record);
+                    recovered.incrementAndGet();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read enquiry log segment " + segment, e);
+        }
+        return last;
+    }
+
+    private EnquiryLogRecord decode(String line) {
+        int space = line.indexOf(' ');
+        if (space != 8) return null;
+        byte[] json = line.substring(space + 1).getBytes(StandardCharsets.UTF_8);
+        try {
+            if (Long.parseLong(line.substring(0, space), 16) != crc(json)) return null;
+            return objectMapper.readValue(json, EnquiryLogRecord.class);
+        } catch (NumberFormatException | JacksonException e) {
+            return null;
+        }
+    }
+
+    // callers hold writeLock; a segment is done once the next one starts at or below appliedSeq + 1
+    private void deleteAppliedSegments(long appliedSeq) {
+        Iterator<Map.Entry<Long, Path>> it = segments.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, Path> entry = it.next();
+            Long next = segments.higherKey(entry.getKey());
+            if (next == null || next - 1 > appliedSeq) break;
+            try {
+                Files.deleteIfExists(entry.getValue());
+                it.remove();
+            } catch (IOException e) {
+                log.warn("Could not delete applied enquiry log segment {}", entry.getValue(), e);
+                break;
+            }
+        }
+    }
+
+    private List<Path> listSegments() {
+        if (!Files.isDirectory(directory)) return List.of();
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> p.getFileName().toString().matches("\\d{20}\\" + SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list enquiry log segments in " + directory, e);
+        }
+    }
+
+    private static long firstSeq(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static long crc(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,15 @@
+// src/main/java/com/epr/ingest/EnquiryLogRecord.java
+package com.epr.ingest;
+
+import com.epr.dto.admin.enquiry.EnquiryRequestDto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One accepted enquiry as written to the enquiry log. seq is assigned by the log in append order;
+ * uuid is the one returned to the client and used for the row if the enquiry is not merged into
+ * an existing one.
+ */
+public record EnquiryLogRecord(long seq, String uuid, LocalDateTime receivedAt, String ipAddress, String url,
+                               EnquiryRequestDto enquiry) {
+}
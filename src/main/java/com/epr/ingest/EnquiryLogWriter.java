@@ -0,0 +1,177 @@
+// src/main/java/com/epr/ingest/EnquiryLogWriter.java
+package com.epr.ingest;
+
+import com.epr.entity.IngestCheckpoint;
+import com.epr.repository.IngestCheckpointRepository;
+import com.epr.service.EnquiryService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background writer for the {@link EnquiryLog}: applies durable records to the enquiries table in
+ * batches of app.enquiry-log.batch-size, one transaction per batch, and saves the checkpoint in
+ * that same transaction so a batch is applied exactly once even if the process dies right after.
+ *
+ * Runs on a thread of its own every app.enquiry-log.drain-interval-ms, not on the shared @Scheduled
+ * thread: a burst of enquiries must not hold up the other scheduled jobs, nor a slow sitemap rebuild
+ * hold up the enquiries until the log is full.
+ *
+ * Each node has its own log, so the checkpoint is named after the log's id ("enquiry-log:<id>").
+ *
+ * If the database is unreachable the batch stays queued (and on disk) and is retried on the next
+ * run. A batch failing for any other reason is retried one record at a time; a record the
+ * database still refuses is moved to the log's rejected file and skipped.
+ */
+@Component
+public class EnquiryLogWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(EnquiryLogWriter.class);
+
+    static final String CHECKPOINT_PREFIX = "enquiry-log:";
+    // Shared by all nodes before checkpoints were per log; only read until a log has its own
+    static final String LEGACY_CHECKPOINT = "enquiry-log";
+
+    private final EnquiryLog enquiryLog;
+    private final EnquiryService enquiryService;
+    private final IngestCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final boolean enabled;
+    private final long drainIntervalMs;
+    private ScheduledExecutorService executor;
+    private String checkpointName;
+
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+
+    public EnquiryLogWriter(EnquiryLog enquiryLog, EnquiryService enquiryService,
+                            IngestCheckpointRepository checkpointRepository, TransactionTemplate transactionTemplate,
+                            @Value("${app.enquiry-log.batch-size:200}") int batchSize,
+                            @Value("${app.enquiry-log.enabled:false}") boolean enabled,
+                            @Value("${app.enquiry-log.drain-interval-ms:200}") long drainIntervalMs) {
+        this.enquiryLog = enquiryLog;
+        this.enquiryService = enquiryService;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.enabled = enabled;
+        this.drainIntervalMs = Math.max(1, drainIntervalMs);
+    }
+
+    // Replays whatever a previous run accepted but did not apply, also when the log is switched off now;
+    // with the log off and nothing left behind, nothing is created on disk
+    @PostConstruct
+    public void recover() {
+        if (!enabled && !enquiryLog.hasSegments()) return;
+        checkpointName = CHECKPOINT_PREFIX + enquiryLog.logId();
+        long checkpoint = checkpointRepository.findById(checkpointName)
+                .or(() -> checkpointRepository.findById(LEGACY_CHECKPOINT))
+                .map(IngestCheckpoint::getPosition)
+                .orElse(0L);
+        enquiryLog.open(checkpoint);
+
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "enquiry-log-writer");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleWithFixedDelay(this::drainQuietly, drainIntervalMs, drainIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void drain() {
+        List<EnquiryLogRecord> batch;
+        while (!(batch = enquiryLog.durableBatch(batchSize)).isEmpty()) {
+            try {
+                apply(batch);
+            } catch (RuntimeException e) {
+                failedBatches.incrementAndGet();
+                if (isTransient(e)) {
+                    log.warn("Enquiry log: database unavailable, {} enquiries wait for the next run", batch.size(), e);
+                    return;
+                }
+                log.error("Enquiry log: batch of {} failed, applying one at a time", batch.size(), e);
+                if (!applyOneByOne(batch)) return;
+            }
+        }
+    }
+
+    // An exception escaping a scheduled run would cancel all later runs
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.error("Enquiry log: drain failed, retrying on the next run", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (executor == null) return;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        drain();
+        log.info("Enquiry log drained on shutdown ({} enquiries applied in total)", applied.get());
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>(enquiryLog.metrics());
+        metrics.put("applied", applied.get());
+        metrics.put("batches", batches.get());
+        metrics.put("failedBatches", failedBatches.get());
+        return metrics;
+    }
+
+    private void apply(List<EnquiryLogRecord> records) {
+        long upTo = records.get(records.size() - 1).seq();
+        transactionTemplate.executeWithoutResult(status -> {
+            enquiryService.applyLogged(records);
+            checkpointRepository.save(new IngestCheckpoint(checkpointName, upTo, LocalDateTime.now()));
+        });
+        enquiryLog.applied(upTo);
+        applied.addAndGet(records.size());
+        batches.incrementAndGet();
+    }
+
+    // false when the database went away meanwhile
+    private boolean applyOneByOne(List<EnquiryLogRecord> records) {
+        for (EnquiryLogRecord record : records) {
+            try {
+                apply(List.of(record));
+            } catch (RuntimeException e) {
+                if (isTransient(e)) return false;
+                log.error("Enquiry log: enquiry {} rejected by the database", record.uuid(), e);
+                enquiryLog.reject(record, String.valueOf(e.getMessage()));
+                transactionTemplate.executeWithoutResult(status -> checkpointRepository.save(
+                        new IngestCheckpoint(checkpointName, record.seq(), LocalDateTime.now())));
+                enquiryLog.applied(record.seq());
+            }
+        }
+        return true;
+    }
+
+    private static boolean isTransient(Throwable e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+}
@@ -2,24 +2,51 @@
 package com.epr.repository;
 
 import com.epr.entity.Blogs;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.epr.repository.projection.BlogCardRow;
+import com.epr.repository.projection.BlogSearchRow;
+import com.epr.repository.projection.BlogServiceLink;
+import com.epr.repository.projection.PlacementCountRow;
+import com.epr.repository.projection.SitemapUrlRow;
+import com.epr.repository.projection.SlugRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BlogRepository extends JpaRepository<Blogs, Long> {
 
+    // Rows per round trip for the streamed full listings (MySQL honours it with useCursorFetch=true)
+    String STREAM_FETCH_SIZE = "200";
+
     /* ==================== ADMIN QUERIES (already existed) ==================== */
     Optional<Blogs> findByIdAndDeleteStatus(Long id, int deleteStatus);
 
+    @EntityGraph(attributePaths = {"category", "subcategory"})
     List<Blogs> findAllByDeleteStatus(int deleteStatus);
 
+    /**
+     * Admin full listing read through a cursor; entities are read-only and must be consumed
+     * (and closed) inside a transaction
+     */
+    @EntityGraph(attributePaths = {"category", "subcategory"})
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Blogs b WHERE b.deleteStatus = :deleteStatus ORDER BY b.id")
+    Stream<Blogs> streamAllByDeleteStatus(@Param("deleteStatus") int deleteStatus);
+
+    @EntityGraph(attributePaths = {"category", "subcategory"})
     @Query("SELECT b FROM Blogs b WHERE b.deleteStatus = 2 " +
             "AND (LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
             "OR LOWER(b.summary) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
@@ -33,63 +60,77 @@ public interface BlogRepository extends JpaRepository<Blogs, Long> {
     boolean existsBySlugIgnoreCaseAndIdNot(String slug, Long id);
 
     /* ==================== PUBLIC / CUSTOMER QUERIES ==================== */
+    // Public lists are served from PublicBlogCatalogue, which is loaded from these card projections.
+    // They never select the LONGTEXT description; the full blog is read by id on the slug endpoint.
 
-    /**
-     * Find blog by slug (case-insensitive) + must be active + visible
-     */
-    @Query("SELECT b FROM Blogs b WHERE LOWER(b.slug) = LOWER(:slug) " +
-            "AND b.deleteStatus = 2 AND b.displayStatus = 1")
-    Optional<Blogs> findBySlugIgnoreCaseAndDeleteStatusAndDisplayStatus(
-            @Param("slug") String slug, int deleteStatus, int displayStatus);
+    String CARD_SELECT = "SELECT new com.epr.repository.projection.BlogCardRow(" +
+            "b.id, b.title, b.slug, b.image, b.summary, b.postDate, b.postedByName, b.visited, b.showHomeStatus, b.searchKeyword, " +
+            "c.id, c.name, c.slug, sc.id, sc.name, sc.slug) " +
+            "FROM Blogs b LEFT JOIN b.category c LEFT JOIN b.subcategory sc ";
 
     /**
-     * All public visible blogs (deleteStatus=2, displayStatus=1)
+     * All public visible blogs (deleteStatus=2, displayStatus=1) as cards
      */
-    @Query("SELECT b FROM Blogs b WHERE b.deleteStatus = 2 AND b.displayStatus = 1 " +
-            "ORDER BY b.postDate DESC")
-    List<Blogs> findAllByDeleteStatusAndDisplayStatus(int deleteStatus, int displayStatus);
+    @Query(CARD_SELECT + "WHERE b.deleteStatus = 2 AND b.displayStatus = 1 " +
+            "ORDER BY b.postDate DESC, b.id DESC")
+    List<BlogCardRow> findPublicCards();
 
     /**
-     * Latest N public blogs (for /latest endpoint)
+     * Text of every public blog for the search index (read once at startup and on taxonomy reloads)
      */
-    @Query("SELECT b FROM Blogs b WHERE b.deleteStatus = 2 AND b.displayStatus = 1 " +
-            "ORDER BY b.postDate DESC")
-    Page<Blogs> findLatestPublicBlogs(Pageable pageable);
+    @Query("SELECT new com.epr.repository.projection.BlogSearchRow(b.id, b.description, b.searchKeyword, b.metaKeyword) " +
+            "FROM Blogs b WHERE b.deleteStatus = 2 AND b.displayStatus = 1")
+    List<BlogSearchRow> findPublicSearchRows();
 
     /**
-     * Blogs by Category ID
+     * Full public blog for the slug detail endpoint
      */
-    @Query("SELECT b FROM Blogs b WHERE b.category.id = :categoryId " +
-            "AND b.deleteStatus = 2 AND b.displayStatus = 1 " +
-            "ORDER BY b.postDate DESC")
-    List<Blogs> findByCategoryIdAndDeleteStatusAndDisplayStatus(
-            @Param("categoryId") Long categoryId, int deleteStatus, int displayStatus);
+    @EntityGraph(attributePaths = {"category", "subcategory"})
+    @Query("SELECT b FROM Blogs b WHERE b.id = :id AND b.deleteStatus = 2 AND b.displayStatus = 1")
+    Optional<Blogs> findPublicById(@Param("id") Long id);
 
     /**
-     * Blogs by Subcategory ID
+     * Service links for a batch of blogs in one query (replaces lazy Blogs.services per row)
      */
-    @Query("SELECT b FROM Blogs b WHERE b.subcategory.id = :subcategoryId " +
-            "AND b.deleteStatus = 2 AND b.displayStatus = 1 " +
-            "ORDER BY b.postDate DESC")
-    List<Blogs> findBySubcategoryIdAndDeleteStatusAndDisplayStatus(
-            @Param("subcategoryId") Long subcategoryId, int deleteStatus, int displayStatus);
+    @Query("SELECT new com.epr.repository.projection.BlogServiceLink(b.id, s.id, s.title) " +
+            "FROM Blogs b JOIN b.services s WHERE b.id IN :blogIds")
+    List<BlogServiceLink> findServiceLinksByBlogIds(@Param("blogIds") Collection<Long> blogIds);
 
     /**
-     * Featured blogs (showHomeStatus = 1)
+     * Public blog counts per (category, subcategory) for the navigation tree
      */
-    @Query("SELECT b FROM Blogs b WHERE b.showHomeStatus = :showHome " +
-            "AND b.deleteStatus = 2 AND b.displayStatus = 1 " +
-            "ORDER BY b.postDate DESC")
-    List<Blogs> findByShowHomeStatusAndDeleteStatusAndDisplayStatus(
-            @Param("showHome") int showHomeStatus, int deleteStatus, int displayStatus);
+    @Query("SELECT new com.epr.repository.projection.PlacementCountRow(b.category.id, b.subcategory.id, COUNT(b)) " +
+            "FROM Blogs b WHERE b.deleteStatus = 2 AND b.displayStatus = 1 " +
+            "GROUP BY b.category.id, b.subcategory.id")
+    List<PlacementCountRow> countPublicByPlacement();
 
+    /* ==================== SITEMAP (streamed, must be consumed inside a transaction) ==================== */
 
-    @Query("SELECT b FROM Blogs b JOIN b.services s " +
-            "WHERE s.id = :serviceId " +
-            "AND b.deleteStatus = 2 AND b.displayStatus = 1 " +
-            "ORDER BY b.postDate DESC")
-    List<Blogs> findPublicByServiceId(@Param("serviceId") Long serviceId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new com.epr.repository.projection.SitemapUrlRow(b.slug, COALESCE(b.modifyDate, b.postDate)) " +
+            "FROM Blogs b WHERE b.deleteStatus = 2 AND b.displayStatus = 1 ORDER BY b.id")
+    Stream<SitemapUrlRow> streamSitemapRows();
 
-
-
-}
\ No newline at end of file
+    /**
+     * Authors of public blogs by user slug; an author page changes when any of their blogs does
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new com.epr.repository.projection.SitemapUrlRow(u.slug, MAX(COALESCE(b.modifyDate, b.postDate))) " +
+            "FROM Blogs b JOIN User u ON u.uuid = b.postedByUuid " +
+            "WHERE b.deleteStatus = 2 AND b.displayStatus = 1 AND u.deleteStatus = 2 AND u.slug IS NOT NULL " +
+            "GROUP BY u.slug ORDER BY u.slug")
+    Stream<SitemapUrlRow> streamAuthorSitemapRows();
+
+    /* ==================== BULK IMPORT ==================== */
+    // Each takes a whole import chunk; slugs are stored lower case
+
+    @Query("SELECT b.slug FROM Blogs b WHERE b.slug IN :slugs")
+    List<String> findExistingSlugs(@Param("slugs") Collection<String> slugs);
+
+    @Query("SELECT LOWER(b.title) FROM Blogs b WHERE LOWER(b.title) IN :titles")
+    List<String> findExistingTitles(@Param("titles") Collection<String> lowerCaseTitles);
+
+    @Query("SELECT new com.epr.repository.projection.SlugRow(b.id, b.slug) " +
+            "FROM Blogs b WHERE b.slug IN :slugs AND b.deleteStatus = 2")
+    List<SlugRow> findActiveSlugRows(@Param("slugs") Collection<String> slugs);
+}
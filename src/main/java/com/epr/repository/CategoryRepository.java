@@ -1,12 +1,16 @@
 package com.epr.repository;
 
 import com.epr.entity.Category;
+import com.epr.repository.projection.NavigationCategoryRow;
+import com.epr.repository.projection.SitemapUrlRow;
+import com.epr.repository.projection.SlugRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
@@ -24,4 +28,22 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     boolean existsBySlugIgnoreCaseAndIdNot(@Param("slug") String slug, @Param("id") Long id);
 
     List<Category> findByDeleteStatus(int deleteStatus);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.epr.repository.projection.NavigationCategoryRow(c.id, c.name, c.slug, c.icon) " +
+            "FROM Category c WHERE c.deleteStatus = 2 AND c.displayStatus = 1")
+    List<NavigationCategoryRow> findNavigationRows();
+
+    // Categories featured on the home page (showHomeStatus = 1)
+    @Query("SELECT new com.epr.repository.projection.NavigationCategoryRow(c.id, c.name, c.slug, c.icon) " +
+            "FROM Category c WHERE c.deleteStatus = 2 AND c.displayStatus = 1 AND c.showHomeStatus = 1 ORDER BY c.name")
+    List<NavigationCategoryRow> findHomeRows();
+
+    // Sitemap rows; must be consumed inside a transaction
+    @Query("SELECT new com.epr.repository.projection.SitemapUrlRow(c.slug, COALESCE(c.modifyDate, c.postDate)) " +
+            "FROM Category c WHERE c.deleteStatus = 2 AND c.displayStatus = 1 ORDER BY c.id")
+    Stream<SitemapUrlRow> streamSitemapRows();
+
+    // Bulk import lookup
+    @Query("SELECT new com.epr.repository.projection.SlugRow(c.id, c.slug) FROM Category c WHERE c.deleteStatus = 2")
+    List<SlugRow> findActiveSlugRows();
+}
@@ -0,0 +1,12 @@
+// src/main/java/com/epr/repository/EnquiryBlockerRepository.java
+package com.epr.repository;
+
+import com.epr.entity.EnquiryBlocker;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface EnquiryBlockerRepository extends JpaRepository<EnquiryBlocker, Long> {
+
+    List<EnquiryBlocker> findAllByOrderByIdDesc();
+}
@@ -1,20 +1,43 @@
     package com.epr.repository;
     import com.epr.entity.Enquiry;
+    import com.epr.repository.projection.ContactRow;
+    import org.springframework.data.domain.Pageable;
     import org.springframework.data.jpa.repository.JpaRepository;
+    import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+    import org.springframework.data.jpa.repository.Query;
+    import org.springframework.data.repository.query.Param;
 
+    import java.util.Collection;
     import java.util.List;
     import java.util.Optional;
+    import java.util.stream.Stream;
 
 
-    public interface EnquiryRepository extends JpaRepository<Enquiry, Long> {
+    public interface EnquiryRepository extends JpaRepository<Enquiry, Long>, JpaSpecificationExecutor<Enquiry> {
 
         Optional<Enquiry> findByIdAndDeleteStatus(Long id, int deleteStatus);
 
         List<Enquiry> findByDeleteStatusOrderByIdDesc(int deleteStatus);
 
-        Optional<Enquiry> findByEmailAndDeleteStatus(String email, int deleteStatus);
+        // Oldest first, for contacts stored more than once before the keys were normalized
+        Optional<Enquiry> findFirstByEmailKeyAndDeleteStatusOrderByIdAsc(String emailKey, int deleteStatus);
 
-        Optional<Enquiry> findByMobileAndDeleteStatus(String mobile, int deleteStatus);
+        Optional<Enquiry> findFirstByMobileKeyAndDeleteStatusOrderByIdAsc(String mobileKey, int deleteStatus);
+
+        List<Enquiry> findByEmailKeyInAndDeleteStatusOrderByIdAsc(Collection<String> emailKeys, int deleteStatus);
+
+        List<Enquiry> findByMobileKeyInAndDeleteStatusOrderByIdAsc(Collection<String> mobileKeys, int deleteStatus);
+
+        long countByDeleteStatus(int deleteStatus);
+
+        @Query("SELECT new com.epr.repository.projection.ContactRow(e.id, e.emailKey, e.mobileKey) " +
+                "FROM Enquiry e WHERE e.deleteStatus = 2 AND (e.emailKey IS NOT NULL OR e.mobileKey IS NOT NULL)")
+        Stream<ContactRow> streamActiveContactKeys();
+
+        // Rows stored before the keys existed, in id order from after
+        @Query("SELECT new com.epr.repository.projection.ContactRow(e.id, e.email, e.mobile) FROM Enquiry e " +
+                "WHERE e.id > :after AND e.emailKey IS NULL AND e.mobileKey IS NULL ORDER BY e.id")
+        List<ContactRow> findRowsWithoutContactKeys(@Param("after") Long after, Pageable pageable);
 
 
     }
\ No newline at end of file
@@ -0,0 +1,8 @@
+// src/main/java/com/epr/repository/IngestCheckpointRepository.java
+package com.epr.repository;
+
+import com.epr.entity.IngestCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface IngestCheckpointRepository extends JpaRepository<IngestCheckpoint, String> {
+}
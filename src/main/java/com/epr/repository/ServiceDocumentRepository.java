@@ -0,0 +1,20 @@
+// src/main/java/com/epr/repository/ServiceDocumentRepository.java
+package com.epr.repository;
+
+import com.epr.entity.ServiceDocument;
+import com.epr.repository.projection.ServiceDocumentRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ServiceDocumentRepository extends JpaRepository<ServiceDocument, Long> {
+
+    // Public service page (displayStatus is stored as a string on this table)
+    @Query("SELECT new com.epr.repository.projection.ServiceDocumentRow(" +
+            "d.id, d.documentName, d.description, d.sampleLink, d.downloadLink, d.format, d.isMandatory, d.displayOrder) " +
+            "FROM ServiceDocument d WHERE d.service.id = :serviceId AND d.deleteStatus = 2 AND d.displayStatus = '1' " +
+            "ORDER BY d.displayOrder ASC, d.id ASC")
+    List<ServiceDocumentRow> findPublicRowsByServiceId(@Param("serviceId") Long serviceId);
+}
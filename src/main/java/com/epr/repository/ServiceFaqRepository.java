@@ -2,6 +2,7 @@
 package com.epr.repository;
 
 import com.epr.entity.ServiceFaq;
+import com.epr.repository.projection.ServiceFaqRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,4 +23,10 @@ public interface ServiceFaqRepository extends JpaRepository<ServiceFaq, Long> {
             @Param("question") String question,
             @Param("serviceId") Long serviceId,
             @Param("id") Long id);
-}
\ No newline at end of file
+
+    // Public service page
+    @Query("SELECT new com.epr.repository.projection.ServiceFaqRow(f.id, f.question, f.answer, f.displayOrder) " +
+            "FROM ServiceFaq f WHERE f.service.id = :serviceId AND f.deleteStatus = 2 AND f.displayStatus = 1 " +
+            "ORDER BY f.displayOrder ASC, f.id ASC")
+    List<ServiceFaqRow> findPublicRowsByServiceId(@Param("serviceId") Long serviceId);
+}
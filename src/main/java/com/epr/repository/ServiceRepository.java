@@ -2,22 +2,38 @@
 package com.epr.repository;
 
 import com.epr.entity.Services;
+import com.epr.repository.projection.PlacementCountRow;
+import com.epr.repository.projection.ServiceCardRow;
+import com.epr.repository.projection.ServiceSearchRow;
+import com.epr.repository.projection.SitemapUrlRow;
+import com.epr.repository.projection.SlugRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 @Repository
 public interface ServiceRepository extends JpaRepository<Services, Long> {
 
+    @EntityGraph(attributePaths = {"category", "subcategory"})
     @Query("SELECT s FROM Services s WHERE s.id = :id AND s.deleteStatus = 2")
     Optional<Services> findActiveById(@Param("id") Long id);
 
+    @EntityGraph(attributePaths = {"category", "subcategory"})
     @Query("SELECT s FROM Services s WHERE s.deleteStatus = 2 ORDER BY s.postDate DESC")
     List<Services> findAllActiveServices();
 
+    @EntityGraph(attributePaths = {"category", "subcategory"})
     @Query("SELECT s FROM Services s WHERE s.deleteStatus = 2 " +
             "AND (LOWER(s.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
             "OR LOWER(s.shortDescription) LIKE LOWER(CONCAT('%', :keyword, '%')))" +
@@ -39,32 +55,88 @@ public interface ServiceRepository extends JpaRepository<Services, Long> {
 
 
 
-    Optional<Services> findBySlugIgnoreCaseAndDeleteStatusAndDisplayStatus(
+    // Slugs are stored lower case, so plain equality and the unique slug index apply
+    @EntityGraph(attributePaths = {"category", "subcategory"})
+    Optional<Services> findBySlugAndDeleteStatusAndDisplayStatus(
             String slug, int deleteStatus, int displayStatus);
 
-    @Query("SELECT s FROM Services s WHERE s.category.id = :categoryId " +
+    /**
+     * Full public service by primary key, for slugs resolved through the SlugIndex
+     */
+    @EntityGraph(attributePaths = {"category", "subcategory"})
+    @Query("SELECT s FROM Services s WHERE s.id = :id AND s.deleteStatus = 2 AND s.displayStatus = 1")
+    Optional<Services> findPublicById(@Param("id") Long id);
+
+    @Query("SELECT new com.epr.repository.projection.SlugRow(s.id, s.slug) " +
+            "FROM Services s WHERE s.deleteStatus = 2 AND s.displayStatus = 1")
+    List<SlugRow> findPublicSlugRows();
+
+    /* ==================== PUBLIC LIST CARDS ==================== */
+    // List endpoints select only card columns, never the LONGTEXT fullDescription;
+    // the full service is read on the slug endpoint only.
+
+    String CARD_SELECT = "SELECT new com.epr.repository.projection.ServiceCardRow(" +
+            "s.id, s.title, s.slug, s.shortDescription, s.thumbnail, s.bannerImage, s.postDate, s.visited, " +
+            "c.id, c.name, c.slug, sc.id, sc.name, sc.slug) " +
+            "FROM Services s LEFT JOIN s.category c LEFT JOIN s.subcategory sc ";
+
+    @Query(CARD_SELECT + "WHERE s.deleteStatus = 2 AND s.displayStatus = 1 " +
+            "ORDER BY s.postDate DESC, s.id DESC")
+    List<ServiceCardRow> findPublicCards();
+
+    /**
+     * Same rows as findPublicCards, read through a cursor for the streamed full listing.
+     * Must be consumed (and closed) inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = BlogRepository.STREAM_FETCH_SIZE))
+    @Query(CARD_SELECT + "WHERE s.deleteStatus = 2 AND s.displayStatus = 1 " +
+            "ORDER BY s.postDate DESC, s.id DESC")
+    Stream<ServiceCardRow> streamPublicCards();
+
+    // Sitemap rows, streamed like streamPublicCards
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = BlogRepository.STREAM_FETCH_SIZE))
+    @Query("SELECT new com.epr.repository.projection.SitemapUrlRow(s.slug, COALESCE(s.modifyDate, s.postDate)) " +
+            "FROM Services s WHERE s.deleteStatus = 2 AND s.displayStatus = 1 ORDER BY s.id")
+    Stream<SitemapUrlRow> streamSitemapRows();
+
+    @Query(CARD_SELECT + "WHERE s.category.id = :categoryId " +
             "AND s.deleteStatus = :deleteStatus AND s.displayStatus = :displayStatus")
-    List<Services> findByCategoryIdAndDeleteStatusAndDisplayStatus(
+    List<ServiceCardRow> findByCategoryIdAndDeleteStatusAndDisplayStatus(
             @Param("categoryId") Long categoryId,
             @Param("deleteStatus") int deleteStatus,
             @Param("displayStatus") int displayStatus);
 
-    @Query("SELECT s FROM Services s WHERE s.showHomeStatus = :showHome " +
+    @Query(CARD_SELECT + "WHERE s.showHomeStatus = :showHome " +
             "AND s.deleteStatus = :deleteStatus AND s.displayStatus = :displayStatus " +
             "ORDER BY s.postDate DESC")
-    List<Services> findByShowHomeStatusAndDeleteStatusAndDisplayStatus(
+    List<ServiceCardRow> findByShowHomeStatusAndDeleteStatusAndDisplayStatus(
             @Param("showHome") int showHomeStatus,
             @Param("deleteStatus") int deleteStatus,
             @Param("displayStatus") int displayStatus);
 
-    @Query("SELECT s FROM Services s WHERE s.deleteStatus = 2 AND s.displayStatus = 1 " +
-            "AND (LOWER(s.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(s.shortDescription) LIKE LOWER(CONCAT('%', :keyword, '%')))" +
-            "ORDER BY s.postDate DESC")
-    List<Services> searchActivePublicServices(@Param("keyword") String keyword);
+    // Search-only text of every public service, joined to findPublicCards by id when the search index loads
+    @Query("SELECT new com.epr.repository.projection.ServiceSearchRow(s.id, s.metaKeyword) " +
+            "FROM Services s WHERE s.deleteStatus = 2 AND s.displayStatus = 1")
+    List<ServiceSearchRow> findPublicSearchRows();
+
+    // Public service counts per (category, subcategory) for the navigation tree
+    @Query("SELECT new com.epr.repository.projection.PlacementCountRow(s.category.id, s.subcategory.id, COUNT(s)) " +
+            "FROM Services s WHERE s.deleteStatus = 2 AND s.displayStatus = 1 " +
+            "GROUP BY s.category.id, s.subcategory.id")
+    List<PlacementCountRow> countPublicByPlacement();
 
 
     // For subcategory
+    @Query(CARD_SELECT + "WHERE s.subcategory.id = :subcategoryId " +
+            "AND s.deleteStatus = :deleteStatus AND s.displayStatus = :displayStatus " +
+            "ORDER BY s.postDate DESC")
+    List<ServiceCardRow> findPublicCardsBySubcategoryId(
+            @Param("subcategoryId") Long subcategoryId,
+            @Param("deleteStatus") int deleteStatus,
+            @Param("displayStatus") int displayStatus);
+
+    // Admin listing of visible services in a subcategory (full entities)
+    @EntityGraph(attributePaths = {"category", "subcategory"})
     @Query("SELECT s FROM Services s WHERE s.subcategory.id = :subcategoryId " +
             "AND s.deleteStatus = :deleteStatus AND s.displayStatus = :displayStatus " +
             "ORDER BY s.postDate DESC")
@@ -73,13 +145,58 @@ public interface ServiceRepository extends JpaRepository<Services, Long> {
             @Param("deleteStatus") int deleteStatus,
             @Param("displayStatus") int displayStatus);
 
-    // For latest N services
-    @Query("SELECT s FROM Services s " +
+    // For latest N services; the Pageable carries the limit (LIMIT n on idx_services_public)
+    @Query(CARD_SELECT +
             "WHERE s.deleteStatus = 2 AND s.displayStatus = 1 " +
-            "ORDER BY s.postDate DESC")
-    List<Services> findTopNActiveAndVisibleServices(@Param("limit") int limit);
-
-
-
-
-}
\ No newline at end of file
+            "ORDER BY s.postDate DESC, s.id DESC")
+    List<ServiceCardRow> findTopNActiveAndVisibleServices(Pageable limit);
+
+    /* ==================== KEYSET PAGINATION (postDate DESC, id DESC) ==================== */
+    // First page and "after cursor" are separate queries so MySQL can seek on idx_services_public
+
+    @Query(CARD_SELECT + "WHERE s.deleteStatus = 2 AND s.displayStatus = 1 " +
+            "ORDER BY s.postDate DESC, s.id DESC")
+    List<ServiceCardRow> findPublicFirstPage(Pageable pageable);
+
+    @Query(CARD_SELECT + "WHERE s.deleteStatus = 2 AND s.displayStatus = 1 " +
+            "AND (s.postDate < :postDate OR (s.postDate = :postDate AND s.id < :id)) " +
+            "ORDER BY s.postDate DESC, s.id DESC")
+    List<ServiceCardRow> findPublicPageAfter(@Param("postDate") LocalDateTime postDate, @Param("id") Long id, Pageable pageable);
+
+    @Query(CARD_SELECT + "WHERE s.deleteStatus = 2 AND s.displayStatus = 1 " +
+            "AND s.category.id = :categoryId " +
+            "ORDER BY s.postDate DESC, s.id DESC")
+    List<ServiceCardRow> findPublicByCategoryIdFirstPage(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query(CARD_SELECT + "WHERE s.deleteStatus = 2 AND s.displayStatus = 1 " +
+            "AND s.category.id = :categoryId " +
+            "AND (s.postDate < :postDate OR (s.postDate = :postDate AND s.id < :id)) " +
+            "ORDER BY s.postDate DESC, s.id DESC")
+    List<ServiceCardRow> findPublicByCategoryIdPageAfter(@Param("categoryId") Long categoryId,
+                                                   @Param("postDate") LocalDateTime postDate, @Param("id") Long id, Pageable pageable);
+
+    @Query(CARD_SELECT + "WHERE s.deleteStatus = 2 AND s.displayStatus = 1 " +
+            "AND s.subcategory.id = :subcategoryId " +
+            "ORDER BY s.postDate DESC, s.id DESC")
+    List<ServiceCardRow> findPublicBySubcategoryIdFirstPage(@Param("subcategoryId") Long subcategoryId, Pageable pageable);
+
+    @Query(CARD_SELECT + "WHERE s.deleteStatus = 2 AND s.displayStatus = 1 " +
+            "AND s.subcategory.id = :subcategoryId " +
+            "AND (s.postDate < :postDate OR (s.postDate = :postDate AND s.id < :id)) " +
+            "ORDER BY s.postDate DESC, s.id DESC")
+    List<ServiceCardRow> findPublicBySubcategoryIdPageAfter(@Param("subcategoryId") Long subcategoryId,
+                                                      @Param("postDate") LocalDateTime postDate, @Param("id") Long id, Pageable pageable);
+
+    /* ==================== BULK IMPORT ==================== */
+    // Each takes a whole import chunk; slugs are stored lower case
+
+    @Query("SELECT s.slug FROM Services s WHERE s.slug IN :slugs")
+    List<String> findExistingSlugs(@Param("slugs") Collection<String> slugs);
+
+    @Query("SELECT LOWER(s.title) FROM Services s WHERE LOWER(s.title) IN :titles")
+    List<String> findExistingTitles(@Param("titles") Collection<String> lowerCaseTitles);
+
+    @Query("SELECT new com.epr.repository.projection.SlugRow(s.id, s.slug) " +
+            "FROM Services s WHERE s.slug IN :slugs AND s.deleteStatus = 2")
+    List<SlugRow> findActiveSlugRows(@Param("slugs") Collection<String> slugs);
+}
@@ -2,10 +2,13 @@
 package com.epr.repository;
 
 import com.epr.entity.ServiceSection;
+import com.epr.repository.projection.ServiceSectionCardRow;
+import com.epr.repository.projection.ServiceSectionRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +24,17 @@ public interface ServiceSectionRepository extends JpaRepository<ServiceSection,
     boolean existsByTabNameIgnoreCaseAndServiceIdAndIdNot(@Param("tabName") String tabName,
                                                           @Param("serviceId") Long serviceId,
                                                           @Param("id") Long id);
-}
\ No newline at end of file
+
+    /* ==================== PUBLIC SERVICE PAGE ==================== */
+    // Sections of one service, then the cards of all of them in one IN query
+
+    @Query("SELECT new com.epr.repository.projection.ServiceSectionRow(s.id, s.tabName, s.title, s.description, s.displayOrder) " +
+            "FROM ServiceSection s WHERE s.service.id = :serviceId AND s.deleteStatus = 2 AND s.displayStatus = 1 " +
+            "ORDER BY s.displayOrder ASC, s.id ASC")
+    List<ServiceSectionRow> findPublicRowsByServiceId(@Param("serviceId") Long serviceId);
+
+    @Query("SELECT new com.epr.repository.projection.ServiceSectionCardRow(c.id, c.section.id, c.title, c.description, c.icon) " +
+            "FROM ServiceSectionCard c WHERE c.section.id IN :sectionIds AND c.deleteStatus = 2 " +
+            "ORDER BY c.id ASC")
+    List<ServiceSectionCardRow> findPublicCardRowsBySectionIds(@Param("sectionIds") Collection<Long> sectionIds);
+}
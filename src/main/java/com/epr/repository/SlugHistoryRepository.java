@@ -0,0 +1,47 @@
+// src/main/java/com/epr/repository/SlugHistoryRepository.java
+package com.epr.repository;
+
+import com.epr.entity.SlugHistory;
+import com.epr.repository.projection.SlugRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SlugHistoryRepository extends JpaRepository<SlugHistory, Long> {
+
+    @Query("SELECT new com.epr.repository.projection.SlugRow(h.contentId, h.oldSlug) " +
+            "FROM SlugHistory h WHERE h.contentType = :contentType")
+    List<SlugRow> findRows(@Param("contentType") SlugHistory.ContentType contentType);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM SlugHistory h WHERE h.contentType = :contentType AND h.oldSlug = :slug")
+    int deleteSlug(@Param("contentType") SlugHistory.ContentType contentType, @Param("slug") String slug);
+
+    // Bulk import: slugs published by the import stop redirecting
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM SlugHistory h WHERE h.contentType = :contentType AND h.oldSlug IN :slugs")
+    int deleteSlugs(@Param("contentType") SlugHistory.ContentType contentType, @Param("slugs") Collection<String> slugs);
+
+    /**
+     * Records that contentId moved off oldSlug (null on create) onto newSlug. A slug that is live
+     * again stops redirecting, and an old slug last used by other content now points here.
+     */
+    default void recordMove(SlugHistory.ContentType contentType, Long contentId, String oldSlug, String newSlug,
+                            LocalDateTime now) {
+        deleteSlug(contentType, newSlug);
+        if (oldSlug == null || oldSlug.equalsIgnoreCase(newSlug)) return;
+
+        deleteSlug(contentType, oldSlug);
+        SlugHistory history = new SlugHistory();
+        history.setContentType(contentType);
+        history.setOldSlug(oldSlug.toLowerCase());
+        history.setContentId(contentId);
+        history.setCreatedDate(now);
+        save(history);
+    }
+}
@@ -1,6 +1,9 @@
 package com.epr.repository;
 
 import com.epr.entity.Subcategory;
+import com.epr.repository.projection.NavigationSubcategoryRow;
+import com.epr.repository.projection.SitemapUrlRow;
+import com.epr.repository.projection.SubcategorySlugRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -8,6 +11,7 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 
 @Repository
@@ -28,4 +32,18 @@ public interface SubcategoryRepository extends JpaRepository<Subcategory, Long>
     List<Subcategory> findByDeleteStatus(int deleteStatus);
 
     List<Subcategory> findByCategoryIdAndDeleteStatus(Long categoryId, int deleteStatus);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.epr.repository.projection.NavigationSubcategoryRow(s.id, s.category.id, s.name, s.slug) " +
+            "FROM Subcategory s WHERE s.deleteStatus = 2 AND s.displayStatus = 1")
+    List<NavigationSubcategoryRow> findNavigationRows();
+
+    // Sitemap rows; must be consumed inside a transaction
+    @Query("SELECT new com.epr.repository.projection.SitemapUrlRow(s.slug, COALESCE(s.modifyDate, s.postDate)) " +
+            "FROM Subcategory s WHERE s.deleteStatus = 2 AND s.displayStatus = 1 ORDER BY s.id")
+    Stream<SitemapUrlRow> streamSitemapRows();
+
+    // Bulk import lookup
+    @Query("SELECT new com.epr.repository.projection.SubcategorySlugRow(s.id, s.category.id, s.slug) " +
+            "FROM Subcategory s WHERE s.deleteStatus = 2")
+    List<SubcategorySlugRow> findActiveSlugRows();
+}
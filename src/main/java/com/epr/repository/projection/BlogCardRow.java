@@ -0,0 +1,25 @@
+// src/main/java/com/epr/repository/projection/BlogCardRow.java
+package com.epr.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Card columns of a blog plus its category/subcategory labels, selected without the LONGTEXT description.
+ */
+public record BlogCardRow(Long id,
+                          String title,
+                          String slug,
+                          String image,
+                          String summary,
+                          LocalDateTime postDate,
+                          String postedByName,
+                          long visited,
+                          Integer showHomeStatus,
+                          String searchKeyword,
+                          Long categoryId,
+                          String categoryName,
+                          String categorySlug,
+                          Long subcategoryId,
+                          String subcategoryName,
+                          String subcategorySlug) {
+}
@@ -0,0 +1,8 @@
+// src/main/java/com/epr/repository/projection/BlogSearchRow.java
+package com.epr.repository.projection;
+
+/**
+ * Blog text that is indexed for search but not part of the card (title and summary come from the card).
+ */
+public record BlogSearchRow(Long id, String description, String searchKeyword, String metaKeyword) {
+}
@@ -0,0 +1,8 @@
+// src/main/java/com/epr/repository/projection/BlogServiceLink.java
+package com.epr.repository.projection;
+
+/**
+ * One row of the service_blogs join, loaded in bulk instead of touching Blogs.services per blog.
+ */
+public record BlogServiceLink(Long blogId, Long serviceId, String serviceTitle) {
+}
@@ -0,0 +1,8 @@
+// src/main/java/com/epr/repository/projection/ContactRow.java
+package com.epr.repository.projection;
+
+/**
+ * An enquiry's contact fields as entered, or their normalized keys, depending on the query
+ */
+public record ContactRow(Long id, String email, String mobile) {
+}
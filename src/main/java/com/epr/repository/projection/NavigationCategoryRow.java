@@ -0,0 +1,8 @@
+// src/main/java/com/epr/repository/projection/NavigationCategoryRow.java
+package com.epr.repository.projection;
+
+/**
+ * A visible category as shown in the public navigation tree.
+ */
+public record NavigationCategoryRow(Long id, String name, String slug, String icon) {
+}
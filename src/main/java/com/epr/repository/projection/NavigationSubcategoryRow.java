@@ -0,0 +1,8 @@
+// src/main/java/com/epr/repository/projection/NavigationSubcategoryRow.java
+package com.epr.repository.projection;
+
+/**
+ * A visible subcategory as shown in the public navigation tree, under categoryId.
+ */
+public record NavigationSubcategoryRow(Long id, Long categoryId, String name, String slug) {
+}
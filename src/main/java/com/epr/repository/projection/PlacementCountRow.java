@@ -0,0 +1,8 @@
+// src/main/java/com/epr/repository/projection/PlacementCountRow.java
+package com.epr.repository.projection;
+
+/**
+ * Number of public blogs or services filed under one (category, subcategory) pair; subcategoryId may be null.
+ */
+public record PlacementCountRow(Long categoryId, Long subcategoryId, Long count) {
+}
@@ -0,0 +1,23 @@
+// src/main/java/com/epr/repository/projection/ServiceCardRow.java
+package com.epr.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Card columns of a service plus its category/subcategory labels, selected without fullDescription.
+ */
+public record ServiceCardRow(Long id,
+                             String title,
+                             String slug,
+                             String shortDescription,
+                             String thumbnail,
+                             String bannerImage,
+                             LocalDateTime postDate,
+                             Long visited,
+                             Long categoryId,
+                             String categoryName,
+                             String categorySlug,
+                             Long subcategoryId,
+                             String subcategoryName,
+                             String subcategorySlug) {
+}
@@ -0,0 +1,6 @@
+// src/main/java/com/epr/repository/projection/ServiceDocumentRow.java
+package com.epr.repository.projection;
+
+public record ServiceDocumentRow(Long id, String documentName, String description, String sampleLink,
+                                 String downloadLink, String format, Boolean mandatory, Integer displayOrder) {
+}
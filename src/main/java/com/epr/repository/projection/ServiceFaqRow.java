@@ -0,0 +1,5 @@
+// src/main/java/com/epr/repository/projection/ServiceFaqRow.java
+package com.epr.repository.projection;
+
+public record ServiceFaqRow(Long id, String question, String answer, Integer displayOrder) {
+}
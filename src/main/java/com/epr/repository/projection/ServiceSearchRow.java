@@ -0,0 +1,8 @@
+// src/main/java/com/epr/repository/projection/ServiceSearchRow.java
+package com.epr.repository.projection;
+
+/**
+ * Service text that is indexed for search but not part of the card (title and shortDescription come from the card).
+ */
+public record ServiceSearchRow(Long id, String metaKeyword) {
+}
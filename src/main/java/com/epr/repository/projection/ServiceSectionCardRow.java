@@ -0,0 +1,8 @@
+// src/main/java/com/epr/repository/projection/ServiceSectionCardRow.java
+package com.epr.repository.projection;
+
+/**
+ * One card of a service section, loaded for all sections of a page in a single IN query.
+ */
+public record ServiceSectionCardRow(Long id, Long sectionId, String title, String description, String icon) {
+}
@@ -0,0 +1,8 @@
+// src/main/java/com/epr/repository/projection/ServiceSectionRow.java
+package com.epr.repository.projection;
+
+/**
+ * One visible section of a public service page, read without touching its EAGER service reference.
+ */
+public record ServiceSectionRow(Long id, String tabName, String title, String description, String displayOrder) {
+}
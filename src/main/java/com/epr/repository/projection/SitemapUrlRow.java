@@ -0,0 +1,10 @@
+// src/main/java/com/epr/repository/projection/SitemapUrlRow.java
+package com.epr.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * One public page for the sitemap: the slug that goes into its URL and when it last changed.
+ */
+public record SitemapUrlRow(String slug, LocalDateTime lastModified) {
+}
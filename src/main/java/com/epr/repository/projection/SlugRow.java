@@ -0,0 +1,8 @@
+// src/main/java/com/epr/repository/projection/SlugRow.java
+package com.epr.repository.projection;
+
+/**
+ * A slug and the id of the blog or service it resolves to
+ */
+public record SlugRow(Long id, String slug) {
+}
@@ -0,0 +1,8 @@
+// src/main/java/com/epr/repository/projection/SubcategorySlugRow.java
+package com.epr.repository.projection;
+
+/**
+ * Active subcategory by slug, with the category it belongs to
+ */
+public record SubcategorySlugRow(Long id, Long categoryId, String slug) {
+}
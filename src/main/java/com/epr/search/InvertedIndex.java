@@ -0,0 +1,221 @@
+// src/main/java/com/epr/search/InvertedIndex.java
+package com.epr.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index with BM25 ranking.
+ *
+ * Postings live in a sorted term dictionary so a query term with no exact match (typically a
+ * half-typed last word) can be expanded to the indexed terms it prefixes. Field boosts are folded
+ * into term frequencies and document length. Reads share a read lock; upserts and removals take
+ * the write lock and only touch the postings of the affected document.
+ *
+ * A full load reads its documents outside the lock, so loads start with {@link #beginLoad} and
+ * every upsert or removal after that is replayed over the loaded documents before they go live.
+ */
+public class InvertedIndex<T> {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final int MAX_PREFIX_EXPANSIONS = 50;
+
+    public record Hit<T>(Long id, T payload, double score) {
+    }
+
+    private record Doc<T>(T payload, int length, Map<String, Integer> termFrequencies) {
+    }
+
+    // document is null for a removal
+    private record Change<T>(long seq, Long id, SearchDocument<T> document) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Doc<T>> docs = new HashMap<>();
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private long totalLength;
+    private volatile boolean loaded;
+
+    // guarded by the write lock; changes are kept while any load is running
+    private long changeSeq;
+    private int loadsRunning;
+    private final List<Change<T>> changesDuringLoad = new ArrayList<>();
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Call before reading the documents for {@link #replaceAll}; the returned mark is passed to it,
+     * or to {@link #abandonLoad} if the read fails
+     */
+    public long beginLoad() {
+        lock.writeLock().lock();
+        try {
+            loadsRunning++;
+            return changeSeq;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void abandonLoad() {
+        lock.writeLock().lock();
+        try {
+            endLoad();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes the loaded documents with every change since loadMark applied over them
+     */
+    public void replaceAll(long loadMark, Collection<SearchDocument<T>> documents) {
+        lock.writeLock().lock();
+        try {
+            Map<Long, SearchDocument<T>> byId = new LinkedHashMap<>();
+            for (SearchDocument<T> document : documents) byId.put(document.id(), document);
+            for (Change<T> change : changesDuringLoad) {
+                if (change.seq() <= loadMark) continue;
+                if (change.document() != null) byId.put(change.id(), change.document());
+                else byId.remove(change.id());
+            }
+            endLoad();
+
+            docs.clear();
+            postings.clear();
+            totalLength = 0;
+            byId.values().forEach(this::add);
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(SearchDocument<T> document) {
+        lock.writeLock().lock();
+        try {
+            record(document.id(), document);
+            if (!loaded) return; // the running or next full load picks it up
+            delete(document.id());
+            add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            record(id, null);
+            if (!loaded) return;
+            delete(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Documents matching any query term, best BM25 score first (ties: higher id first).
+     * limit <= 0 returns every match.
+     */
+    public List<Hit<T>> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(TextAnalyzer.analyze(query)));
+        if (terms.isEmpty()) return List.of();
+
+        lock.readLock().lock();
+        try {
+            int n = docs.size();
+            if (n == 0) return List.of();
+            double avgLength = (double) totalLength / n;
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                for (Map<Long, Integer> posting : postingsFor(term)) {
+                    double idf = Math.log(1 + (n - posting.size() + 0.5) / (posting.size() + 0.5));
+                    posting.forEach((id, tf) -> {
+                        double norm = K1 * (1 - B + B * docs.get(id).length() / avgLength);
+                        scores.merge(id, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                    });
+                }
+            }
+
+            Comparator<Map.Entry<Long, Double>> best = Map.Entry.<Long, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder()));
+            return scores.entrySet().stream()
+                    .sorted(best)
+                    .limit(limit > 0 ? limit : Long.MAX_VALUE)
+                    .map(e -> new Hit<>(e.getKey(), docs.get(e.getKey()).payload(), e.getValue()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Collection<Map<Long, Integer>> postingsFor(String term) {
+        Map<Long, Integer> exact = postings.get(term);
+        if (exact != null) return List.of(exact);
+        if (term.length() < MIN_PREFIX_LENGTH) return List.of();
+        return postings.subMap(term, true, term + Character.MAX_VALUE, false).values().stream()
+                .limit(MAX_PREFIX_EXPANSIONS)
+                .toList();
+    }
+
+    // Callers hold the write lock
+    private void record(Long id, SearchDocument<T> document) {
+        changeSeq++;
+        if (loadsRunning > 0) changesDuringLoad.add(new Change<>(changeSeq, id, document));
+    }
+
+    private void endLoad() {
+        if (loadsRunning > 0) loadsRunning--;
+        if (loadsRunning == 0) changesDuringLoad.clear();
+    }
+
+    private void add(SearchDocument<T> document) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (SearchDocument.Field field : document.fields()) {
+            for (String term : TextAnalyzer.analyze(field.text())) {
+                frequencies.merge(term, field.boost(), Integer::sum);
+                length += field.boost();
+            }
+        }
+        frequencies.forEach((term, tf) -> postings.computeIfAbsent(term, k -> new HashMap<>()).put(document.id(), tf));
+        docs.put(document.id(), new Doc<>(document.payload(), length, frequencies));
+        totalLength += length;
+    }
+
+    private void delete(Long id) {
+        Doc<T> old = docs.remove(id);
+        if (old == null) return;
+        totalLength -= old.length();
+        for (String term : old.termFrequencies().keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(id);
+            if (posting.isEmpty()) postings.remove(term);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+// src/main/java/com/epr/search/PublicSearchIndex.java
+package com.epr.search;
+
+import com.epr.dto.customer.BlogCardDto;
+import com.epr.dto.customer.ServiceCardDto;
+import com.epr.event.BlogChangedEvent;
+import com.epr.event.ServiceChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Full-text indexes behind the public blog and service search.
+ * Loaded by BlogServiceImpl / ServiceServiceImpl and kept current from their after-commit change events.
+ */
+@Component
+public class PublicSearchIndex {
+
+    private final InvertedIndex<BlogCardDto> blogs = new InvertedIndex<>();
+    private final InvertedIndex<ServiceCardDto> services = new InvertedIndex<>();
+
+    public InvertedIndex<BlogCardDto> blogs() {
+        return blogs;
+    }
+
+    public InvertedIndex<ServiceCardDto> services() {
+        return services;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogChanged(BlogChangedEvent event) {
+        if (event.searchDocument() != null) {
+            blogs.upsert(event.searchDocument());
+        } else {
+            blogs.remove(event.blogId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceChanged(ServiceChangedEvent event) {
+        if (event.searchDocument() != null) {
+            services.upsert(event.searchDocument());
+        } else {
+            services.remove(event.serviceId());
+        }
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("blogs.documents", blogs.size());
+        metrics.put("blogs.terms", blogs.termCount());
+        metrics.put("services.documents", services.size());
+        metrics.put("services.terms", services.termCount());
+        return metrics;
+    }
+}
@@ -0,0 +1,20 @@
+// src/main/java/com/epr/search/SearchDocument.java
+package com.epr.search;
+
+import java.util.List;
+
+/**
+ * One document for {@link InvertedIndex}: the payload returned on a hit plus the weighted text fields.
+ */
+public record SearchDocument<T>(Long id, T payload, List<Field> fields) {
+
+    public SearchDocument {
+        fields = List.copyOf(fields);
+    }
+
+    /**
+     * A text field; every term found in it counts {@code boost} times towards the document's term frequency.
+     */
+    public record Field(String text, int boost) {
+    }
+}
@@ -0,0 +1,247 @@
+// src/main/java/com/epr/search/SuggestionIndex.java
+package com.epr.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Weighted prefix trie for search-as-you-type.
+ *
+ * Every phrase is inserted once per word start ("plastic waste rules" is also reachable from
+ * "waste" and "rules"). Each node keeps its own top-{@link #MAX_RESULTS} entries by weight, so a
+ * lookup is a walk down the typed prefix plus a copy of that list: no subtree scan at read time.
+ * Writes recompute the top lists bottom-up along the touched paths only (terminals of the node
+ * plus the top lists of its children), which keeps per-entry updates cheap.
+ */
+public class SuggestionIndex<T> {
+
+    public static final int MAX_RESULTS = 10;
+
+    private static final int MAX_KEY_LENGTH = 60;
+    private static final int MAX_WORD_STARTS = 6;
+
+    private static final Comparator<Entry<?>> HEAVIEST_FIRST = Comparator
+            .comparingLong((Entry<?> e) -> e.weight()).reversed()
+            .thenComparing(Entry::id);
+
+    private record Entry<T>(String id, T payload, long weight) {
+    }
+
+    private static final class Node<T> {
+        // Children in label order, looked up by binary search
+        char[] labels = new char[0];
+        List<Node<T>> children = new ArrayList<>(0);
+        List<Entry<T>> terminals = List.of();
+        List<Entry<T>> top = List.of();
+
+        Node<T> child(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            return i >= 0 ? children.get(i) : null;
+        }
+
+        Node<T> childOrCreate(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            if (i >= 0) return children.get(i);
+            int at = -i - 1;
+            char[] grown = new char[labels.length + 1];
+            System.arraycopy(labels, 0, grown, 0, at);
+            grown[at] = c;
+            System.arraycopy(labels, at, grown, at + 1, labels.length - at);
+            labels = grown;
+            Node<T> node = new Node<>();
+            children.add(at, node);
+            return node;
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            if (i < 0) return;
+            char[] shrunk = new char[labels.length - 1];
+            System.arraycopy(labels, 0, shrunk, 0, i);
+            System.arraycopy(labels, i + 1, shrunk, i, labels.length - i - 1);
+            labels = shrunk;
+            children.remove(i);
+        }
+
+        boolean isEmpty() {
+            return terminals.isEmpty() && children.isEmpty();
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node<T> root = new Node<>();
+    // id -> (entry, keys it was inserted under), for removal and re-weighting
+    private final Map<String, Map.Entry<Entry<T>, List<String>>> entries = new HashMap<>();
+    private volatile boolean loaded;
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Top entries for the typed prefix, heaviest first.
+     */
+    public List<T> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) return List.of();
+        int n = Math.min(Math.max(limit, 1), MAX_RESULTS);
+
+        lock.readLock().lock();
+        try {
+            Node<T> node = root;
+            for (int i = 0; i < key.length() && node != null; i++) node = node.child(key.charAt(i));
+            if (node == null) return List.of();
+            return node.top.stream().limit(n).map(Entry::payload).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces the entry with this id.
+     */
+    public void put(String id, String phrase, long weight, T payload) {
+        lock.writeLock().lock();
+        try {
+            delete(id);
+            insert(id, phrase, weight, payload);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds delta to the weight of the entry with this id, if there is one.
+     */
+    public void addWeight(String id, long delta) {
+        lock.writeLock().lock();
+        try {
+            Map.Entry<Entry<T>, List<String>> existing = entries.get(id);
+            if (existing == null) return;
+            Entry<T> entry = existing.getKey();
+            delete(id);
+            insert(new Entry<>(id, entry.payload(), entry.weight() + delta), existing.getValue());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            delete(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void markLoaded() {
+        loaded = true;
+    }
+
+    static String normalize(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean space = false;
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                if (space && sb.length() > 0) sb.append(' ');
+                sb.append(c);
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        return sb.toString();
+    }
+
+    // ---- write path, callers hold the write lock ----
+
+    private void insert(String id, String phrase, long weight, T payload) {
+        List<String> keys = keysFor(phrase);
+        if (keys.isEmpty()) return;
+        insert(new Entry<>(id, payload, weight), keys);
+    }
+
+    private void insert(Entry<T> entry, List<String> keys) {
+        for (String key : keys) {
+            List<Node<T>> path = new ArrayList<>(key.length() + 1);
+            Node<T> node = root;
+            path.add(node);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOrCreate(key.charAt(i));
+                path.add(node);
+            }
+            List<Entry<T>> terminals = new ArrayList<>(node.terminals);
+            terminals.add(entry);
+            node.terminals = terminals;
+            recomputeUpwards(path);
+        }
+        entries.put(entry.id(), Map.entry(entry, keys));
+    }
+
+    private void delete(String id) {
+        Map.Entry<Entry<T>, List<String>> existing = entries.remove(id);
+        if (existing == null) return;
+        for (String key : existing.getValue()) {
+            List<Node<T>> path = new ArrayList<>(key.length() + 1);
+            Node<T> node = root;
+            path.add(node);
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+                if (node != null) path.add(node);
+            }
+            if (node == null) continue;
+            node.terminals = node.terminals.stream().filter(e -> !e.id().equals(id)).toList();
+
+            // Prune emptied nodes, then refresh the top lists on what is left of the path
+            for (int i = path.size() - 1; i > 0 && path.get(i).isEmpty(); i--) {
+                path.get(i - 1).removeChild(key.charAt(i - 1));
+                path.remove(i);
+            }
+            recomputeUpwards(path);
+        }
+    }
+
+    private void recomputeUpwards(List<Node<T>> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node<T> node = path.get(i);
+            List<Entry<T>> candidates = new ArrayList<>(node.terminals);
+            for (Node<T> child : node.children) candidates.addAll(child.top);
+            candidates.sort(HEAVIEST_FIRST);
+
+            List<Entry<T>> top = new ArrayList<>(Math.min(candidates.size(), MAX_RESULTS));
+            Set<String> seen = new HashSet<>();
+            for (Entry<T> e : candidates) {
+                if (top.size() == MAX_RESULTS) break;
+                if (seen.add(e.id())) top.add(e);
+            }
+            node.top = List.copyOf(top);
+        }
+    }
+
+    private static List<String> keysFor(String phrase) {
+        String normalized = normalize(phrase);
+        if (normalized.isEmpty()) return List.of();
+        Set<String> keys = new LinkedHashSet<>();
+        int starts = 0;
+        for (int i = 0; i < normalized.length() && starts < MAX_WORD_STARTS; i++) {
+            if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                String key = normalized.substring(i);
+                keys.add(key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key);
+                starts++;
+            }
+        }
+        return new ArrayList<>(keys);
+    }
+}
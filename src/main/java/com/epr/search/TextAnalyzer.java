@@ -0,0 +1,82 @@
+// src/main/java/com/epr/search/TextAnalyzer.java
+package com.epr.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Turns titles, keywords and (HTML) bodies into index terms; queries go through the same pipeline.
+ *
+ * Steps: strip tags and entities, lowercase, split on anything that is not a letter or digit,
+ * drop English/Hinglish stop words, light English suffix stemming, then fold the doubled vowels
+ * that romanised Hindi spells either way ("shaadi"/"shadi", "jaankari"/"jankari").
+ */
+public final class TextAnalyzer {
+
+    private static final Pattern TAGS = Pattern.compile("<[^>]*>");
+    private static final Pattern ENTITIES = Pattern.compile("&(#\\d+|#x[0-9a-fA-F]+|[a-zA-Z]+);");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            // English
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "how", "in", "is", "it",
+            "of", "on", "or", "the", "this", "that", "to", "was", "what", "with",
+            // Hinglish
+            "aur", "bhi", "hai", "hain", "ka", "kaise", "ke", "ki", "ko", "kya", "liye", "me", "mein",
+            "nahi", "par", "se", "wo", "woh", "ye", "yeh");
+
+    private TextAnalyzer() {
+    }
+
+    public static List<String> analyze(String text) {
+        if (text == null || text.isBlank()) return List.of();
+
+        String plain = ENTITIES.matcher(TAGS.matcher(text).replaceAll(" ")).replaceAll(" ").toLowerCase(Locale.ROOT);
+        List<String> terms = new ArrayList<>();
+        for (String token : NON_WORD.split(plain)) {
+            if (token.isEmpty() || STOP_WORDS.contains(token)) continue;
+            if (token.length() == 1 && !Character.isDigit(token.charAt(0))) continue;
+            terms.add(normalize(token));
+        }
+        return terms;
+    }
+
+    static String normalize(String token) {
+        return foldVowels(stem(token));
+    }
+
+    // Deliberately light (plural / -ing / -ed / final e): over-stemming hurts short Hinglish words more than it helps
+    private static String stem(String w) {
+        if (w.length() <= 3 || Character.isDigit(w.charAt(0))) return w;
+
+        if (w.endsWith("ies") && w.length() > 4) w = w.substring(0, w.length() - 3) + "y";
+        else if (w.endsWith("sses")) w = w.substring(0, w.length() - 2);
+        else if (w.endsWith("ches") || w.endsWith("shes") || w.endsWith("xes") || w.endsWith("zes"))
+            w = w.substring(0, w.length() - 2);
+        else if (w.endsWith("s") && !w.endsWith("ss") && !w.endsWith("us") && !w.endsWith("is"))
+            w = w.substring(0, w.length() - 1);
+        else if (w.endsWith("ing") && w.length() > 5) w = undouble(w.substring(0, w.length() - 3));
+        else if (w.endsWith("ed") && w.length() > 4) w = undouble(w.substring(0, w.length() - 2));
+
+        // recycle / recycling / recycled all end up as "recycl"
+        if (w.endsWith("e") && !w.endsWith("ee") && w.length() > 4) w = w.substring(0, w.length() - 1);
+        return w;
+    }
+
+    // running -> runn -> run, but keep "ss"/"ll" endings (pressed -> press, filled -> fill)
+    private static String undouble(String w) {
+        int n = w.length();
+        if (n > 2 && w.charAt(n - 1) == w.charAt(n - 2) && "lsz".indexOf(w.charAt(n - 1)) < 0) {
+            return w.substring(0, n - 1);
+        }
+        return w;
+    }
+
+    private static String foldVowels(String w) {
+        if (w.length() < 3) return w;
+        return w.replace("aa", "a").replace("ee", "i").replace("ii", "i").replace("oo", "u").replace("uu", "u");
+    }
+}
@@ -3,15 +3,24 @@ package com.epr.service;
 
 import com.epr.dto.admin.blog.BlogRequestDto;
 import com.epr.dto.admin.blog.BlogResponseDto;
+import com.epr.dto.customer.BlogCardDto;
 import com.epr.dto.customer.BlogCustomerDto;
+import com.epr.dto.customer.CursorPage;
+import com.epr.search.InvertedIndex;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface BlogService {
 
     /* ======================= ADMIN APIs ======================= */
     List<BlogResponseDto> findAllActiveBlogs();
 
+    /**
+     * Same rows as findAllActiveBlogs, handed to the sink one at a time as they are read
+     */
+    void streamAllActiveBlogs(Consumer<? super BlogResponseDto> sink);
+
     List<BlogResponseDto> searchBlogs(String keyword);
 
     BlogResponseDto findById(Long id);
@@ -25,9 +34,10 @@ public interface BlogService {
     /* ======================= PUBLIC / CUSTOMER APIs ======================= */
 
     /**
-     * Get all visible blogs for frontend (displayStatus = 1, deleteStatus = 2)
+     * Get all visible blogs for frontend (displayStatus = 1, deleteStatus = 2).
+     * List endpoints return cards; only the slug endpoint returns the full blog.
      */
-    List<BlogCustomerDto> findAllPublicBlogs();
+    List<BlogCardDto> findAllPublicBlogs();
 
     /**
      * Get blog detail by slug (SEO friendly URL)
@@ -35,30 +45,53 @@ public interface BlogService {
      */
     BlogCustomerDto findPublicBySlugAndIncrementVisit(String slug);
 
+    /**
+     * Current slug of the public blog that used to be published under slug (301 target), or null
+     */
+    String findMovedSlug(String slug);
+
     /**
      * Latest N blogs (e.g., latest 10)
      */
-    List<BlogCustomerDto> findLatestPublicBlogs(int limit);
+    List<BlogCardDto> findLatestPublicBlogs(int limit);
 
     /**
      * Blogs by Category ID
      */
-    List<BlogCustomerDto> findPublicByCategoryId(Long categoryId);
+    List<BlogCardDto> findPublicByCategoryId(Long categoryId);
 
     /**
      * Blogs by Subcategory ID
      */
-    List<BlogCustomerDto> findPublicBySubcategoryId(Long subcategoryId);
+    List<BlogCardDto> findPublicBySubcategoryId(Long subcategoryId);
 
     /**
      * Search blogs (public version - only visible blogs)
      */
-    List<BlogCustomerDto> searchPublicBlogs(String keyword);
+    List<BlogCardDto> searchPublicBlogs(String keyword);
+
+    /**
+     * Ranked search hits (best BM25 score first); empty for a blank keyword
+     */
+    List<InvertedIndex.Hit<BlogCardDto>> searchPublicBlogHits(String keyword);
 
     /**
      * Featured blogs (showHomeStatus = 1)
      */
-    List<BlogCustomerDto> findFeaturedPublicBlogs();
+    List<BlogCardDto> findFeaturedPublicBlogs();
+
+    List<BlogCardDto> findPublicBlogsByServiceId(Long serviceId);
+
+    /* ======================= KEYSET PAGINATION (postDate DESC, id DESC) ======================= */
+
+    /**
+     * One page of public blogs; cursor is the nextCursor of the previous page (null for the first page)
+     */
+    CursorPage<BlogCardDto> findPublicBlogsPage(String cursor, Integer size);
+
+    CursorPage<BlogCardDto> findPublicByCategoryIdPage(Long categoryId, String cursor, Integer size);
+
+    CursorPage<BlogCardDto> findPublicBySubcategoryIdPage(Long subcategoryId, String cursor, Integer size);
 
-    List<BlogCustomerDto> findPublicBlogsByServiceId(Long serviceId);
+    CursorPage<BlogCardDto> findPublicBlogsByServiceIdPage(Long serviceId, String cursor, Integer size);
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+// src/main/java/com/epr/service/BulkImportService.java
+package com.epr.service;
+
+import com.epr.dto.admin.importer.ImportReportDto;
+
+import java.io.InputStream;
+import java.util.Locale;
+
+public interface BulkImportService {
+
+    enum Kind {
+        BLOGS, SERVICES, BLOG_FAQS, SERVICE_FAQS;
+
+        // blogs, services, blog-faqs, service-faqs
+        public static Kind fromPath(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Unknown import kind: " + value);
+            }
+        }
+    }
+
+    enum Format {
+        NDJSON, CSV;
+
+        public static Format fromName(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Unknown import format: " + value);
+            }
+        }
+    }
+
+    /**
+     * Reads rows (one JSON object per line, or CSV with a header row naming the fields) and inserts
+     * the valid ones in batches. Rejected rows are listed in the report; they never stop the import.
+     *
+     * @throws IllegalArgumentException if the user is not an active user
+     */
+    ImportReportDto importRows(Kind kind, Format format, InputStream in, Long userId);
+}
@@ -3,6 +3,7 @@ package com.epr.service;
 
 import com.epr.dto.admin.category.CategoryRequestDto;
 import com.epr.dto.admin.category.CategoryResponseDto;
+import com.epr.dto.customer.CategoryCardDto;
 
 import java.util.List;
 
@@ -12,4 +13,7 @@ public interface CategoryService {
     CategoryResponseDto createCategory(CategoryRequestDto dto, Long userId);
     CategoryResponseDto updateCategory(Long id, CategoryRequestDto dto, Long userId);
     void softDeleteCategory(Long id, Long userId);
+
+    // Visible categories with showHomeStatus = 1, by name
+    List<CategoryCardDto> findHomeCategories();
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+// src/main/java/com/epr/service/EnquiryBlockerService.java
+package com.epr.service;
+
+import com.epr.dto.admin.enquiry.EnquiryBlockerRequestDto;
+import com.epr.dto.admin.enquiry.EnquiryBlockerResponseDto;
+
+import java.util.List;
+
+public interface EnquiryBlockerService {
+
+    List<EnquiryBlockerResponseDto> findAll();
+
+    EnquiryBlockerResponseDto block(EnquiryBlockerRequestDto dto, Long userId);
+
+    void unblock(Long id, Long userId);
+
+    /**
+     * Checked in memory only; true if the email, its domain, the mobile or the IP is blocked
+     */
+    boolean isBlocked(String email, String mobile, String ipAddress);
+}
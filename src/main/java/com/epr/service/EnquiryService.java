@@ -2,8 +2,11 @@ package com.epr.service;
 
 
 
+import com.epr.dto.admin.enquiry.EnquiryFilterDto;
 import com.epr.dto.admin.enquiry.EnquiryRequestDto;
 import com.epr.dto.admin.enquiry.EnquiryResponseDto;
+import com.epr.dto.customer.CursorPage;
+import com.epr.ingest.EnquiryLogRecord;
 
 import java.util.List;
 
@@ -13,7 +16,28 @@ public interface EnquiryService {
 
     List<EnquiryResponseDto> findAllActive();
 
+    /**
+     * Newest first; cursor is the id of the last enquiry on the previous page (null for the first)
+     */
+    CursorPage<EnquiryResponseDto> findActivePage(EnquiryFilterDto filter, Long cursor, Integer size);
+
+    /**
+     * Number of active enquiries matching filter, counted without loading them
+     */
+    long countActive(EnquiryFilterDto filter);
+
     void softDeleteEnquiry(Long id, Long userId);
 
     EnquiryResponseDto createEnquiry(EnquiryRequestDto enquiryRequestDto, String clientIp, String url);
+
+    /**
+     * Validates the enquiry and appends it to the enquiry log; returns its uuid once it is on disk.
+     * The row is written later by the log's background writer.
+     */
+    String submitEnquiry(EnquiryRequestDto enquiryRequestDto, String clientIp, String url);
+
+    /**
+     * Applies logged enquiries in order, with the same merge-by-email-then-mobile rule as createEnquiry
+     */
+    void applyLogged(List<EnquiryLogRecord> records);
 }
\ No newline at end of file
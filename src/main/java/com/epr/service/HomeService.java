@@ -0,0 +1,13 @@
+// src/main/java/com/epr/service/HomeService.java
+package com.epr.service;
+
+import com.epr.dto.customer.HomePageDto;
+
+import java.util.Map;
+
+public interface HomeService {
+
+    HomePageDto findHomePage();
+
+    Map<String, Object> metrics();
+}
@@ -0,0 +1,17 @@
+// src/main/java/com/epr/service/NavigationService.java
+package com.epr.service;
+
+import com.epr.dto.customer.NavigationCategoryDto;
+
+import java.util.List;
+import java.util.Map;
+
+public interface NavigationService {
+
+    /**
+     * Visible categories with their visible subcategories and public blog/service counts, by name
+     */
+    List<NavigationCategoryDto> findNavigation();
+
+    Map<String, Object> metrics();
+}
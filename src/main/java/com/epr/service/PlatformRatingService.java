@@ -4,6 +4,7 @@ package com.epr.service;
 import com.epr.dto.admin.rating.PlatformRatingRequestDto;
 import com.epr.dto.admin.rating.PlatformRatingResponseDto;
 import com.epr.dto.customer.PlatformRatingDto;
+import com.epr.dto.customer.PlatformRatingSummaryDto;
 
 import java.util.List;
 
@@ -13,6 +14,8 @@ public interface PlatformRatingService {
 
     List<PlatformRatingDto> findAllActiveAndVisible(); // Public endpoint
 
+    PlatformRatingSummaryDto findSummary(); // Public endpoint: review-weighted aggregate
+
     PlatformRatingResponseDto findById(Long id);
 
     PlatformRatingResponseDto createRating(PlatformRatingRequestDto dto, Long userId);
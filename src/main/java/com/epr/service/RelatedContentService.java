@@ -0,0 +1,21 @@
+// src/main/java/com/epr/service/RelatedContentService.java
+package com.epr.service;
+
+import com.epr.dto.customer.RelatedContentDto;
+
+import java.util.Map;
+
+public interface RelatedContentService {
+
+    /**
+     * Related blogs and the linked services of a public blog; null when the slug is unknown
+     */
+    RelatedContentDto findRelatedForBlog(String slug);
+
+    /**
+     * Blogs linked to a public service and related services; null when the slug is unknown
+     */
+    RelatedContentDto findRelatedForService(String slug);
+
+    Map<String, Object> metrics();
+}
@@ -9,7 +9,8 @@ public interface SearchService {
     /**
      * Central search for both blogs and services (public/visible only)
      * @param keyword Search term
-     * @return Combined results
+     * @param limit Maximum number of merged results (null for the default)
+     * @return Combined results, ranked
      */
-    SearchResultDto searchPublic(String keyword);
-}
\ No newline at end of file
+    SearchResultDto searchPublic(String keyword, Integer limit);
+}
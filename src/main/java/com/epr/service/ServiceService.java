@@ -3,9 +3,14 @@ package com.epr.service;
 
 import com.epr.dto.admin.service.ServiceRequestDto;
 import com.epr.dto.admin.service.ServiceResponseDto;
+import com.epr.dto.customer.CursorPage;
+import com.epr.dto.customer.ServiceCardDto;
 import com.epr.dto.customer.ServiceCustomerDto;
+import com.epr.dto.customer.ServicePageDto;
+import com.epr.search.InvertedIndex;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ServiceService {
 
@@ -22,18 +27,32 @@ public interface ServiceService {
 
     List<ServiceResponseDto> searchServices(String keyword);
 
-    List<ServiceCustomerDto> findAllActivePublicServices();
+    // Public lists return cards (no fullDescription); findActiveBySlug returns the full service
+    List<ServiceCardDto> findAllActivePublicServices();
+    // Same cards as findAllActivePublicServices, handed to the sink one at a time as they are read
+    void streamAllActivePublicServices(Consumer<? super ServiceCardDto> sink);
     ServiceCustomerDto findActiveBySlug(String slug);
-    List<ServiceCustomerDto> findActiveByCategoryId(Long categoryId);
-    List<ServiceCustomerDto> searchPublicServices(String keyword);
-    List<ServiceCustomerDto> findFeaturedServices(); // showHomeStatus = 1
 
+    // Service plus its visible sections (with cards), FAQs and documents; cached per slug
+    ServicePageDto findPublicPageBySlug(String slug);
+    // Current slug of the public service that used to be published under slug (301 target), or null
+    String findMovedSlug(String slug);
+    List<ServiceCardDto> findActiveByCategoryId(Long categoryId);
+    List<ServiceCardDto> searchPublicServices(String keyword);
+    List<InvertedIndex.Hit<ServiceCardDto>> searchPublicServiceHits(String keyword); // ranked, empty for a blank keyword
+    List<ServiceCardDto> findFeaturedServices(); // showHomeStatus = 1
 
-    List<ServiceCustomerDto> findActiveBySubcategoryId(Long subcategoryId);
 
-    List<ServiceCustomerDto> findLatestActiveServices(int i);
+    List<ServiceCardDto> findActiveBySubcategoryId(Long subcategoryId);
+
+    List<ServiceCardDto> findLatestActiveServices(int i);
 
     List<ServiceResponseDto> findActivePublicServicesBySubcategoryId(Long subcategoryId);
 
+    // Keyset pagination (postDate DESC, id DESC); cursor is the previous page's nextCursor
+    CursorPage<ServiceCardDto> findActivePublicServicesPage(String cursor, Integer size);
+    CursorPage<ServiceCardDto> findActiveByCategoryIdPage(Long categoryId, String cursor, Integer size);
+    CursorPage<ServiceCardDto> findActiveBySubcategoryIdPage(Long subcategoryId, String cursor, Integer size);
+
 
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+// src/main/java/com/epr/service/SitemapService.java
+package com.epr.service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+public interface SitemapService {
+
+    /**
+     * One child sitemap family; each is split into files of at most app.sitemap.urls-per-file URLs
+     */
+    enum Segment {
+        BLOGS, SERVICES, CATEGORIES, SUBCATEGORIES, AUTHORS;
+
+        public String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * The sitemap index XML; empty until the first generation has finished
+     */
+    Optional<byte[]> index();
+
+    /**
+     * A gzipped child sitemap by file name (e.g. blogs-1.xml.gz)
+     */
+    Optional<byte[]> part(String fileName);
+
+    /**
+     * Regenerate the segment once the current transaction commits
+     */
+    void segmentChanged(Segment segment);
+
+    Map<String, Object> metrics();
+}
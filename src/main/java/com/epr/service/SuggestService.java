@@ -0,0 +1,15 @@
+// src/main/java/com/epr/service/SuggestService.java
+package com.epr.service;
+
+import com.epr.dto.customer.SuggestionDto;
+
+import java.util.List;
+
+public interface SuggestService {
+
+    /**
+     * Autocomplete for the typed prefix: blog/service titles, category/subcategory names and blog
+     * search keywords, most visited first
+     */
+    List<SuggestionDto> suggest(String prefix, Integer limit);
+}
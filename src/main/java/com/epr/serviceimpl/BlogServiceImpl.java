@@ -1,28 +1,61 @@
 package com.epr.serviceimpl;
 
 
+import com.epr.cache.CatalogueVersion;
+import com.epr.cache.NavigationTree;
+import com.epr.cache.PublicBlog;
+import com.epr.cache.PublicBlogCatalogue;
+import com.epr.cache.ResponseByteCache;
+import com.epr.cache.ResponseCacheContext;
+import com.epr.cache.SlugIndex;
+import com.epr.cache.VisitCounterBuffer;
 import com.epr.dto.admin.blog.BlogRequestDto;
 import com.epr.dto.admin.blog.BlogResponseDto;
+import com.epr.dto.customer.BlogCardDto;
 import com.epr.dto.customer.BlogCustomerDto;
+import com.epr.dto.customer.CursorPage;
 import com.epr.entity.Blogs;
 import com.epr.entity.Category;
 import com.epr.entity.Services;
+import com.epr.entity.SlugHistory;
 import com.epr.entity.Subcategory;
 import com.epr.entity.User;
+import com.epr.event.BlogChangedEvent;
+import com.epr.event.ContentImportedEvent;
+import com.epr.event.TaxonomyChangedEvent;
 import com.epr.repository.*;
+import com.epr.repository.projection.BlogCardRow;
+import com.epr.repository.projection.BlogSearchRow;
+import com.epr.repository.projection.BlogServiceLink;
+import com.epr.repository.projection.SlugRow;
+import com.epr.search.InvertedIndex;
+import com.epr.search.PublicSearchIndex;
+import com.epr.search.SearchDocument;
 import com.epr.service.BlogService;
 import com.epr.util.DateTimeUtil;
+import com.epr.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -31,12 +64,28 @@ public class BlogServiceImpl implements BlogService {
 
     private static final Logger log = LoggerFactory.getLogger(BlogServiceImpl.class);
 
+    // Upper bound for the IN list of the batched service-link query
+    private static final int LINK_BATCH_SIZE = 1000;
+
+    // Streamed admin rows are mapped (and their service links read) this many at a time
+    private static final int STREAM_BATCH_SIZE = 200;
+
     private final BlogRepository blogRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final SubcategoryRepository subcategoryRepository;
     private final ServiceRepository serviceRepository;
+    private final SlugHistoryRepository slugHistoryRepository;
     private final DateTimeUtil dateTimeUtil;
+    private final PublicBlogCatalogue publicBlogCatalogue;
+    private final VisitCounterBuffer visitCounterBuffer;
+    private final CatalogueVersion catalogueVersion;
+    private final ResponseByteCache responseByteCache;
+    private final NavigationTree navigationTree;
+    private final SlugIndex slugIndex;
+    private final PublicSearchIndex publicSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     private User validateAndGetActiveUser(Long userId) {
         if (userId == null || userId <= 0) throw new IllegalArgumentException("User ID is required");
@@ -46,19 +95,35 @@ public class BlogServiceImpl implements BlogService {
 
     @Override
     public List<BlogResponseDto> findAllActiveBlogs() {
-        return blogRepository.findAllByDeleteStatus(2)
-                .stream()
-                .map(this::toResponseDto)
-                .collect(Collectors.toList());
+        return toResponseDtos(blogRepository.findAllByDeleteStatus(2));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllActiveBlogs(Consumer<? super BlogResponseDto> sink) {
+        List<Blogs> batch = new ArrayList<>(STREAM_BATCH_SIZE);
+        try (Stream<Blogs> blogs = blogRepository.streamAllByDeleteStatus(2)) {
+            Iterator<Blogs> rows = blogs.iterator();
+            while (rows.hasNext()) {
+                batch.add(rows.next());
+                if (batch.size() == STREAM_BATCH_SIZE) emitBatch(batch, sink);
+            }
+        }
+        emitBatch(batch, sink);
+    }
+
+    // Detaching keeps the persistence context (and its LONGTEXT descriptions) from growing with the listing
+    private void emitBatch(List<Blogs> batch, Consumer<? super BlogResponseDto> sink) {
+        if (batch.isEmpty()) return;
+        toResponseDtos(batch).forEach(sink);
+        batch.forEach(entityManager::detach);
+        batch.clear();
     }
 
     @Override
     public List<BlogResponseDto> searchBlogs(String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) return findAllActiveBlogs();
-        return blogRepository.searchActiveBlogs(keyword.trim())
-                .stream()
-                .map(this::toResponseDto)
-                .collect(Collectors.toList());
+        return toResponseDtos(blogRepository.searchActiveBlogs(keyword.trim()));
     }
 
     @Override
@@ -98,6 +163,9 @@ public class BlogServiceImpl implements BlogService {
         associateServices(blog, dto.getServiceIds());
 
         Blogs saved = blogRepository.save(blog);
+        recordSlugChange(saved.getId(), null, saved.getSlug());
+        publishChange(saved);
+        navigationTree.moved(NavigationTree.Content.BLOG, null, placementOf(saved));
         log.info("Blog created: {} by user {}", saved.getTitle(), userId);
         return toResponseDto(saved);
     }
@@ -121,6 +189,8 @@ public class BlogServiceImpl implements BlogService {
                 blogRepository.existsBySlugIgnoreCaseAndIdNot(newSlug, id))
             throw new IllegalArgumentException("Blog slug already exists");
 
+        NavigationTree.Placement before = placementOf(existing);
+        String oldSlug = existing.getSlug();
         mapRequestToEntity(dto, existing);
         existing.setModifyDate(dateTimeUtil.getCurrentUtcTime());
         existing.setModifyByUUID(user.getUuid());
@@ -129,6 +199,9 @@ public class BlogServiceImpl implements BlogService {
         associateServices(existing, dto.getServiceIds());
 
         Blogs updated = blogRepository.save(existing);
+        if (!oldSlug.equals(updated.getSlug())) recordSlugChange(updated.getId(), oldSlug, updated.getSlug());
+        publishChange(updated);
+        navigationTree.moved(NavigationTree.Content.BLOG, before, placementOf(updated));
         log.info("Blog updated: {} (ID: {})", updated.getTitle(), updated.getId());
         return toResponseDto(updated);
     }
@@ -139,12 +212,161 @@ public class BlogServiceImpl implements BlogService {
         Blogs blog = blogRepository.findByIdAndDeleteStatus(id, 2)
                 .orElseThrow(() -> new IllegalArgumentException("Blog not found"));
 
+        NavigationTree.Placement before = placementOf(blog);
         blog.setDeleteStatus(1);
         blog.setModifyDate(dateTimeUtil.getCurrentUtcTime());
         blogRepository.save(blog);
+        publishChange(blog);
+        navigationTree.moved(NavigationTree.Content.BLOG, before, null);
         log.info("Blog soft deleted: {} by user {}", id, userId);
     }
 
+    // ------------------- Public catalogue -------------------
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    @Transactional(readOnly = true)
+    public void loadPublicCatalogue() {
+        // Blog writes committing while the rows are read are replayed over them
+        long loadMark = publicBlogCatalogue.beginLoad();
+        List<PublicBlog> blogs;
+        try {
+            List<BlogCardRow> rows = blogRepository.findPublicCards();
+            Map<Long, List<BlogServiceLink>> links = findServiceLinks(rows.stream().map(BlogCardRow::id).collect(Collectors.toList()));
+            blogs = rows.stream()
+                    .map(r -> new PublicBlog(toCard(r), r.postDate(), r.showHomeStatus(), r.searchKeyword(),
+                            serviceIds(links.getOrDefault(r.id(), List.of()))))
+                    .collect(Collectors.toList());
+        } catch (RuntimeException e) {
+            publicBlogCatalogue.abandonLoad();
+            throw e;
+        }
+        publicBlogCatalogue.replaceAll(loadMark, blogs);
+    }
+
+    // Indexes the cards of the loaded catalogue, so it runs after loadPublicCatalogue
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    @Transactional(readOnly = true)
+    public void loadSearchIndex() {
+        // Blog writes committing while the rows are read are replayed over them
+        long loadMark = publicSearchIndex.blogs().beginLoad();
+        List<SearchDocument<BlogCardDto>> documents = new ArrayList<>();
+        try {
+            PublicBlogCatalogue.Snapshot s = snapshot();
+            for (BlogSearchRow row : blogRepository.findPublicSearchRows()) {
+                s.card(row.id()).ifPresent(card -> documents.add(
+                        toSearchDocument(card, row.description(), row.searchKeyword(), row.metaKeyword())));
+            }
+        } catch (RuntimeException e) {
+            publicSearchIndex.blogs().abandonLoad();
+            throw e;
+        }
+        publicSearchIndex.blogs().replaceAll(loadMark, documents);
+        log.info("Blog search index loaded: {} documents, {} terms", publicSearchIndex.blogs().size(), publicSearchIndex.blogs().termCount());
+    }
+
+    // Live slugs come from the loaded catalogue, so it runs after loadPublicCatalogue
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    @Transactional(readOnly = true)
+    public void loadSlugIndex() {
+        // Publishes and renames committing while the rows are read are replayed over them
+        long loadMark = slugIndex.beginLoad(SlugHistory.ContentType.BLOG);
+        List<SlugRow> live;
+        List<SlugRow> history;
+        try {
+            live = snapshot().all().stream()
+                    .map(card -> new SlugRow(card.getId(), card.getSlug()))
+                    .collect(Collectors.toList());
+            history = slugHistoryRepository.findRows(SlugHistory.ContentType.BLOG);
+        } catch (RuntimeException e) {
+            slugIndex.abandonLoad(SlugHistory.ContentType.BLOG);
+            throw e;
+        }
+        slugIndex.replaceAll(SlugHistory.ContentType.BLOG, loadMark, live, history);
+    }
+
+    // The previous slug keeps redirecting to this blog; a slug taken (back) stops redirecting
+    private void recordSlugChange(Long id, String oldSlug, String newSlug) {
+        slugHistoryRepository.recordMove(SlugHistory.ContentType.BLOG, id, oldSlug, newSlug, dateTimeUtil.getCurrentUtcTime());
+        slugIndex.moved(SlugHistory.ContentType.BLOG, id, oldSlug, newSlug);
+    }
+
+    // Category/subcategory names and slugs are copied into every blog card, so reload on taxonomy edits
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onTaxonomyChanged(TaxonomyChangedEvent event) {
+        loadPublicCatalogue();
+        loadSearchIndex();
+    }
+
+    // Bulk imports skip the per-blog events; the views that derive from the catalogue run after this
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onContentImported(ContentImportedEvent event) {
+        if (!event.blogs()) return;
+        loadPublicCatalogue();
+        loadSearchIndex();
+        loadSlugIndex();
+    }
+
+    // Public list reads always go through the catalogue, so any blog write invalidates their cached responses
+    private PublicBlogCatalogue.Snapshot catalogue() {
+        ResponseCacheContext.tag(ResponseByteCache.BLOGS);
+        return snapshot();
+    }
+
+    // Loads the catalogue on demand if the startup load has not run yet
+    private PublicBlogCatalogue.Snapshot snapshot() {
+        if (publicBlogCatalogue.snapshot().isEmpty()) loadPublicCatalogue();
+        return publicBlogCatalogue.snapshot().orElseThrow();
+    }
+
+    private InvertedIndex<BlogCardDto> searchIndex() {
+        if (!publicSearchIndex.blogs().isLoaded()) loadSearchIndex();
+        return publicSearchIndex.blogs();
+    }
+
+    private void publishChange(Blogs blog) {
+        PublicBlog publicBlog = null;
+        SearchDocument<BlogCardDto> searchDocument = null;
+        if (blog.isActive()) {
+            publicBlog = toPublicBlog(blog, serviceLinksOf(blog));
+            searchDocument = toSearchDocument(publicBlog.card(), blog.getDescription(), blog.getSearchKeyword(), blog.getMetaKeyword());
+        }
+        eventPublisher.publishEvent(new BlogChangedEvent(blog.getId(), publicBlog, searchDocument));
+        responseByteCache.invalidate(ResponseByteCache.BLOGS, ResponseByteCache.blog(blog.getId()));
+        catalogueVersion.bump();
+    }
+
+    // Where the navigation tree counts this blog; null when it is not publicly listed
+    private static NavigationTree.Placement placementOf(Blogs b) {
+        if (!b.isActive()) return null;
+        return new NavigationTree.Placement(b.getCategory() != null ? b.getCategory().getId() : null,
+                b.getSubcategory() != null ? b.getSubcategory().getId() : null);
+    }
+
+    private PublicBlog toPublicBlog(Blogs b, List<BlogServiceLink> links) {
+        return new PublicBlog(toCard(b), b.getPostDate(), b.getShowHomeStatus(), b.getSearchKeyword(), serviceIds(links));
+    }
+
+    // Field boosts: a title hit outranks keyword hits, which outrank body text
+    private static SearchDocument<BlogCardDto> toSearchDocument(BlogCardDto card, String description,
+                                                                String searchKeyword, String metaKeyword) {
+        return new SearchDocument<>(card.getId(), card, List.of(
+                new SearchDocument.Field(card.getTitle(), 3),
+                new SearchDocument.Field(searchKeyword, 2),
+                new SearchDocument.Field(metaKeyword, 2),
+                new SearchDocument.Field(card.getSummary(), 1),
+                new SearchDocument.Field(description, 1)));
+    }
+
+    private static List<Long> serviceIds(List<BlogServiceLink> links) {
+        return links.stream().map(BlogServiceLink::serviceId).collect(Collectors.toList());
+    }
+
     // ------------------- Helpers -------------------
 
     private void validateDto(BlogRequestDto dto) {
@@ -185,82 +407,120 @@ public class BlogServiceImpl implements BlogService {
 
 
     @Override
-    public List<BlogCustomerDto> findAllPublicBlogs() {
-        return blogRepository.findAllByDeleteStatusAndDisplayStatus(2, 1)
-                .stream()
-                .map(this::toCustomerDto)
-                .collect(Collectors.toList());
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<BlogCardDto> findAllPublicBlogs() {
+        return catalogue().all();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public BlogCustomerDto findPublicBySlugAndIncrementVisit(String slug) {
         if (slug == null || slug.trim().isEmpty()) return null;
 
-        Blogs blog = blogRepository.findBySlugIgnoreCaseAndDeleteStatusAndDisplayStatus(slug.trim().toLowerCase(), 2, 1)
+        // Unknown slugs are answered by the catalogue; only a hit reads the full body, by primary key
+        PublicBlogCatalogue.Snapshot s = snapshot();
+        BlogCustomerDto blog = s.bySlug(slug.trim())
+                .flatMap(card -> blogRepository.findPublicById(card.getId()))
+                .map(this::toCustomerDto)
                 .orElse(null);
-
         if (blog != null) {
-            blog.setVisited(blog.getVisited() + 1);
-            blogRepository.save(blog); // async in production
+            // The page shows the linked service titles and the category name
+            ResponseCacheContext.tag(ResponseByteCache.blog(blog.getId()), ResponseByteCache.category(blog.getCategoryId()));
+            s.blog(blog.getId()).ifPresent(b -> b.serviceIds()
+                    .forEach(serviceId -> ResponseCacheContext.tag(ResponseByteCache.service(serviceId))));
         }
-        return blog != null ? toCustomerDto(blog) : null;
+
+        // Counted in memory and flushed in batches, the read itself stays read-only
+        if (blog != null) visitCounterBuffer.increment(VisitCounterBuffer.Target.BLOG, blog.getId());
+        return blog;
     }
 
     @Override
-    public List<BlogCustomerDto> findLatestPublicBlogs(int limit) {
-        Pageable pageable = PageRequest.of(0, limit);
-        return blogRepository.findLatestPublicBlogs(pageable)
-                .stream()
-                .map(this::toCustomerDto)
-                .collect(Collectors.toList());
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String findMovedSlug(String slug) {
+        if (slug == null || slug.trim().isEmpty() || !slugIndex.isLoaded(SlugHistory.ContentType.BLOG)) return null;
+        return slugIndex.movedTo(SlugHistory.ContentType.BLOG, slug.trim()).orElse(null);
     }
 
     @Override
-    public List<BlogCustomerDto> findPublicByCategoryId(Long categoryId) {
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<BlogCardDto> findLatestPublicBlogs(int limit) {
+        return catalogue().latest(limit);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<BlogCardDto> findPublicByCategoryId(Long categoryId) {
         if (categoryId == null || categoryId <= 0) return List.of();
-        return blogRepository.findByCategoryIdAndDeleteStatusAndDisplayStatus(categoryId, 2, 1)
-                .stream()
-                .map(this::toCustomerDto)
-                .collect(Collectors.toList());
+        return catalogue().byCategory(categoryId);
     }
 
     @Override
-    public List<BlogCustomerDto> findPublicBySubcategoryId(Long subcategoryId) {
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<BlogCardDto> findPublicBySubcategoryId(Long subcategoryId) {
         if (subcategoryId == null || subcategoryId <= 0) return List.of();
-        return blogRepository.findBySubcategoryIdAndDeleteStatusAndDisplayStatus(subcategoryId, 2, 1)
-                .stream()
-                .map(this::toCustomerDto)
-                .collect(Collectors.toList());
+        return catalogue().bySubcategory(subcategoryId);
     }
 
     @Override
-    public List<BlogCustomerDto> searchPublicBlogs(String keyword) {
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<BlogCardDto> searchPublicBlogs(String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) return findAllPublicBlogs();
-        return blogRepository.searchActiveBlogs(keyword.trim())
+        return searchPublicBlogHits(keyword)
                 .stream()
-                .filter(b -> b.getDisplayStatus() == 1)
-                .map(this::toCustomerDto)
+                .map(InvertedIndex.Hit::payload)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<BlogCustomerDto> findFeaturedPublicBlogs() {
-        return blogRepository.findByShowHomeStatusAndDeleteStatusAndDisplayStatus(1, 2, 1)
-                .stream()
-                .map(this::toCustomerDto)
-                .collect(Collectors.toList());
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<InvertedIndex.Hit<BlogCardDto>> searchPublicBlogHits(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) return List.of();
+        return searchIndex().search(keyword.trim(), 0);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<BlogCardDto> findFeaturedPublicBlogs() {
+        return catalogue().byShowHomeStatus(1);
     }
 
 
     @Override
-    public List<BlogCustomerDto> findPublicBlogsByServiceId(Long serviceId) {
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<BlogCardDto> findPublicBlogsByServiceId(Long serviceId) {
         if (serviceId == null || serviceId <= 0) {
             return List.of();
         }
-        return blogRepository.findPublicByServiceId(serviceId)
-                .stream()
-                .map(this::toCustomerDto)
-                .collect(Collectors.toList());
+        return catalogue().byService(serviceId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CursorPage<BlogCardDto> findPublicBlogsPage(String cursor, Integer size) {
+        PublicBlogCatalogue.Snapshot s = catalogue();
+        return s.page(s.all(), KeysetCursor.decode(cursor), CursorPage.clampSize(size));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CursorPage<BlogCardDto> findPublicByCategoryIdPage(Long categoryId, String cursor, Integer size) {
+        PublicBlogCatalogue.Snapshot s = catalogue();
+        return s.page(s.byCategory(categoryId), KeysetCursor.decode(cursor), CursorPage.clampSize(size));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CursorPage<BlogCardDto> findPublicBySubcategoryIdPage(Long subcategoryId, String cursor, Integer size) {
+        PublicBlogCatalogue.Snapshot s = catalogue();
+        return s.page(s.bySubcategory(subcategoryId), KeysetCursor.decode(cursor), CursorPage.clampSize(size));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CursorPage<BlogCardDto> findPublicBlogsByServiceIdPage(Long serviceId, String cursor, Integer size) {
+        PublicBlogCatalogue.Snapshot s = catalogue();
+        return s.page(s.byService(serviceId), KeysetCursor.decode(cursor), CursorPage.clampSize(size));
     }
 
     private void mapRequestToEntity(BlogRequestDto dto, Blogs entity) {
@@ -276,7 +536,45 @@ public class BlogServiceImpl implements BlogService {
         entity.setDisplayStatus(dto.getDisplayStatus() != null ? dto.getDisplayStatus() : 1);
     }
 
+    // ------------------- Mapping -------------------
+    // Admin lists map through toResponseDtos: category and subcategory come from the
+    // repository entity graph and service links from one batched query, so the statement count per
+    // request does not grow with the number of rows.
+
+    private Map<Long, List<BlogServiceLink>> findServiceLinks(List<Long> ids) {
+        Map<Long, List<BlogServiceLink>> links = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += LINK_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + LINK_BATCH_SIZE, ids.size()));
+            for (BlogServiceLink link : blogRepository.findServiceLinksByBlogIds(batch)) {
+                links.computeIfAbsent(link.blogId(), k -> new ArrayList<>()).add(link);
+            }
+        }
+        return links;
+    }
+
+    // Single-entity paths (detail, create, update) read the collection directly
+    private List<BlogServiceLink> serviceLinksOf(Blogs b) {
+        return b.getServices().stream()
+                .map(s -> new BlogServiceLink(b.getId(), s.getId(), s.getTitle()))
+                .collect(Collectors.toList());
+    }
+
+    private List<BlogResponseDto> toResponseDtos(List<Blogs> blogs) {
+        Map<Long, List<BlogServiceLink>> links = findServiceLinks(blogs.stream().map(Blogs::getId).collect(Collectors.toList()));
+        return blogs.stream()
+                .map(b -> toResponseDto(b, links.getOrDefault(b.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
     private BlogResponseDto toResponseDto(Blogs b) {
+        return toResponseDto(b, serviceLinksOf(b));
+    }
+
+    private BlogCustomerDto toCustomerDto(Blogs b) {
+        return toCustomerDto(b, serviceLinksOf(b));
+    }
+
+    private BlogResponseDto toResponseDto(Blogs b, List<BlogServiceLink> links) {
         BlogResponseDto dto = new BlogResponseDto();
         dto.setId(b.getId());
         dto.setUuid(b.getUuid());
@@ -305,13 +603,13 @@ public class BlogServiceImpl implements BlogService {
             dto.setSubcategoryName(b.getSubcategory().getName());
         }
 
-        dto.setServiceIds(b.getServices().stream().map(Services::getId).collect(Collectors.toList()));
-        dto.setServiceTitles(b.getServices().stream().map(Services::getTitle).collect(Collectors.toList()));
+        dto.setServiceIds(links.stream().map(BlogServiceLink::serviceId).collect(Collectors.toList()));
+        dto.setServiceTitles(links.stream().map(BlogServiceLink::serviceTitle).collect(Collectors.toList()));
 
         return dto;
     }
 
-    private BlogCustomerDto toCustomerDto(Blogs b) {
+    private BlogCustomerDto toCustomerDto(Blogs b, List<BlogServiceLink> links) {
         BlogCustomerDto dto = new BlogCustomerDto();
         dto.setId(b.getId());
         dto.setUuid(b.getUuid());
@@ -337,10 +635,53 @@ public class BlogServiceImpl implements BlogService {
             dto.setSubcategoryName(b.getSubcategory().getName());
             dto.setSubcategorySlug(b.getSubcategory().getSlug());
         }
-        dto.setRelatedServiceTitles(b.getServices().stream()
-                .map(Services::getTitle)
+        dto.setRelatedServiceTitles(links.stream()
+                .map(BlogServiceLink::serviceTitle)
                 .collect(Collectors.toList()));
 
         return dto;
     }
+
+    private BlogCardDto toCard(BlogCardRow r) {
+        BlogCardDto dto = new BlogCardDto();
+        dto.setId(r.id());
+        dto.setTitle(r.title());
+        dto.setSlug(r.slug());
+        dto.setImage(r.image());
+        dto.setSummary(r.summary());
+        dto.setPostDate(dateTimeUtil.formatDateTimeIst(r.postDate()));
+        dto.setPostedByName(r.postedByName());
+        dto.setVisited(r.visited());
+        dto.setCategoryId(r.categoryId());
+        dto.setCategoryName(r.categoryName());
+        dto.setCategorySlug(r.categorySlug());
+        dto.setSubcategoryId(r.subcategoryId());
+        dto.setSubcategoryName(r.subcategoryName());
+        dto.setSubcategorySlug(r.subcategorySlug());
+        return dto;
+    }
+
+    private BlogCardDto toCard(Blogs b) {
+        BlogCardDto dto = new BlogCardDto();
+        dto.setId(b.getId());
+        dto.setTitle(b.getTitle());
+        dto.setSlug(b.getSlug());
+        dto.setImage(b.getImage());
+        dto.setSummary(b.getSummary());
+        dto.setPostDate(dateTimeUtil.formatDateTimeIst(b.getPostDate()));
+        dto.setPostedByName(b.getPostedByName());
+        dto.setVisited(b.getVisited());
+
+        if (b.getCategory() != null) {
+            dto.setCategoryId(b.getCategory().getId());
+            dto.setCategoryName(b.getCategory().getName());
+            dto.setCategorySlug(b.getCategory().getSlug());
+        }
+        if (b.getSubcategory() != null) {
+            dto.setSubcategoryId(b.getSubcategory().getId());
+            dto.setSubcategoryName(b.getSubcategory().getName());
+            dto.setSubcategorySlug(b.getSubcategory().getSlug());
+        }
+        return dto;
+    }
 }
@@ -0,0 +1,761 @@
+// src/main/java/com/epr/serviceimpl/BulkImportServiceImpl.java
+package com.epr.serviceimpl;
+
+import com.epr.cache.CatalogueVersion;
+import com.epr.cache.ResponseByteCache;
+import com.epr.cache.ServicePageCache;
+import com.epr.dto.admin.importer.BlogImportRow;
+import com.epr.dto.admin.importer.FaqImportRow;
+import com.epr.dto.admin.importer.ImportReportDto;
+import com.epr.dto.admin.importer.ServiceImportRow;
+import com.epr.entity.SlugHistory;
+import com.epr.entity.User;
+import com.epr.event.ContentImportedEvent;
+import com.epr.repository.*;
+import com.epr.repository.projection.SlugRow;
+import com.epr.repository.projection.SubcategorySlugRow;
+import com.epr.service.BulkImportService;
+import com.epr.util.CsvReader;
+import com.epr.util.DateTimeUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import for content migrated from another CMS.
+ *
+ * Rows are read one at a time from the request body or file and checked in memory against lookup
+ * maps loaded once per import (user, categories, subcategories) and against every earlier row of
+ * the same import. Accepted rows are collected into chunks of app.import.chunk-size; per chunk the
+ * uniqueness and reference checks are one IN query each, and the inserts are JDBC batches in one
+ * transaction. A failed chunk is rolled back on its own and reported row by row; earlier chunks stay.
+ *
+ * The per-row change events of createBlog/createService are not published. Blog and service imports
+ * publish one {@link ContentImportedEvent} at the end, which reloads the in-memory views.
+ */
+@Service
+public class BulkImportServiceImpl implements BulkImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkImportServiceImpl.class);
+
+    // CSV columns holding a list, separated by '|'
+    private static final Set<String> LIST_COLUMNS = Set.of("serviceSlugs");
+
+    private static final String INSERT_BLOG = "INSERT INTO blogs (uuid, title, slug, image, summary, description, " +
+            "meta_title, meta_keyword, meta_description, search_keyword, display_status, show_home_status, delete_status, " +
+            "post_date, modify_date, added_byuuid, posted_by_uuid, posted_by_name, visited, category_id, subcategory_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 2, ?, ?, ?, ?, ?, 0, ?, ?)";
+    private static final String INSERT_BLOG_SERVICE = "INSERT INTO service_blogs (blog_id, service_id) VALUES (?, ?)";
+    private static final String INSERT_SERVICE = "INSERT INTO services (uuid, title, slug, short_description, full_description, " +
+            "banner_image, thumbnail, video_url, meta_title, meta_keyword, meta_description, display_status, show_home_status, " +
+            "delete_status, post_date, modify_date, added_byuuid, visited, category_id, subcategory_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 2, ?, ?, ?, 0, ?, ?)";
+    private static final String INSERT_BLOG_FAQ = "INSERT INTO blog_faqs (uuid, title, description, display_status, " +
+            "delete_status, post_date, added_byuuid, blog_id) VALUES (?, ?, ?, ?, 2, ?, ?, ?)";
+    private static final String INSERT_SERVICE_FAQ = "INSERT INTO service_faqs (uuid, question, answer, display_order, " +
+            "display_status, delete_status, post_date, added_byuuid, service_id) VALUES (?, ?, ?, ?, ?, 2, ?, ?, ?)";
+
+    private final BlogRepository blogRepository;
+    private final ServiceRepository serviceRepository;
+    private final CategoryRepository categoryRepository;
+    private final SubcategoryRepository subcategoryRepository;
+    private final UserRepository userRepository;
+    private final SlugHistoryRepository slugHistoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final DateTimeUtil dateTimeUtil;
+    private final ResponseByteCache responseByteCache;
+    private final ServicePageCache servicePageCache;
+    private final CatalogueVersion catalogueVersion;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public BulkImportServiceImpl(BlogRepository blogRepository, ServiceRepository serviceRepository,
+                                 CategoryRepository categoryRepository, SubcategoryRepository subcategoryRepository,
+                                 UserRepository userRepository, SlugHistoryRepository slugHistoryRepository,
+                                 JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, ObjectMapper objectMapper,
+                                 DateTimeUtil dateTimeUtil, ResponseByteCache responseByteCache,
+                                 ServicePageCache servicePageCache, CatalogueVersion catalogueVersion,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${app.import.chunk-size:500}") int chunkSize) {
+        this.blogRepository = blogRepository;
+        this.serviceRepository = serviceRepository;
+        this.categoryRepository = categoryRepository;
+        this.subcategoryRepository = subcategoryRepository;
+        this.userRepository = userRepository;
+        this.slugHistoryRepository = slugHistoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.dateTimeUtil = dateTimeUtil;
+        this.responseByteCache = responseByteCache;
+        this.servicePageCache = servicePageCache;
+        this.catalogueVersion = catalogueVersion;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public ImportReportDto importRows(Kind kind, Format format, InputStream in, Long userId) {
+        if (kind == null || format == null || in == null) throw new IllegalArgumentException("Import kind, format and body are required");
+        if (userId == null || userId <= 0) throw new IllegalArgumentException("User ID is required");
+        User user = userRepository.findActiveUserById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found or inactive"));
+
+        ImportReportDto report = new ImportReportDto();
+        report.setKind(kind.name());
+        Importer<?> importer = switch (kind) {
+            case BLOGS -> new BlogImporter(user, report);
+            case SERVICES -> new ServiceImporter(user, report);
+            case BLOG_FAQS -> new BlogFaqImporter(user, report);
+            case SERVICE_FAQS -> new ServiceFaqImporter(user, report);
+        };
+
+        long started = System.nanoTime();
+        importer.run(format, in);
+        if (report.getImported() > 0) afterImport(kind, importer.parentIds);
+        log.info("Bulk import of {} by user {}: {} rows, {} imported, {} rejected in {} ms", kind, userId,
+                report.getReceived(), report.getImported(), report.getFailed(), (System.nanoTime() - started) / 1_000_000);
+        return report;
+    }
+
+    private void afterImport(Kind kind, Set<Long> parentIds) {
+        switch (kind) {
+            case BLOGS -> {
+                responseByteCache.invalidate(ResponseByteCache.BLOGS);
+                eventPublisher.publishEvent(new ContentImportedEvent(true, false));
+            }
+            case SERVICES -> {
+                responseByteCache.invalidate(ResponseByteCache.SERVICES);
+                eventPublisher.publishEvent(new ContentImportedEvent(false, true));
+            }
+            case BLOG_FAQS -> parentIds.forEach(id -> responseByteCache.invalidate(ResponseByteCache.blog(id)));
+            case SERVICE_FAQS -> parentIds.forEach(id -> {
+                servicePageCache.evict(id);
+                responseByteCache.invalidate(ResponseByteCache.service(id));
+            });
+        }
+        catalogueVersion.bump();
+    }
+
+    // ------------------- Pipeline -------------------
+
+    /**
+     * A data row as it moves through the pipeline; the ids are filled in as its references resolve
+     */
+    private static final class Row<R> {
+        final int number;
+        final R value;
+        final String error;
+        Long categoryId;
+        Long subcategoryId;
+        Long parentId;
+        List<Long> serviceIds = List.of();
+
+        Row(int number, R value, String error) {
+            this.number = number;
+            this.value = value;
+            this.error = error;
+        }
+    }
+
+    private abstract class Importer<R> {
+
+        final Class<R> type;
+        final User user;
+        final ImportReportDto report;
+        final LocalDateTime now = dateTimeUtil.getCurrentUtcTime();
+        // Blogs or services the imported FAQs were added to
+        final Set<Long> parentIds = new HashSet<>();
+
+        Importer(Class<R> type, User user, ImportReportDto report) {
+            this.type = type;
+            this.user = user;
+            this.report = report;
+        }
+
+        // Slug of the row (its parent's for FAQs), shown in the report
+        abstract String key(R row);
+
+        // In-memory checks; normalizes the row and resolves what the preloaded maps can. Null if valid.
+        abstract String validate(Row<R> row);
+
+        // Set-based checks for a whole chunk; returns the rows still accepted
+        abstract List<Row<R>> check(List<Row<R>> chunk);
+
+        // Runs inside the chunk transaction
+        abstract void insert(List<Row<R>> rows);
+
+        void run(Format format, InputStream in) {
+            List<Row<R>> chunk = new ArrayList<>(chunkSize);
+            try (RowReader<R> reader = new RowReader<>(type, format, in)) {
+                for (Row<R> row = reader.next(); row != null; row = reader.next()) {
+                    report.setReceived(report.getReceived() + 1);
+                    String error = row.error != null ? row.error : validate(row);
+                    if (error != null) {
+                        report.reject(row.number, row.value != null ? key(row.value) : null, error);
+                        continue;
+                    }
+                    chunk.add(row);
+                    if (chunk.size() == chunkSize) {
+                        importChunk(chunk);
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (!chunk.isEmpty()) importChunk(chunk);
+        }
+
+        private void importChunk(List<Row<R>> chunk) {
+            List<Row<R>> accepted = check(chunk);
+            if (accepted.isEmpty()) return;
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(accepted));
+                report.setImported(report.getImported() + accepted.size());
+            } catch (DataAccessException e) {
+                String cause = e.getMostSpecificCause().getMessage();
+                log.warn("Bulk import chunk of {} rows rolled back: {}", accepted.size(), cause);
+                for (Row<R> row : accepted) {
+                    reject(row, "Not imported, its batch was rolled back: " + cause);
+                }
+            }
+        }
+
+        // Rejects a row that passed validate(), giving back what it reserved there
+        void reject(Row<R> row, String message) {
+            report.reject(row.number, key(row.value), message);
+            release(row);
+        }
+
+        void release(Row<R> row) {
+        }
+    }
+
+    /**
+     * Shared by blogs and services: required slug and title unique across the import and the table,
+     * category and subcategory by slug
+     */
+    private abstract class ContentImporter<R> extends Importer<R> {
+
+        final Map<String, Long> categories = toMap(categoryRepository.findActiveSlugRows(), SlugRow::slug, SlugRow::id);
+        final Map<String, SubcategorySlugRow> subcategories =
+                toMap(subcategoryRepository.findActiveSlugRows(), SubcategorySlugRow::slug, Function.identity());
+        final Set<String> seenSlugs = new HashSet<>();
+        final Set<String> seenTitles = new HashSet<>();
+
+        ContentImporter(Class<R> type, User user, ImportReportDto report) {
+            super(type, user, report);
+        }
+
+        abstract String title(R row);
+
+        abstract String categorySlug(R row);
+
+        abstract String subcategorySlug(R row);
+
+        abstract List<String> existingSlugs(Collection<String> slugs);
+
+        abstract List<String> existingTitles(Collection<String> lowerCaseTitles);
+
+        String resolveTaxonomy(Row<R> row) {
+            String categorySlug = normalize(categorySlug(row.value));
+            if (categorySlug == null) return "categorySlug is required";
+            Long categoryId = categories.get(categorySlug);
+            if (categoryId == null) return "Category not found or deleted: " + categorySlug;
+            row.categoryId = categoryId;
+
+            String subcategorySlug = normalize(subcategorySlug(row.value));
+            if (subcategorySlug == null) return null;
+            SubcategorySlugRow sub = subcategories.get(subcategorySlug);
+            if (sub == null) return "Subcategory not found or deleted: " + subcategorySlug;
+            if (!sub.categoryId().equals(categoryId)) return "Subcategory does not belong to selected category";
+            row.subcategoryId = sub.id();
+            return null;
+        }
+
+        // Duplicates within the import; only rows that passed every other check claim their slug and title.
+        // The claim holds while the row is pending and is released if its chunk rejects it or rolls back.
+        String claim(Row<R> row) {
+            if (seenSlugs.contains(key(row.value))) return "Duplicate slug in this import";
+            if (!seenTitles.add(title(row.value).toLowerCase(Locale.ROOT))) return "Duplicate title in this import";
+            seenSlugs.add(key(row.value));
+            return null;
+        }
+
+        @Override
+        void release(Row<R> row) {
+            seenSlugs.remove(key(row.value));
+            seenTitles.remove(title(row.value).toLowerCase(Locale.ROOT));
+        }
+
+        @Override
+        List<Row<R>> check(List<Row<R>> chunk) {
+            Set<String> slugs = new HashSet<>(existingSlugs(chunk.stream().map(r -> key(r.value)).collect(Collectors.toSet())));
+            Set<String> titles = new HashSet<>(existingTitles(chunk.stream()
+                    .map(r -> title(r.value).toLowerCase(Locale.ROOT)).collect(Collectors.toSet())));
+            List<Row<R>> accepted = new ArrayList<>(chunk.size());
+            for (Row<R> row : chunk) {
+                if (slugs.contains(key(row.value))) reject(row, "Slug already exists");
+                else if (titles.contains(title(row.value).toLowerCase(Locale.ROOT))) reject(row, "Title already exists");
+                else accepted.add(row);
+            }
+            return accepted;
+        }
+    }
+
+    private final class BlogImporter extends ContentImporter<BlogImportRow> {
+
+        BlogImporter(User user, ImportReportDto report) {
+            super(BlogImportRow.class, user, report);
+        }
+
+        @Override
+        String key(BlogImportRow row) {
+            return row.getSlug();
+        }
+
+        @Override
+        String title(BlogImportRow row) {
+            return row.getTitle();
+        }
+
+        @Override
+        String categorySlug(BlogImportRow row) {
+            return row.getCategorySlug();
+        }
+
+        @Override
+        String subcategorySlug(BlogImportRow row) {
+            return row.getSubcategorySlug();
+        }
+
+        @Override
+        List<String> existingSlugs(Collection<String> slugs) {
+            return blogRepository.findExistingSlugs(slugs);
+        }
+
+        @Override
+        List<String> existingTitles(Collection<String> lowerCaseTitles) {
+            return blogRepository.findExistingTitles(lowerCaseTitles);
+        }
+
+        @Override
+        String validate(Row<BlogImportRow> row) {
+            BlogImportRow b = row.value;
+            b.setSlug(normalize(b.getSlug()));
+            b.setTitle(trim(b.getTitle()));
+            String error = firstError(
+                    required(b.getTitle(), "title", 255),
+                    required(b.getSlug(), "slug", 300),
+                    required(b.getSummary(), "summary", 0),
+                    required(b.getDescription(), "description", 0),
+                    required(b.getMetaTitle(), "metaTitle", 255),
+                    required(b.getMetaKeyword(), "metaKeyword", 0),
+                    required(b.getMetaDescription(), "metaDescription", 0),
+                    status(b.getDisplayStatus(), "displayStatus"),
+                    status(b.getShowHomeStatus(), "showHomeStatus"));
+            if (error == null) error = resolveTaxonomy(row);
+            if (error == null) error = claim(row);
+            if (b.getServiceSlugs() != null) {
+                b.setServiceSlugs(b.getServiceSlugs().stream().map(BulkImportServiceImpl::normalize)
+                        .filter(Objects::nonNull).distinct().collect(Collectors.toList()));
+            }
+            return error;
+        }
+
+        @Override
+        List<Row<BlogImportRow>> check(List<Row<BlogImportRow>> chunk) {
+            Set<String> serviceSlugs = chunk.stream()
+                    .filter(r -> r.value.getServiceSlugs() != null)
+                    .flatMap(r -> r.value.getServiceSlugs().stream())
+                    .collect(Collectors.toSet());
+            Map<String, Long> services = serviceSlugs.isEmpty() ? Map.of()
+                    : toMap(serviceRepository.findActiveSlugRows(serviceSlugs), SlugRow::slug, SlugRow::id);
+
+            List<Row<BlogImportRow>> accepted = new ArrayList<>(chunk.size());
+            for (Row<BlogImportRow> row : super.check(chunk)) {
+                List<String> slugs = row.value.getServiceSlugs() != null ? row.value.getServiceSlugs() : List.of();
+                Optional<String> unknown = slugs.stream().filter(s -> !services.containsKey(s)).findFirst();
+                if (unknown.isPresent()) {
+                    reject(row, "Service not found or deleted: " + unknown.get());
+                    continue;
+                }
+                row.serviceIds = slugs.stream().map(services::get).collect(Collectors.toList());
+                accepted.add(row);
+            }
+            return accepted;
+        }
+
+        @Override
+        void insert(List<Row<BlogImportRow>> rows) {
+            String postedByName = user.getFullName();
+            jdbcTemplate.batchUpdate(INSERT_BLOG, rows, rows.size(), (ps, row) -> {
+                BlogImportRow b = row.value;
+                LocalDateTime postDate = b.getPostDate() != null ? b.getPostDate() : now;
+                ps.setString(1, newUuid());
+                ps.setString(2, b.getTitle());
+                ps.setString(3, b.getSlug());
+                ps.setString(4, b.getImage());
+                ps.setString(5, b.getSummary());
+                ps.setString(6, b.getDescription());
+                ps.setString(7, b.getMetaTitle());
+                ps.setString(8, b.getMetaKeyword());
+                ps.setString(9, b.getMetaDescription());
+                ps.setString(10, b.getSearchKeyword());
+                ps.setInt(11, b.getDisplayStatus() != null ? b.getDisplayStatus() : 1);
+                ps.setInt(12, b.getShowHomeStatus() != null ? b.getShowHomeStatus() : 2);
+                ps.setObject(13, postDate);
+                ps.setObject(14, now);
+                ps.setString(15, user.getUuid());
+                ps.setString(16, user.getUuid());
+                ps.setString(17, postedByName);
+                ps.setObject(18, row.categoryId);
+                ps.setObject(19, row.subcategoryId);
+            });
+
+            List<String> slugs = rows.stream().map(r -> r.value.getSlug()).collect(Collectors.toList());
+            slugHistoryRepository.deleteSlugs(SlugHistory.ContentType.BLOG, slugs);
+
+            List<long[]> links = new ArrayList<>();
+            if (rows.stream().anyMatch(r -> !r.serviceIds.isEmpty())) {
+                Map<String, Long> ids = toMap(blogRepository.findActiveSlugRows(slugs), SlugRow::slug, SlugRow::id);
+                for (Row<BlogImportRow> row : rows) {
+                    Long blogId = ids.get(row.value.getSlug());
+                    row.serviceIds.forEach(serviceId -> links.add(new long[]{blogId, serviceId}));
+                }
+            }
+            if (!links.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_BLOG_SERVICE, links, links.size(), (ps, link) -> {
+                    ps.setLong(1, link[0]);
+                    ps.setLong(2, link[1]);
+                });
+            }
+        }
+    }
+
+    private final class ServiceImporter extends ContentImporter<ServiceImportRow> {
+
+        ServiceImporter(User user, ImportReportDto report) {
+            super(ServiceImportRow.class, user, report);
+        }
+
+        @Override
+        String key(ServiceImportRow row) {
+            return row.getSlug();
+        }
+
+        @Override
+        String title(ServiceImportRow row) {
+            return row.getTitle();
+        }
+
+        @Override
+        String categorySlug(ServiceImportRow row) {
+            return row.getCategorySlug();
+        }
+
+        @Override
+        String subcategorySlug(ServiceImportRow row) {
+            return row.getSubcategorySlug();
+        }
+
+        @Override
+        List<String> existingSlugs(Collection<String> slugs) {
+            return serviceRepository.findExistingSlugs(slugs);
+        }
+
+        @Override
+        List<String> existingTitles(Collection<String> lowerCaseTitles) {
+            return serviceRepository.findExistingTitles(lowerCaseTitles);
+        }
+
+        @Override
+        String validate(Row<ServiceImportRow> row) {
+            ServiceImportRow s = row.value;
+            s.setSlug(normalize(s.getSlug()));
+            s.setTitle(trim(s.getTitle()));
+            String error = firstError(
+                    required(s.getTitle(), "title", 200),
+                    required(s.getSlug(), "slug", 250),
+                    s.getShortDescription() != null && s.getShortDescription().length() > 500
+                            ? "shortDescription must not exceed 500 characters" : null,
+                    status(s.getDisplayStatus(), "displayStatus"),
+                    status(s.getShowHomeStatus(), "showHomeStatus"));
+            if (error == null) error = resolveTaxonomy(row);
+            if (error == null) error = claim(row);
+            return error;
+        }
+
+        @Override
+        void insert(List<Row<ServiceImportRow>> rows) {
+            jdbcTemplate.batchUpdate(INSERT_SERVICE, rows, rows.size(), (ps, row) -> {
+                ServiceImportRow s = row.value;
+                ps.setString(1, newUuid());
+                ps.setString(2, s.getTitle());
+                ps.setString(3, s.getSlug());
+                ps.setString(4, s.getShortDescription());
+                ps.setString(5, s.getFullDescription());
+                ps.setString(6, s.getBannerImage());
+                ps.setString(7, s.getThumbnail());
+                ps.setString(8, s.getVideoUrl());
+                ps.setString(9, s.getMetaTitle());
+                ps.setString(10, s.getMetaKeyword());
+                ps.setString(11, s.getMetaDescription());
+                ps.setInt(12, s.getDisplayStatus() != null ? s.getDisplayStatus() : 1);
+                ps.setInt(13, s.getShowHomeStatus() != null ? s.getShowHomeStatus() : 2);
+                ps.setObject(14, s.getPostDate() != null ? s.getPostDate() : now);
+                ps.setObject(15, now);
+                ps.setString(16, user.getUuid());
+                ps.setObject(17, row.categoryId);
+                ps.setObject(18, row.subcategoryId);
+            });
+            slugHistoryRepository.deleteSlugs(SlugHistory.ContentType.SERVICE,
+                    rows.stream().map(r -> r.value.getSlug()).collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Shared by blog and service FAQs: question and answer required, parent by slug
+     */
+    private abstract class FaqImporter extends Importer<FaqImportRow> {
+
+        FaqImporter(User user, ImportReportDto report) {
+            super(FaqImportRow.class, user, report);
+        }
+
+        abstract String parentName();
+
+        abstract List<SlugRow> findParents(Collection<String> slugs);
+
+        @Override
+        String key(FaqImportRow row) {
+            return row.getParentSlug();
+        }
+
+        @Override
+        String validate(Row<FaqImportRow> row) {
+            FaqImportRow f = row.value;
+            f.setParentSlug(normalize(f.getParentSlug()));
+            f.setQuestion(trim(f.getQuestion()));
+            return firstError(
+                    required(f.getParentSlug(), "parentSlug", 0),
+                    required(f.getQuestion(), "question", 500),
+                    required(f.getAnswer(), "answer", 0),
+                    status(f.getDisplayStatus(), "displayStatus"));
+        }
+
+        @Override
+        List<Row<FaqImportRow>> check(List<Row<FaqImportRow>> chunk) {
+            Map<String, Long> parents = toMap(findParents(chunk.stream().map(r -> r.value.getParentSlug())
+                    .collect(Collectors.toSet())), SlugRow::slug, SlugRow::id);
+            List<Row<FaqImportRow>> accepted = new ArrayList<>(chunk.size());
+            for (Row<FaqImportRow> row : chunk) {
+                row.parentId = parents.get(row.value.getParentSlug());
+                if (row.parentId == null) reject(row, parentName() + " not found or deleted: " + row.value.getParentSlug());
+                else accepted.add(row);
+            }
+            return accepted;
+        }
+
+        @Override
+        void insert(List<Row<FaqImportRow>> rows) {
+            rows.forEach(row -> parentIds.add(row.parentId));
+        }
+    }
+
+    private final class BlogFaqImporter extends FaqImporter {
+
+        BlogFaqImporter(User user, ImportReportDto report) {
+            super(user, report);
+        }
+
+        @Override
+        String parentName() {
+            return "Blog";
+        }
+
+        @Override
+        List<SlugRow> findParents(Collection<String> slugs) {
+            return blogRepository.findActiveSlugRows(slugs);
+        }
+
+        @Override
+        void insert(List<Row<FaqImportRow>> rows) {
+            jdbcTemplate.batchUpdate(INSERT_BLOG_FAQ, rows, rows.size(), (ps, row) -> {
+                FaqImportRow f = row.value;
+                ps.setString(1, newUuid());
+                ps.setString(2, f.getQuestion());
+                ps.setString(3, f.getAnswer());
+                ps.setInt(4, f.getDisplayStatus() != null ? f.getDisplayStatus() : 1);
+                ps.setObject(5, now);
+                ps.setString(6, user.getUuid());
+                ps.setLong(7, row.parentId);
+            });
+            super.insert(rows);
+        }
+    }
+
+    private final class ServiceFaqImporter extends FaqImporter {
+
+        ServiceFaqImporter(User user, ImportReportDto report) {
+            super(user, report);
+        }
+
+        @Override
+        String parentName() {
+            return "Service";
+        }
+
+        @Override
+        List<SlugRow> findParents(Collection<String> slugs) {
+            return serviceRepository.findActiveSlugRows(slugs);
+        }
+
+        @Override
+        void insert(List<Row<FaqImportRow>> rows) {
+            jdbcTemplate.batchUpdate(INSERT_SERVICE_FAQ, rows, rows.size(), (ps, row) -> {
+                FaqImportRow f = row.value;
+                ps.setString(1, newUuid());
+                ps.setString(2, f.getQuestion());
+                ps.setString(3, f.getAnswer());
+                ps.setInt(4, f.getDisplayOrder() != null ? f.getDisplayOrder() : 0);
+                ps.setInt(5, f.getDisplayStatus() != null ? f.getDisplayStatus() : 1);
+                ps.setString(6, now.toString()); // service_faqs keeps its dates as text
+                ps.setString(7, user.getUuid());
+                ps.setLong(8, row.parentId);
+            });
+            super.insert(rows);
+        }
+    }
+
+    // ------------------- Reading -------------------
+
+    /**
+     * Reads rows one at a time. NDJSON rows are numbered by line, CSV rows by record after the header.
+     */
+    private final class RowReader<R> implements Closeable {
+
+        private final Class<R> type;
+        private final BufferedReader lines;
+        private final CsvReader csv;
+        private final List<String> header;
+        private int number;
+
+        RowReader(Class<R> type, Format format, InputStream in) throws IOException {
+            this.type = type;
+            this.lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            if (format == Format.CSV) {
+                this.csv = new CsvReader(lines);
+                List<String> names = csv.next();
+                this.header = names != null ? names.stream().map(String::trim).collect(Collectors.toList()) : List.of();
+                if (!header.isEmpty()) header.set(0, header.get(0).replace("\uFEFF", ""));
+            } else {
+                this.csv = null;
+                this.header = null;
+            }
+        }
+
+        Row<R> next() throws IOException {
+            return csv != null ? nextCsv() : nextJson();
+        }
+
+        private Row<R> nextJson() throws IOException {
+            String line;
+            do {
+                line = lines.readLine();
+                if (line == null) return null;
+                number++;
+            } while (line.isBlank());
+            try {
+                return new Row<>(number, objectMapper.readValue(line, type), null);
+            } catch (JacksonException e) {
+                return new Row<>(number, null, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+
+        private Row<R> nextCsv() throws IOException {
+            List<String> fields;
+            try {
+                fields = csv.next();
+            } catch (IllegalArgumentException e) {
+                return new Row<>(++number, null, e.getMessage());
+            }
+            if (fields == null) return null;
+            number++;
+            if (fields.size() != header.size()) {
+                return new Row<>(number, null, "Expected " + header.size() + " columns but found " + fields.size());
+            }
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                String value = fields.get(i);
+                if (value.isEmpty()) continue;
+                String name = header.get(i);
+                values.put(name, LIST_COLUMNS.contains(name) ? Arrays.asList(value.split("\\|")) : value);
+            }
+            try {
+                return new Row<>(number, objectMapper.convertValue(values, type), null);
+            } catch (JacksonException e) {
+                return new Row<>(number, null, "Invalid row: " + e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            lines.close();
+        }
+    }
+
+    // ------------------- Helpers -------------------
+
+    private static String firstError(String... errors) {
+        for (String error : errors) if (error != null) return error;
+        return null;
+    }
+
+    // maxLength 0 = unbounded (TEXT columns)
+    private static String required(String value, String field, int maxLength) {
+        if (value == null || value.isBlank()) return field + " is required";
+        if (maxLength > 0 && value.length() > maxLength) return field + " must not exceed " + maxLength + " characters";
+        return null;
+    }
+
+    private static String status(Integer value, String field) {
+        return value == null || value == 1 || value == 2 ? null : field + " must be 1 or 2";
+    }
+
+    private static String trim(String value) {
+        return value != null ? value.trim() : null;
+    }
+
+    // Slugs are stored lower case
+    private static String normalize(String slug) {
+        return slug == null || slug.isBlank() ? null : slug.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String newUuid() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    private static <T, V> Map<String, V> toMap(List<T> rows, Function<T, String> key, Function<T, V> value) {
+        Map<String, V> map = new HashMap<>(rows.size() * 2);
+        for (T row : rows) map.put(key.apply(row).toLowerCase(Locale.ROOT), value.apply(row));
+        return map;
+    }
+}
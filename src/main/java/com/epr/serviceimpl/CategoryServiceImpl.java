@@ -1,14 +1,22 @@
 package com.epr.serviceimpl;
 
+import com.epr.cache.CatalogueVersion;
+import com.epr.cache.NavigationTree;
+import com.epr.cache.ResponseByteCache;
 import com.epr.dto.admin.category.CategoryRequestDto;
 import com.epr.dto.admin.category.CategoryResponseDto;
+import com.epr.dto.customer.CategoryCardDto;
 import com.epr.entity.Category;
 import com.epr.entity.User;
+import com.epr.event.TaxonomyChangedEvent;
 import com.epr.repository.CategoryRepository;
 import com.epr.repository.UserRepository;
+import com.epr.repository.projection.NavigationCategoryRow;
 import com.epr.service.CategoryService;
+import com.epr.service.SitemapService;
 import com.epr.util.DateTimeUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +36,21 @@ public class CategoryServiceImpl implements CategoryService {
     @Autowired
     private DateTimeUtil dateTimeUtil;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CatalogueVersion catalogueVersion;
+
+    @Autowired
+    private ResponseByteCache responseByteCache;
+
+    @Autowired
+    private NavigationTree navigationTree;
+
+    @Autowired
+    private SitemapService sitemapService;
+
     // Reusable method to validate active user
     private User validateAndGetActiveUser(Long userId) {
         if (userId == null || userId <= 0) {
@@ -44,6 +67,14 @@ public class CategoryServiceImpl implements CategoryService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategoryCardDto> findHomeCategories() {
+        return categoryRepository.findHomeRows().stream()
+                .map(r -> new CategoryCardDto(r.id(), r.name(), r.slug(), r.icon()))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public CategoryResponseDto findById(Long id) {
         if (id == null || id <= 0) {
@@ -79,6 +110,9 @@ public class CategoryServiceImpl implements CategoryService {
         category.setAddedByUUID(currentUser.getUuid());
 
         Category saved = categoryRepository.save(category);
+        navigationTree.categoryChanged(saved.getId(), toNavigationRow(saved));
+        sitemapService.segmentChanged(SitemapService.Segment.CATEGORIES);
+        catalogueVersion.bump();
         return toResponseDto(saved);
     }
 
@@ -111,6 +145,10 @@ public class CategoryServiceImpl implements CategoryService {
         existing.setModifyByUUID(currentUser.getUuid());
 
         Category updated = categoryRepository.save(existing);
+        eventPublisher.publishEvent(new TaxonomyChangedEvent(updated.getId(), null));
+        navigationTree.categoryChanged(updated.getId(), toNavigationRow(updated));
+        responseByteCache.invalidate(ResponseByteCache.BLOGS, ResponseByteCache.SERVICES, ResponseByteCache.category(updated.getId()));
+        catalogueVersion.bump();
         return toResponseDto(updated);
     }
 
@@ -134,9 +172,18 @@ public class CategoryServiceImpl implements CategoryService {
         category.setModifyByUUID(currentUser.getUuid());
 
         categoryRepository.save(category);
+        eventPublisher.publishEvent(new TaxonomyChangedEvent(category.getId(), null));
+        navigationTree.categoryChanged(category.getId(), null);
+        responseByteCache.invalidate(ResponseByteCache.BLOGS, ResponseByteCache.SERVICES, ResponseByteCache.category(category.getId()));
+        catalogueVersion.bump();
     }
 
     // Helper Methods
+    private static NavigationCategoryRow toNavigationRow(Category c) {
+        boolean visible = c.getDeleteStatus() == 2 && Integer.valueOf(1).equals(c.getDisplayStatus());
+        return visible ? new NavigationCategoryRow(c.getId(), c.getName(), c.getSlug(), c.getIcon()) : null;
+    }
+
     private void validateDto(CategoryRequestDto dto) {
         if (dto == null) throw new IllegalArgumentException("Category data is required");
         if (dto.getName() == null || dto.getName().trim().isEmpty())
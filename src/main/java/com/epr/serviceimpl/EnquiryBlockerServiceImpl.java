@@ -0,0 +1,157 @@
+// src/main/java/com/epr/serviceimpl/EnquiryBlockerServiceImpl.java
+package com.epr.serviceimpl;
+
+import com.epr.cache.EnquiryBlocklist;
+import com.epr.dto.admin.enquiry.EnquiryBlockerRequestDto;
+import com.epr.dto.admin.enquiry.EnquiryBlockerResponseDto;
+import com.epr.entity.EnquiryBlocker;
+import com.epr.entity.User;
+import com.epr.repository.EnquiryBlockerRepository;
+import com.epr.repository.UserRepository;
+import com.epr.service.EnquiryBlockerService;
+import com.epr.util.ContactKeys;
+import com.epr.util.DateTimeUtil;
+import com.epr.util.IpRangeSet;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Admin side of the enquiry blocklist. Every block / unblock reloads the whole list into
+ * {@link EnquiryBlocklist} once it commits, so the in-memory copy is always one consistent snapshot
+ * of the table.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class EnquiryBlockerServiceImpl implements EnquiryBlockerService {
+
+    private static final Logger log = LoggerFactory.getLogger(EnquiryBlockerServiceImpl.class);
+
+    private final EnquiryBlockerRepository enquiryBlockerRepository;
+    private final UserRepository userRepository;
+    private final EnquiryBlocklist enquiryBlocklist;
+    private final DateTimeUtil dateTimeUtil;
+
+    private User validateAndGetActiveUser(Long userId) {
+        if (userId == null || userId <= 0) throw new IllegalArgumentException("User ID is required");
+        return userRepository.findActiveUserById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found or inactive"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EnquiryBlockerResponseDto> findAll() {
+        return enquiryBlockerRepository.findAllByOrderByIdDesc()
+                .stream()
+                .map(this::toResponseDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public EnquiryBlockerResponseDto block(EnquiryBlockerRequestDto dto, Long userId) {
+        User user = validateAndGetActiveUser(userId);
+
+        String email = ContactKeys.emailKey(dto.getEmail());
+        String mobile = ContactKeys.mobileKey(dto.getMobile());
+        String ipAddress = dto.getIpAddress() != null && !dto.getIpAddress().isBlank() ? dto.getIpAddress().trim() : null;
+
+        if (email == null && mobile == null && ipAddress == null) {
+            throw new IllegalArgumentException("Please provide an email, mobile number or IP address to block");
+        }
+        if (email != null && (email.indexOf('@') < 0 || email.endsWith("@"))) {
+            throw new IllegalArgumentException("Email must be an address or @domain");
+        }
+        if (dto.getMobile() != null && !dto.getMobile().isBlank() && mobile == null) {
+            throw new IllegalArgumentException("Mobile number must contain digits");
+        }
+        if (ipAddress != null && !IpRangeSet.isValid(ipAddress)) {
+            throw new IllegalArgumentException("IP address must be an IP or CIDR range, e.g. 203.0.113.0/24");
+        }
+
+        EnquiryBlocker blocker = new EnquiryBlocker();
+        blocker.setEmail(email);
+        blocker.setMobile(mobile);
+        blocker.setIpAddress(ipAddress);
+        blocker.setReason(dto.getReason());
+        blocker.setBlockedByUUID(user.getUuid());
+
+        EnquiryBlocker saved = enquiryBlockerRepository.save(blocker);
+        reloadAfterCommit();
+        log.info("Enquiry blocker {} added by user {}", saved.getId(), userId);
+        return toResponseDto(saved);
+    }
+
+    @Override
+    public void unblock(Long id, Long userId) {
+        if (id == null || id <= 0) throw new IllegalArgumentException("Invalid blocker ID");
+        validateAndGetActiveUser(userId);
+
+        EnquiryBlocker blocker = enquiryBlockerRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Blocker not found"));
+        enquiryBlockerRepository.delete(blocker);
+        reloadAfterCommit();
+        log.info("Enquiry blocker {} removed by user {}", id, userId);
+    }
+
+    @Override
+    public boolean isBlocked(String email, String mobile, String ipAddress) {
+        return enquiryBlocklist.match(email, mobile, ipAddress).isPresent();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(7)
+    @Transactional(readOnly = true)
+    public void load() {
+        List<String> emails = new ArrayList<>();
+        List<String> mobiles = new ArrayList<>();
+        List<String> ipRanges = new ArrayList<>();
+        for (EnquiryBlocker blocker : enquiryBlockerRepository.findAll()) {
+            if (blocker.getEmail() != null) emails.add(blocker.getEmail());
+            String mobile = ContactKeys.mobileKey(blocker.getMobile());
+            if (mobile != null) mobiles.add(mobile);
+            if (blocker.getIpAddress() != null) {
+                if (IpRangeSet.isValid(blocker.getIpAddress())) ipRanges.add(blocker.getIpAddress());
+                else log.warn("Enquiry blocker {} has an invalid IP address '{}', ignored", blocker.getId(), blocker.getIpAddress());
+            }
+        }
+        enquiryBlocklist.replaceAll(emails, mobiles, ipRanges);
+        log.info("Enquiry blocklist loaded: {} emails, {} mobiles, {} IP ranges", emails.size(), mobiles.size(), ipRanges.size());
+    }
+
+    private void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            load();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                load();
+            }
+        });
+    }
+
+    private EnquiryBlockerResponseDto toResponseDto(EnquiryBlocker b) {
+        EnquiryBlockerResponseDto dto = new EnquiryBlockerResponseDto();
+        dto.setId(b.getId());
+        dto.setEmail(b.getEmail());
+        dto.setMobile(b.getMobile());
+        dto.setIpAddress(b.getIpAddress());
+        dto.setReason(b.getReason());
+        dto.setBlockedByUuid(b.getBlockedByUUID());
+        dto.setBlockedAt(b.getBlockedAt() != null ? dateTimeUtil.formatDateTimeIst(b.getBlockedAt()) : "N/A");
+        return dto;
+    }
+}
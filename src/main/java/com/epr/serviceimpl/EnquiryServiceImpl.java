@@ -1,22 +1,44 @@
 package com.epr.serviceimpl;
 
+import com.epr.cache.ContactKeyIndex;
+import com.epr.dto.admin.enquiry.EnquiryFilterDto;
 import com.epr.dto.admin.enquiry.EnquiryRequestDto;
 import com.epr.dto.admin.enquiry.EnquiryResponseDto;
+import com.epr.dto.customer.CursorPage;
 import com.epr.entity.Enquiry;
 import com.epr.entity.User;
+import com.epr.ingest.EnquiryLog;
+import com.epr.ingest.EnquiryLogRecord;
 import com.epr.repository.EnquiryRepository;
 import com.epr.repository.UserRepository;
+import com.epr.repository.projection.ContactRow;
 import com.epr.service.EnquiryService;
+import com.epr.util.BloomFilter;
+import com.epr.util.ContactKeys;
 import com.epr.util.DateTimeUtil;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -25,9 +47,15 @@ public class EnquiryServiceImpl implements EnquiryService {
 
     private static final Logger log = LoggerFactory.getLogger(EnquiryServiceImpl.class);
 
+    private static final int BACKFILL_CHUNK = 1000;
+
     private final EnquiryRepository enquiryRepository;
     private final UserRepository userRepository;
     private final DateTimeUtil dateTimeUtil;
+    private final EnquiryLog enquiryLog;
+    private final ContactKeyIndex contactKeyIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
 
     private User validateAndGetActiveUser(Long userId) {
         if (userId == null || userId <= 0) throw new IllegalArgumentException("User ID is required");
@@ -40,18 +68,18 @@ public class EnquiryServiceImpl implements EnquiryService {
     public EnquiryResponseDto createEnquiry(EnquiryRequestDto dto, String ipAddress, String url) {
 
         // Trim & lowercase
-        String email = dto.getEmail() != null ? dto.getEmail().trim().toLowerCase() : null;
-        String mobile = dto.getMobile() != null ? dto.getMobile().trim() : null;
+        String email = normalizeEmail(dto);
+        String mobile = normalizeMobile(dto);
 
         // Validation: at least email OR mobile required
-        if ((email == null || email.isBlank()) && (mobile == null || mobile.isBlank())) {
-            throw new IllegalArgumentException("Please provide either email or mobile number");
-        }
+        requireContact(email, mobile);
+
+        // Duplicates are matched on the normalized keys; a key the filter has never seen skips its lookup
+        String emailKey = ContactKeys.emailKey(email);
+        String mobileKey = ContactKeys.mobileKey(mobile);
 
         // Check if enquiry with same email exists (active only)
-        Optional<Enquiry> existingByEmail = email != null && !email.isBlank()
-                ? enquiryRepository.findByEmailAndDeleteStatus(email, 2)
-                : Optional.empty();
+        Optional<Enquiry> existingByEmail = findByContactKey(emailKey, enquiryRepository::findFirstByEmailKeyAndDeleteStatusOrderByIdAsc);
 
         if (existingByEmail.isPresent()) {
             Enquiry existing = existingByEmail.get();
@@ -64,9 +92,7 @@ public class EnquiryServiceImpl implements EnquiryService {
         }
 
         // Check if enquiry with same mobile exists
-        Optional<Enquiry> existingByMobile = mobile != null && !mobile.isBlank()
-                ? enquiryRepository.findByMobileAndDeleteStatus(mobile, 2)
-                : Optional.empty();
+        Optional<Enquiry> existingByMobile = findByContactKey(mobileKey, enquiryRepository::findFirstByMobileKeyAndDeleteStatusOrderByIdAsc);
 
         if (existingByMobile.isPresent()) {
             Enquiry existing = existingByMobile.get();
@@ -78,13 +104,81 @@ public class EnquiryServiceImpl implements EnquiryService {
         }
 
         // No duplicate → create new
+        Enquiry enquiry = newEnquiry(java.util.UUID.randomUUID().toString(), dto, email, mobile, ipAddress, url);
+
+        Enquiry savedEnquiry = enquiryRepository.save(enquiry);
+        contactKeyIndex.added(savedEnquiry.getEmailKey(), savedEnquiry.getMobileKey());
+        log.info("New enquiry created with ID: {} from IP: {}", savedEnquiry.getId(), ipAddress);
+
+        return toResponseDto(savedEnquiry);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String submitEnquiry(EnquiryRequestDto dto, String ipAddress, String url) {
+        requireContact(normalizeEmail(dto), normalizeMobile(dto));
+        String uuid = java.util.UUID.randomUUID().toString();
+        enquiryLog.append(uuid, LocalDateTime.now(), ipAddress, url, dto);
+        return uuid;
+    }
+
+    @Override
+    public void applyLogged(List<EnquiryLogRecord> records) {
+        Set<String> emailKeys = new HashSet<>();
+        Set<String> mobileKeys = new HashSet<>();
+        for (EnquiryLogRecord record : records) {
+            String emailKey = ContactKeys.emailKey(record.enquiry().getEmail());
+            String mobileKey = ContactKeys.mobileKey(record.enquiry().getMobile());
+            if (contactKeyIndex.mightContain(emailKey)) emailKeys.add(emailKey);
+            if (contactKeyIndex.mightContain(mobileKey)) mobileKeys.add(mobileKey);
+        }
+
+        // One lookup per contact kind for the whole batch instead of two per enquiry
+        Map<String, Enquiry> byEmail = new HashMap<>();
+        Map<String, Enquiry> byMobile = new HashMap<>();
+        if (!emailKeys.isEmpty()) enquiryRepository.findByEmailKeyInAndDeleteStatusOrderByIdAsc(emailKeys, 2).forEach(e -> byEmail.putIfAbsent(e.getEmailKey(), e));
+        if (!mobileKeys.isEmpty()) enquiryRepository.findByMobileKeyInAndDeleteStatusOrderByIdAsc(mobileKeys, 2).forEach(e -> byMobile.putIfAbsent(e.getMobileKey(), e));
+
+        List<Enquiry> created = new ArrayList<>();
+        for (EnquiryLogRecord record : records) {
+            EnquiryRequestDto dto = record.enquiry();
+            String email = normalizeEmail(dto);
+            String mobile = normalizeMobile(dto);
+            String emailKey = ContactKeys.emailKey(email);
+            String mobileKey = ContactKeys.mobileKey(mobile);
+
+            Enquiry enquiry = emailKey != null ? byEmail.get(emailKey) : null;
+            if (enquiry == null && mobileKey != null) enquiry = byMobile.get(mobileKey);
+
+            if (enquiry != null) {
+                enquiry.setCount(enquiry.getCount() + 1L);
+                updateExistingEnquiry(enquiry, dto, record.ipAddress(), record.url());
+            } else {
+                enquiry = newEnquiry(record.uuid(), dto, email, mobile, record.ipAddress(), record.url());
+                enquiry.setCreatedAt(record.receivedAt());
+                created.add(enquiry);
+            }
+            // Later enquiries in the same batch merge into this one, as they would one request at a time
+            if (enquiry.getEmailKey() != null) byEmail.putIfAbsent(enquiry.getEmailKey(), enquiry);
+            if (enquiry.getMobileKey() != null) byMobile.putIfAbsent(enquiry.getMobileKey(), enquiry);
+        }
+
+        // Merged enquiries are managed and flushed by the transaction
+        enquiryRepository.saveAll(created);
+        created.forEach(e -> contactKeyIndex.added(e.getEmailKey(), e.getMobileKey()));
+        log.debug("Applied {} logged enquiries ({} new)", records.size(), created.size());
+    }
+
+    private Enquiry newEnquiry(String uuid, EnquiryRequestDto dto, String email, String mobile, String ipAddress, String url) {
         Enquiry enquiry = new Enquiry();
-        enquiry.setUuid(java.util.UUID.randomUUID().toString());
+        enquiry.setUuid(uuid);
         enquiry.setType(dto.getType());
         enquiry.setMessage(dto.getMessage());
         enquiry.setName(dto.getName() != null ? dto.getName().trim() : null);
         enquiry.setEmail(email);
         enquiry.setMobile(mobile);
+        enquiry.setEmailKey(ContactKeys.emailKey(email));
+        enquiry.setMobileKey(ContactKeys.mobileKey(mobile));
         enquiry.setCity(dto.getCity() != null ? dto.getCity().trim() : null);
         // UTM
         enquiry.setUtmSource(dto.getUtmSource());
@@ -98,11 +192,81 @@ public class EnquiryServiceImpl implements EnquiryService {
         enquiry.setDisplayStatus(1);
         enquiry.setDeleteStatus(2);
         enquiry.setCount(1L);
+        return enquiry;
+    }
 
-        Enquiry savedEnquiry = enquiryRepository.save(enquiry);
-        log.info("New enquiry created with ID: {} from IP: {}", savedEnquiry.getId(), ipAddress);
+    private Optional<Enquiry> findByContactKey(String key, BiFunction<String, Integer, Optional<Enquiry>> lookup) {
+        if (!contactKeyIndex.mightContain(key)) return Optional.empty();
+        Optional<Enquiry> found = lookup.apply(key, 2);
+        if (found.isEmpty()) contactKeyIndex.lookupMissed();
+        return found;
+    }
 
-        return toResponseDto(savedEnquiry);
+    /**
+     * Fills the contact keys of enquiries stored before they existed, then loads the filter of
+     * known keys. Until it is loaded every submission does its lookups.
+     *
+     * Runs outside a transaction: enquiries committing from beginLoad on are replayed into the
+     * filter, and everything committed before it is visible to the read, which starts afterwards
+     * in its own transaction once the backfill has committed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(6)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void loadContactKeys() {
+        contactKeyIndex.beginLoad();
+        try {
+            Integer backfilled = transactionTemplate.execute(status -> backfillContactKeys());
+            if (backfilled != null && backfilled > 0) log.info("Contact keys filled in for {} existing enquiries", backfilled);
+
+            BloomFilter filter = transactionTemplate.execute(status -> {
+                BloomFilter loaded = contactKeyIndex.newFilter(enquiryRepository.countByDeleteStatus(2) * 2);
+                try (Stream<ContactRow> keys = enquiryRepository.streamActiveContactKeys()) {
+                    keys.forEach(row -> {
+                        if (row.email() != null) loaded.put(row.email());
+                        if (row.mobile() != null) loaded.put(row.mobile());
+                    });
+                }
+                return loaded;
+            });
+            contactKeyIndex.replaceAll(filter);
+            log.info("Contact key filter loaded: {} keys", filter.keys());
+        } catch (RuntimeException e) {
+            contactKeyIndex.abandonLoad();
+            throw e;
+        }
+    }
+
+    private int backfillContactKeys() {
+        int backfilled = 0;
+        long after = 0;
+        List<ContactRow> rows;
+        while (!(rows = enquiryRepository.findRowsWithoutContactKeys(after, PageRequest.of(0, BACKFILL_CHUNK))).isEmpty()) {
+            List<Object[]> batch = new ArrayList<>(rows.size());
+            for (ContactRow row : rows) {
+                String emailKey = ContactKeys.emailKey(row.email());
+                String mobileKey = ContactKeys.mobileKey(row.mobile());
+                if (emailKey != null || mobileKey != null) batch.add(new Object[]{emailKey, mobileKey, row.id()});
+            }
+            if (!batch.isEmpty()) jdbcTemplate.batchUpdate("UPDATE enquiries SET email_key = ?, mobile_key = ? WHERE id = ?", batch);
+            backfilled += batch.size();
+            after = rows.get(rows.size() - 1).id();
+        }
+        return backfilled;
+    }
+
+    private static String normalizeEmail(EnquiryRequestDto dto) {
+        return dto.getEmail() != null ? dto.getEmail().trim().toLowerCase() : null;
+    }
+
+    private static String normalizeMobile(EnquiryRequestDto dto) {
+        return dto.getMobile() != null ? dto.getMobile().trim() : null;
+    }
+
+    private static void requireContact(String email, String mobile) {
+        if ((email == null || email.isBlank()) && (mobile == null || mobile.isBlank())) {
+            throw new IllegalArgumentException("Please provide either email or mobile number");
+        }
     }
 
     // Helper method to update latest data when count increases
@@ -137,6 +301,64 @@ public class EnquiryServiceImpl implements EnquiryService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<EnquiryResponseDto> findActivePage(EnquiryFilterDto filter, Long cursor, Integer size) {
+        if (cursor != null && cursor <= 0) throw new IllegalArgumentException("Invalid cursor");
+        int limit = CursorPage.clampSize(size);
+
+        Specification<Enquiry> spec = activeMatching(filter);
+        if (cursor != null) spec = spec.and((root, query, cb) -> cb.lessThan(root.get("id"), cursor));
+
+        // One row past the page tells whether there is a next one
+        List<Enquiry> rows = enquiryRepository.findBy(spec,
+                q -> q.sortBy(Sort.by(Sort.Direction.DESC, "id")).limit(limit + 1).all());
+        List<EnquiryResponseDto> items = rows.stream().limit(limit).map(this::toResponseDto).toList();
+        String nextCursor = rows.size() > limit ? String.valueOf(items.get(items.size() - 1).getId()) : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countActive(EnquiryFilterDto filter) {
+        return enquiryRepository.count(activeMatching(filter));
+    }
+
+    // Only the filters given become predicates, so MySQL can pick the matching idx_enquiries_active_* index
+    private Specification<Enquiry> activeMatching(EnquiryFilterDto filter) {
+        if (filter != null && filter.getFrom() != null && filter.getTo() != null && filter.getFrom().isAfter(filter.getTo())) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        return (root, query, cb) -> {
+            List<Predicate> where = new ArrayList<>();
+            where.add(cb.equal(root.get("deleteStatus"), 2));
+            if (filter != null) {
+                // createdAt is stored in UTC; the dates are IST days
+                if (filter.getFrom() != null) {
+                    where.add(cb.greaterThanOrEqualTo(root.get("createdAt"), dateTimeUtil.istToUtc(filter.getFrom().atStartOfDay())));
+                }
+                if (filter.getTo() != null) {
+                    where.add(cb.lessThan(root.get("createdAt"), dateTimeUtil.istToUtc(filter.getTo().plusDays(1).atStartOfDay())));
+                }
+                addEqual(where, cb, root.get("type"), trimToNull(filter.getType()));
+                addEqual(where, cb, root.get("city"), trimToNull(filter.getCity()));
+                addEqual(where, cb, root.get("utmSource"), trimToNull(filter.getUtmSource()));
+                addEqual(where, cb, root.get("utmCampaign"), trimToNull(filter.getUtmCampaign()));
+                addEqual(where, cb, root.get("categoryId"), filter.getCategoryId());
+                addEqual(where, cb, root.get("serviceId"), filter.getServiceId());
+            }
+            return cb.and(where.toArray(Predicate[]::new));
+        };
+    }
+
+    private static void addEqual(List<Predicate> where, CriteriaBuilder cb, Path<Object> path, Object value) {
+        if (value != null) where.add(cb.equal(path, value));
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
     @Override
     public void softDeleteEnquiry(Long id, Long userId) {
         if (id == null || id <= 0) throw new IllegalArgumentException("Invalid enquiry ID");
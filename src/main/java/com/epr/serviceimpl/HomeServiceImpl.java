@@ -0,0 +1,134 @@
+// src/main/java/com/epr/serviceimpl/HomeServiceImpl.java
+package com.epr.serviceimpl;
+
+import com.epr.cache.CatalogueVersion;
+import com.epr.dto.customer.HomePageDto;
+import com.epr.service.BlogService;
+import com.epr.service.CategoryService;
+import com.epr.service.HomeService;
+import com.epr.service.PlatformRatingService;
+import com.epr.service.ServiceService;
+import com.epr.util.DeadlineFanOut;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The home page payload, cached whole and keyed by {@link CatalogueVersion}: it is rebuilt only after
+ * an admin write has bumped the version, by one request while the others wait for it.
+ *
+ * A rebuild loads the pieces concurrently, each with the same deadline. A piece that misses it or
+ * fails is served from its last good value and named in staleSections; such a page is returned but
+ * not cached, so the next request tries again.
+ */
+@Service
+public class HomeServiceImpl implements HomeService {
+
+    private static final int LATEST_BLOGS = 10;
+
+    private record Cached(long version, HomePageDto page) {
+    }
+
+    private final BlogService blogService;
+    private final ServiceService serviceService;
+    private final PlatformRatingService platformRatingService;
+    private final CategoryService categoryService;
+    private final CatalogueVersion catalogueVersion;
+    private final ExecutorService homeExecutor;
+    private final long pieceTimeoutMs;
+
+    private volatile Cached cached;
+    // piece name -> last value it loaded successfully
+    private final Map<String, List<?>> lastGood = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong rebuilds = new AtomicLong();
+    private final AtomicLong stalePieces = new AtomicLong();
+
+    public HomeServiceImpl(BlogService blogService,
+                           ServiceService serviceService,
+                           PlatformRatingService platformRatingService,
+                           CategoryService categoryService,
+                           CatalogueVersion catalogueVersion,
+                           @Qualifier("homeExecutor") ExecutorService homeExecutor,
+                           @Value("${app.home.piece-timeout-ms:500}") long pieceTimeoutMs) {
+        this.blogService = blogService;
+        this.serviceService = serviceService;
+        this.platformRatingService = platformRatingService;
+        this.categoryService = categoryService;
+        this.catalogueVersion = catalogueVersion;
+        this.homeExecutor = homeExecutor;
+        this.pieceTimeoutMs = pieceTimeoutMs;
+    }
+
+    @Override
+    public HomePageDto findHomePage() {
+        Cached current = cached;
+        if (current != null && current.version() == catalogueVersion.version()) {
+            hits.incrementAndGet();
+            return current.page();
+        }
+        synchronized (this) {
+            // Read before loading: a write committed meanwhile bumps past it and forces another rebuild
+            long version = catalogueVersion.version();
+            current = cached;
+            if (current != null && current.version() == version) {
+                hits.incrementAndGet();
+                return current.page();
+            }
+            HomePageDto page = build();
+            if (page.getStaleSections().isEmpty()) cached = new Cached(version, page);
+            return page;
+        }
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        Cached current = cached;
+        metrics.put("cachedVersion", current != null ? current.version() : null);
+        metrics.put("hits", hits.get());
+        metrics.put("rebuilds", rebuilds.get());
+        metrics.put("stalePieces", stalePieces.get());
+        return metrics;
+    }
+
+    private HomePageDto build() {
+        rebuilds.incrementAndGet();
+        DeadlineFanOut pieces = DeadlineFanOut.start("Home page piece", homeExecutor, pieceTimeoutMs);
+        DeadlineFanOut.Call<List<?>> featuredBlogs = pieces.submit("featuredBlogs", blogService::findFeaturedPublicBlogs);
+        DeadlineFanOut.Call<List<?>> featuredServices = pieces.submit("featuredServices", serviceService::findFeaturedServices);
+        DeadlineFanOut.Call<List<?>> latestBlogs = pieces.submit("latestBlogs", () -> blogService.findLatestPublicBlogs(LATEST_BLOGS));
+        DeadlineFanOut.Call<List<?>> ratings = pieces.submit("ratings", platformRatingService::findAllActiveAndVisible);
+        DeadlineFanOut.Call<List<?>> categories = pieces.submit("categories", categoryService::findHomeCategories);
+
+        HomePageDto page = new HomePageDto();
+        page.setFeaturedBlogs(cast(orLastGood(pieces, featuredBlogs)));
+        page.setFeaturedServices(cast(orLastGood(pieces, featuredServices)));
+        page.setLatestBlogs(cast(orLastGood(pieces, latestBlogs)));
+        page.setRatings(cast(orLastGood(pieces, ratings)));
+        page.setCategories(cast(orLastGood(pieces, categories)));
+        page.setStaleSections(pieces.failed());
+        return page;
+    }
+
+    private List<?> orLastGood(DeadlineFanOut pieces, DeadlineFanOut.Call<List<?>> piece) {
+        Optional<List<?>> value = pieces.await(piece);
+        if (value.isPresent()) {
+            lastGood.put(piece.name(), value.get());
+            return value.get();
+        }
+        stalePieces.incrementAndGet();
+        return lastGood.getOrDefault(piece.name(), List.of());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> cast(List<?> value) {
+        return (List<T>) value;
+    }
+}
@@ -0,0 +1,74 @@
+// src/main/java/com/epr/serviceimpl/NavigationServiceImpl.java
+package com.epr.serviceimpl;
+
+import com.epr.cache.NavigationTree;
+import com.epr.dto.customer.NavigationCategoryDto;
+import com.epr.event.ContentImportedEvent;
+import com.epr.repository.BlogRepository;
+import com.epr.repository.CategoryRepository;
+import com.epr.repository.ServiceRepository;
+import com.epr.repository.SubcategoryRepository;
+import com.epr.service.NavigationService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads {@link NavigationTree} with four statements: visible categories, visible subcategories and
+ * the public blog and service counts grouped by (category, subcategory). Between loads the admin
+ * write methods keep the counts current; a periodic reload only corrects drift from writes that
+ * raced a load.
+ */
+@Service
+@RequiredArgsConstructor
+public class NavigationServiceImpl implements NavigationService {
+
+    private static final Logger log = LoggerFactory.getLogger(NavigationServiceImpl.class);
+
+    private final NavigationTree navigationTree;
+    private final CategoryRepository categoryRepository;
+    private final SubcategoryRepository subcategoryRepository;
+    private final BlogRepository blogRepository;
+    private final ServiceRepository serviceRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<NavigationCategoryDto> findNavigation() {
+        if (!navigationTree.isLoaded()) load();
+        return navigationTree.tree();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(4)
+    @Scheduled(initialDelayString = "${app.navigation.reload-interval-ms:600000}",
+            fixedDelayString = "${app.navigation.reload-interval-ms:600000}")
+    @Transactional(readOnly = true)
+    public void load() {
+        navigationTree.replaceAll(categoryRepository.findNavigationRows(), subcategoryRepository.findNavigationRows(),
+                blogRepository.countPublicByPlacement(), serviceRepository.countPublicByPlacement());
+        log.debug("Navigation tree loaded: {}", navigationTree.metrics());
+    }
+
+    // Bulk imports do not report placements row by row
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onContentImported(ContentImportedEvent event) {
+        load();
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        return navigationTree.metrics();
+    }
+}
@@ -2,9 +2,11 @@ package com.epr.serviceimpl;
 
 
 
+import com.epr.cache.CatalogueVersion;
 import com.epr.dto.admin.rating.PlatformRatingRequestDto;
 import com.epr.dto.admin.rating.PlatformRatingResponseDto;
 import com.epr.dto.customer.PlatformRatingDto;
+import com.epr.dto.customer.PlatformRatingSummaryDto;
 import com.epr.entity.PlatformRating;
 import com.epr.entity.User;
 import com.epr.repository.PlatformRatingRepository;
@@ -14,12 +16,22 @@ import com.epr.util.DateTimeUtil;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * Visible ratings are served from an immutable in-memory snapshot (list plus precomputed summary).
+ * The table is tiny and rarely written, so every admin write simply reloads the snapshot once it has
+ * committed and swaps it in; public reads never reach the database.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -30,6 +42,12 @@ public class PlatformRatingServiceImpl implements PlatformRatingService {
     private final PlatformRatingRepository ratingRepository;
     private final UserRepository userRepository;
     private final DateTimeUtil dateTimeUtil;
+    private final CatalogueVersion catalogueVersion;
+
+    private record Snapshot(List<PlatformRatingDto> ratings, PlatformRatingSummaryDto summary) {
+    }
+
+    private volatile Snapshot snapshot;
 
     private User validateAndGetActiveUser(Long userId) {
         return userRepository.findActiveUserById(userId)
@@ -45,11 +63,58 @@ public class PlatformRatingServiceImpl implements PlatformRatingService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<PlatformRatingDto> findAllActiveAndVisible() {
-        return ratingRepository.findAllActiveAndVisible()
-                .stream()
-                .map(this::toCustomerDto)
-                .collect(Collectors.toList());
+        return snapshot().ratings();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public PlatformRatingSummaryDto findSummary() {
+        return snapshot().summary();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void reload() {
+        List<PlatformRating> rows = ratingRepository.findAllActiveAndVisible();
+        snapshot = new Snapshot(rows.stream().map(this::toCustomerDto).toList(), summarize(rows));
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) return current;
+        reload();
+        return snapshot;
+    }
+
+    // Reloads in commit order, so the last write to commit also swaps in last
+    private void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+        });
+    }
+
+    private static PlatformRatingSummaryDto summarize(List<PlatformRating> rows) {
+        if (rows.isEmpty()) return new PlatformRatingSummaryDto(null, 0, 0);
+        long totalReviews = 0;
+        double weighted = 0;
+        double plain = 0;
+        for (PlatformRating r : rows) {
+            long reviews = r.getTotalReviews() != null ? r.getTotalReviews() : 0;
+            totalReviews += reviews;
+            weighted += r.getRating() * reviews;
+            plain += r.getRating();
+        }
+        double aggregate = totalReviews > 0 ? weighted / totalReviews : plain / rows.size();
+        return new PlatformRatingSummaryDto(Math.round(aggregate * 10) / 10.0, totalReviews, rows.size());
     }
 
     @Override
@@ -73,6 +138,8 @@ public class PlatformRatingServiceImpl implements PlatformRatingService {
         rating.setAddedByUUID(user.getUuid());
 
         PlatformRating saved = ratingRepository.save(rating);
+        reloadAfterCommit();
+        catalogueVersion.bump();
         log.info("Platform rating created: {} by userId={}", dto.getPlatform(), userId);
         return toAdminResponseDto(saved);
     }
@@ -96,6 +163,8 @@ public class PlatformRatingServiceImpl implements PlatformRatingService {
         existing.setUpdatedAt(dateTimeUtil.getCurrentUtcTime());
 
         PlatformRating updated = ratingRepository.save(existing);
+        reloadAfterCommit();
+        catalogueVersion.bump();
         log.info("Platform rating updated: {} (ID: {}) by userId={}", dto.getPlatform(), id, userId);
         return toAdminResponseDto(updated);
     }
@@ -109,6 +178,8 @@ public class PlatformRatingServiceImpl implements PlatformRatingService {
 
         rating.setDeleteStatus(1);
         ratingRepository.save(rating);
+        reloadAfterCommit();
+        catalogueVersion.bump();
         log.info("Platform rating soft deleted: ID={} by userId={}", id, userId);
     }
 
@@ -0,0 +1,392 @@
+// src/main/java/com/epr/serviceimpl/RelatedContentServiceImpl.java
+package com.epr.serviceimpl;
+
+import com.epr.cache.PublicBlog;
+import com.epr.cache.PublicBlogCatalogue;
+import com.epr.cache.ResponseByteCache;
+import com.epr.cache.ResponseCacheContext;
+import com.epr.dto.customer.BlogCardDto;
+import com.epr.dto.customer.RelatedContentDto;
+import com.epr.dto.customer.ServiceCardDto;
+import com.epr.event.BlogChangedEvent;
+import com.epr.event.ContentImportedEvent;
+import com.epr.event.ServiceChangedEvent;
+import com.epr.event.TaxonomyChangedEvent;
+import com.epr.search.InvertedIndex;
+import com.epr.search.PublicSearchIndex;
+import com.epr.service.BlogService;
+import com.epr.service.RelatedContentService;
+import com.epr.service.ServiceService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Precomputed "related content" adjacency for the public pages, held as primitive id arrays:
+ * blog -> related blogs, blog -> services, service -> blogs and service -> related services.
+ *
+ * Built once after startup, then maintained in the background: the change listeners only queue
+ * the touched ids and {@link #refresh()} recomputes the affected entries. A request is two map
+ * lookups plus the card lookups for the (bounded) ids it returns.
+ */
+@Service
+@RequiredArgsConstructor
+public class RelatedContentServiceImpl implements RelatedContentService {
+
+    private static final Logger log = LoggerFactory.getLogger(RelatedContentServiceImpl.class);
+
+    private static final int MAX_RELATED = 8;
+    private static final int TEXT_CANDIDATES = 20;
+    private static final long[] NONE = new long[0];
+
+    // Blog relatedness weights
+    private static final double SHARED_SERVICE = 3.0;   // per service both blogs link to
+    private static final double SAME_SUBCATEGORY = 2.0;
+    private static final double SAME_CATEGORY = 0.5;    // only boosts blogs that are already candidates
+    private static final double TEXT_SIMILARITY = 2.0;  // scaled by the BM25 score relative to the best match
+
+    // Service relatedness weights
+    private static final double SHARED_BLOG = 1.0;      // per blog linking both services
+
+    private final BlogService blogService;
+    private final ServiceService serviceService;
+    private final PublicBlogCatalogue publicBlogCatalogue;
+    private final PublicSearchIndex publicSearchIndex;
+    private final ResponseByteCache responseByteCache;
+
+    // null until the first build; replaced wholesale by rebuild(), patched in place by refresh()
+    private volatile Graph graph;
+
+    // Ids touched by committed writes, applied by the next refresh()
+    private final Set<Long> dirtyBlogs = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyServices = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong rebuilds = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong recomputedEntries = new AtomicLong();
+
+    private record Graph(Map<Long, long[]> relatedBlogs,
+                         Map<Long, long[]> blogServices,
+                         Map<Long, long[]> serviceBlogs,
+                         Map<Long, long[]> relatedServices,
+                         Map<Long, ServiceCardDto> services,
+                         Map<String, Long> serviceIdsBySlug) {
+
+        Graph() {
+            this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>(),
+                    new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public RelatedContentDto findRelatedForBlog(String slug) {
+        if (slug == null || slug.trim().isEmpty()) return null;
+        ResponseCacheContext.tag(ResponseByteCache.RELATED);
+        Graph g = graph();
+        PublicBlogCatalogue.Snapshot snapshot = catalogue();
+
+        Optional<BlogCardDto> blog = snapshot.bySlug(slug.trim());
+        if (blog.isEmpty()) return null;
+        Long id = blog.get().getId();
+        return new RelatedContentDto(
+                blogCards(snapshot, g.relatedBlogs().get(id)),
+                serviceCards(g, g.blogServices().get(id)));
+    }
+
+    @Override
+    public RelatedContentDto findRelatedForService(String slug) {
+        if (slug == null || slug.trim().isEmpty()) return null;
+        ResponseCacheContext.tag(ResponseByteCache.RELATED);
+        Graph g = graph();
+        PublicBlogCatalogue.Snapshot snapshot = catalogue();
+
+        Long id = g.serviceIdsBySlug().get(slug.trim().toLowerCase(Locale.ROOT));
+        if (id == null) return null;
+        return new RelatedContentDto(
+                blogCards(snapshot, g.serviceBlogs().get(id)),
+                serviceCards(g, g.relatedServices().get(id)));
+    }
+
+    // After the catalogue (Order 0) and the blog search index (Order 1) are loaded
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(3)
+    public synchronized void rebuild() {
+        // Anything queued from here on is re-applied on top of the fresh graph
+        dirtyBlogs.clear();
+        dirtyServices.clear();
+
+        PublicBlogCatalogue.Snapshot snapshot = catalogue();
+        Graph fresh = new Graph();
+        for (ServiceCardDto card : serviceService.findAllActivePublicServices()) {
+            fresh.services().put(card.getId(), card);
+            fresh.serviceIdsBySlug().put(card.getSlug().toLowerCase(Locale.ROOT), card.getId());
+        }
+
+        Set<Long> linkedServices = new HashSet<>(fresh.services().keySet());
+        for (PublicBlog blog : snapshot.blogs()) {
+            fresh.blogServices().put(blog.id(), toArray(blog.serviceIds()));
+            linkedServices.addAll(blog.serviceIds());
+        }
+        for (Long serviceId : linkedServices) {
+            putServiceBlogs(fresh, snapshot, serviceId);
+        }
+        for (PublicBlog blog : snapshot.blogs()) {
+            fresh.relatedBlogs().put(blog.id(), relatedBlogs(snapshot, blog));
+        }
+        for (Long serviceId : fresh.services().keySet()) {
+            fresh.relatedServices().put(serviceId, relatedServices(fresh, serviceId));
+        }
+
+        graph = fresh;
+        responseByteCache.invalidate(ResponseByteCache.RELATED);
+        rebuilds.incrementAndGet();
+        log.info("Related content graph built: {} blogs, {} services", fresh.relatedBlogs().size(), fresh.services().size());
+    }
+
+    /**
+     * Applies the queued changes. A blog write recomputes that blog, the blogs it shares a service or
+     * subcategory with, and the blogs currently listing it; text-only neighbours catch up on the next rebuild.
+     */
+    @Scheduled(fixedDelayString = "${app.related.refresh-interval-ms:2000}")
+    public synchronized void refresh() {
+        Graph g = graph;
+        if (g == null || (dirtyBlogs.isEmpty() && dirtyServices.isEmpty())) return;
+        Optional<PublicBlogCatalogue.Snapshot> current = publicBlogCatalogue.snapshot();
+        if (current.isEmpty()) return;
+        PublicBlogCatalogue.Snapshot snapshot = current.get();
+
+        Set<Long> blogIds = drain(dirtyBlogs);
+        Set<Long> serviceIds = drain(dirtyServices);
+
+        Set<Long> affectedBlogs = new HashSet<>();
+        Set<Long> affectedServices = new HashSet<>();
+        for (Long blogId : blogIds) {
+            affectedBlogs.add(blogId);
+            g.relatedBlogs().forEach((other, related) -> {
+                if (contains(related, blogId)) affectedBlogs.add(other);
+            });
+
+            long[] before = g.blogServices().getOrDefault(blogId, NONE);
+            for (long serviceId : before) affectedServices.add(serviceId);
+
+            Optional<PublicBlog> blog = snapshot.blog(blogId);
+            if (blog.isEmpty()) {
+                g.blogServices().remove(blogId);
+                g.relatedBlogs().remove(blogId);
+                continue;
+            }
+            PublicBlog b = blog.get();
+            g.blogServices().put(blogId, toArray(b.serviceIds()));
+            affectedServices.addAll(b.serviceIds());
+            for (Long serviceId : b.serviceIds()) addIds(affectedBlogs, snapshot.byService(serviceId));
+            for (long serviceId : before) addIds(affectedBlogs, snapshot.byService(serviceId));
+            if (b.card().getSubcategoryId() != null) addIds(affectedBlogs, snapshot.bySubcategory(b.card().getSubcategoryId()));
+        }
+
+        for (Long serviceId : affectedServices) {
+            putServiceBlogs(g, snapshot, serviceId);
+        }
+        for (Long blogId : affectedBlogs) {
+            snapshot.blog(blogId).ifPresent(b -> g.relatedBlogs().put(blogId, relatedBlogs(snapshot, b)));
+        }
+
+        // A service write can move it between subcategories, so every service is re-scored (there are few)
+        Collection<Long> rescored = serviceIds.isEmpty() ? affectedServices : new ArrayList<>(g.services().keySet());
+        g.relatedServices().keySet().removeIf(id -> !g.services().containsKey(id));
+        for (Long serviceId : rescored) {
+            if (g.services().containsKey(serviceId)) g.relatedServices().put(serviceId, relatedServices(g, serviceId));
+        }
+
+        responseByteCache.invalidate(ResponseByteCache.RELATED);
+        refreshes.incrementAndGet();
+        recomputedEntries.addAndGet(affectedBlogs.size() + rescored.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogChanged(BlogChangedEvent event) {
+        if (graph != null) dirtyBlogs.add(event.blogId());
+    }
+
+    // The card itself is swapped right away so the slug lookup is current; the scores follow on refresh
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceChanged(ServiceChangedEvent event) {
+        Graph g = graph;
+        if (g == null) return;
+
+        ServiceCardDto card = event.searchDocument() != null ? event.searchDocument().payload() : null;
+        ServiceCardDto previous = card != null
+                ? g.services().put(card.getId(), card)
+                : g.services().remove(event.serviceId());
+        if (card != null) g.serviceIdsBySlug().put(card.getSlug().toLowerCase(Locale.ROOT), card.getId());
+        if (previous != null && (card == null || !previous.getSlug().equalsIgnoreCase(card.getSlug()))) {
+            g.serviceIdsBySlug().remove(previous.getSlug().toLowerCase(Locale.ROOT), event.serviceId());
+        }
+        dirtyServices.add(event.serviceId());
+    }
+
+    // Categories or subcategories were renamed or hidden, which changes both cards and visibility
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaxonomyChanged(TaxonomyChangedEvent event) {
+        if (graph != null) rebuild();
+    }
+
+    // Runs after BlogServiceImpl has reloaded the catalogue
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(1)
+    public void onContentImported(ContentImportedEvent event) {
+        if (graph != null) rebuild();
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        Graph g = graph;
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("loaded", g != null);
+        metrics.put("blogs", g != null ? g.relatedBlogs().size() : 0);
+        metrics.put("services", g != null ? g.services().size() : 0);
+        metrics.put("pending.blogs", dirtyBlogs.size());
+        metrics.put("pending.services", dirtyServices.size());
+        metrics.put("rebuilds", rebuilds.get());
+        metrics.put("refreshes", refreshes.get());
+        metrics.put("recomputedEntries", recomputedEntries.get());
+        return metrics;
+    }
+
+    // ---- scoring ----
+
+    private long[] relatedBlogs(PublicBlogCatalogue.Snapshot snapshot, PublicBlog blog) {
+        BlogCardDto card = blog.card();
+        Map<Long, Double> scores = new HashMap<>();
+
+        for (Long serviceId : blog.serviceIds()) {
+            for (BlogCardDto other : snapshot.byService(serviceId)) scores.merge(other.getId(), SHARED_SERVICE, Double::sum);
+        }
+        if (card.getSubcategoryId() != null) {
+            for (BlogCardDto other : snapshot.bySubcategory(card.getSubcategoryId())) scores.merge(other.getId(), SAME_SUBCATEGORY, Double::sum);
+        }
+
+        List<InvertedIndex.Hit<BlogCardDto>> hits = publicSearchIndex.blogs().search(textOf(blog), TEXT_CANDIDATES + 1);
+        double best = hits.stream().filter(h -> !h.id().equals(blog.id())).mapToDouble(InvertedIndex.Hit::score).max().orElse(0);
+        if (best > 0) {
+            for (InvertedIndex.Hit<BlogCardDto> hit : hits) {
+                if (!hit.id().equals(blog.id())) scores.merge(hit.id(), TEXT_SIMILARITY * hit.score() / best, Double::sum);
+            }
+        }
+
+        scores.remove(blog.id());
+        if (card.getCategoryId() != null) {
+            scores.replaceAll((id, score) -> snapshot.card(id)
+                    .filter(other -> card.getCategoryId().equals(other.getCategoryId()))
+                    .map(other -> score + SAME_CATEGORY)
+                    .orElse(score));
+        }
+        scores.keySet().removeIf(id -> snapshot.blog(id).isEmpty());
+        return top(scores);
+    }
+
+    private long[] relatedServices(Graph g, Long serviceId) {
+        ServiceCardDto card = g.services().get(serviceId);
+        if (card == null) return NONE;
+        Map<Long, Double> scores = new HashMap<>();
+
+        for (long blogId : g.serviceBlogs().getOrDefault(serviceId, NONE)) {
+            for (long other : g.blogServices().getOrDefault(blogId, NONE)) scores.merge(other, SHARED_BLOG, Double::sum);
+        }
+        if (card.getSubcategoryId() != null) {
+            for (ServiceCardDto other : g.services().values()) {
+                if (card.getSubcategoryId().equals(other.getSubcategoryId())) scores.merge(other.getId(), SAME_SUBCATEGORY, Double::sum);
+            }
+        }
+
+        scores.remove(serviceId);
+        scores.keySet().removeIf(id -> !g.services().containsKey(id));
+        return top(scores);
+    }
+
+    // Best score first, newer (higher) id on ties
+    private static long[] top(Map<Long, Double> scores) {
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .limit(MAX_RELATED)
+                .mapToLong(Map.Entry::getKey)
+                .toArray();
+    }
+
+    private static String textOf(PublicBlog blog) {
+        String title = blog.card().getTitle() != null ? blog.card().getTitle() : "";
+        return blog.searchKeyword() != null ? title + " " + blog.searchKeyword() : title;
+    }
+
+    // ---- helpers ----
+
+    private Graph graph() {
+        Graph g = graph;
+        if (g != null) return g;
+        rebuild();
+        return graph;
+    }
+
+    private PublicBlogCatalogue.Snapshot catalogue() {
+        return publicBlogCatalogue.snapshot().orElseGet(() -> {
+            blogService.findAllPublicBlogs(); // loads the catalogue
+            return publicBlogCatalogue.snapshot().orElseThrow();
+        });
+    }
+
+    private static void putServiceBlogs(Graph g, PublicBlogCatalogue.Snapshot snapshot, Long serviceId) {
+        List<BlogCardDto> blogs = snapshot.byService(serviceId);
+        if (blogs.isEmpty()) {
+            g.serviceBlogs().remove(serviceId);
+        } else {
+            g.serviceBlogs().put(serviceId, blogs.stream().mapToLong(BlogCardDto::getId).toArray());
+        }
+    }
+
+    private static List<BlogCardDto> blogCards(PublicBlogCatalogue.Snapshot snapshot, long[] ids) {
+        if (ids == null) return List.of();
+        List<BlogCardDto> cards = new ArrayList<>(ids.length);
+        for (long id : ids) snapshot.card(id).ifPresent(cards::add);
+        return cards;
+    }
+
+    // Services hidden since the last refresh are skipped rather than served
+    private static List<ServiceCardDto> serviceCards(Graph g, long[] ids) {
+        if (ids == null) return List.of();
+        List<ServiceCardDto> cards = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            ServiceCardDto card = g.services().get(id);
+            if (card != null) cards.add(card);
+        }
+        return cards;
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        return ids.isEmpty() ? NONE : ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static void addIds(Set<Long> target, List<BlogCardDto> blogs) {
+        for (BlogCardDto blog : blogs) target.add(blog.getId());
+    }
+
+    private static boolean contains(long[] ids, long id) {
+        for (long candidate : ids) if (candidate == id) return true;
+        return false;
+    }
+
+    private static Set<Long> drain(Set<Long> dirty) {
+        Set<Long> ids = new HashSet<>(dirty);
+        dirty.removeAll(ids);
+        return ids;
+    }
+}
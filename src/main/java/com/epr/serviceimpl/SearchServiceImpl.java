@@ -2,28 +2,86 @@
 
 package com.epr.serviceimpl;
 
-import com.epr.dto.customer.BlogCustomerDto;
+import com.epr.dto.customer.BlogCardDto;
+import com.epr.dto.customer.SearchHitDto;
 import com.epr.dto.customer.SearchResultDto;
-import com.epr.dto.customer.ServiceCustomerDto;
+import com.epr.dto.customer.ServiceCardDto;
+import com.epr.search.InvertedIndex;
 import com.epr.service.BlogService;
 import com.epr.service.SearchService;
 import com.epr.service.ServiceService;
-import lombok.RequiredArgsConstructor;
+import com.epr.util.DeadlineFanOut;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+/**
+ * Queries the blog and service indexes concurrently and merges them into one ranking.
+ * Each source gets the same deadline; a source that misses it (or fails) is dropped and the
+ * response is flagged partial instead of failing the whole search.
+ */
 @Service
-@RequiredArgsConstructor
 public class SearchServiceImpl implements SearchService {
 
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+
     private final BlogService blogService;
     private final ServiceService serviceService;
+    private final ExecutorService searchExecutor;
+    private final long sourceTimeoutMs;
+
+    public SearchServiceImpl(BlogService blogService,
+                             ServiceService serviceService,
+                             @Qualifier("searchExecutor") ExecutorService searchExecutor,
+                             @Value("${app.search.source-timeout-ms:300}") long sourceTimeoutMs) {
+        this.blogService = blogService;
+        this.serviceService = serviceService;
+        this.searchExecutor = searchExecutor;
+        this.sourceTimeoutMs = sourceTimeoutMs;
+    }
 
     @Override
-    public SearchResultDto searchPublic(String keyword) {
-        List<BlogCustomerDto> blogs = blogService.searchPublicBlogs(keyword);
-        List<ServiceCustomerDto> services = serviceService.searchPublicServices(keyword);
-        return new SearchResultDto(blogs, services);
+    public SearchResultDto searchPublic(String keyword, Integer limit) {
+        long start = System.nanoTime();
+        int k = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+
+        DeadlineFanOut sources = DeadlineFanOut.start("Search source", searchExecutor, sourceTimeoutMs);
+        DeadlineFanOut.Call<List<InvertedIndex.Hit<BlogCardDto>>> blogs =
+                sources.submit("blogs", () -> blogService.searchPublicBlogHits(keyword));
+        DeadlineFanOut.Call<List<InvertedIndex.Hit<ServiceCardDto>>> services =
+                sources.submit("services", () -> serviceService.searchPublicServiceHits(keyword));
+
+        List<InvertedIndex.Hit<BlogCardDto>> blogHits = sources.await(blogs).orElse(List.of());
+        List<InvertedIndex.Hit<ServiceCardDto>> serviceHits = sources.await(services).orElse(List.of());
+        List<String> failedSources = sources.failed();
+
+        // Hits arrive best-first per source; merge on BM25 score, blogs before services on a tie
+        List<SearchHitDto> merged = Stream.concat(
+                        blogHits.stream().map(h -> new SearchHitDto(SearchHitDto.TYPE_BLOG, h.score(), h.payload())),
+                        serviceHits.stream().map(h -> new SearchHitDto(SearchHitDto.TYPE_SERVICE, h.score(), h.payload())))
+                .sorted(Comparator.comparingDouble(SearchHitDto::getScore).reversed())
+                .limit(k)
+                .collect(Collectors.toList());
+
+        SearchResultDto result = new SearchResultDto(payloads(blogHits, k), payloads(serviceHits, k));
+        result.setResults(merged);
+        result.setTotalBlogs(blogHits.size());
+        result.setTotalServices(serviceHits.size());
+        result.setPartial(!failedSources.isEmpty());
+        result.setFailedSources(failedSources);
+        result.setSourceTookMs(new TreeMap<>(sources.tookMs()));
+        result.setTookMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+
+    private static <T> List<T> payloads(List<InvertedIndex.Hit<T>> hits, int limit) {
+        return hits.stream().limit(limit).map(InvertedIndex.Hit::payload).collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,9 @@
 package com.epr.serviceimpl;
 
 
+import com.epr.cache.CatalogueVersion;
+import com.epr.cache.ResponseByteCache;
+import com.epr.cache.ServicePageCache;
 import com.epr.dto.admin.servicefaq.ServiceFaqRequestDto;
 import com.epr.dto.admin.servicefaq.ServiceFaqResponseDto;
 import com.epr.entity.ServiceFaq;
@@ -31,6 +34,9 @@ public class ServiceFaqServiceImpl implements ServiceFaqService {
     private final ServiceRepository serviceRepository;
     private final UserRepository userRepository;
     private final DateTimeUtil dateTimeUtil;
+    private final ServicePageCache servicePageCache;
+    private final CatalogueVersion catalogueVersion;
+    private final ResponseByteCache responseByteCache;
 
     private User validateAndGetActiveUser(Long userId) {
         if (userId == null || userId <= 0) throw new IllegalArgumentException("User ID is required");
@@ -76,6 +82,7 @@ public class ServiceFaqServiceImpl implements ServiceFaqService {
         faq.setDeleteStatus(2);
 
         ServiceFaq saved = faqRepository.save(faq);
+        servicePageChanged(service.getId());
         log.info("FAQ created for service {}: {}", dto.getServiceId(), dto.getQuestion());
         return toResponseDto(saved);
     }
@@ -99,12 +106,15 @@ public class ServiceFaqServiceImpl implements ServiceFaqService {
             throw new IllegalArgumentException("This question already exists for this service");
         }
 
+        Long previousServiceId = existing.getService().getId();
         mapRequestToEntity(dto, existing);
         existing.setService(service);
         existing.setModifyDate(dateTimeUtil.getCurrentUtcTime().toString());
         existing.setModifyByUUID(user.getUuid());
 
         ServiceFaq updated = faqRepository.save(existing);
+        servicePageChanged(previousServiceId);
+        servicePageChanged(service.getId());
         return toResponseDto(updated);
     }
 
@@ -119,10 +129,17 @@ public class ServiceFaqServiceImpl implements ServiceFaqService {
         faq.setDeleteStatus(1);
         faq.setModifyDate(dateTimeUtil.getCurrentUtcTime().toString());
         faqRepository.save(faq);
+        servicePageChanged(faq.getService().getId());
         log.info("FAQ soft deleted: {}", id);
     }
 
     // Helpers
+    private void servicePageChanged(Long serviceId) {
+        servicePageCache.evict(serviceId);
+        responseByteCache.invalidate(ResponseByteCache.service(serviceId));
+        catalogueVersion.bump();
+    }
+
     private void validateDto(ServiceFaqRequestDto dto) {
         if (dto == null) throw new IllegalArgumentException("FAQ data is required");
         if (dto.getQuestion() == null || dto.getQuestion().trim().isEmpty())
@@ -1,6 +1,9 @@
 // src/main/java/com/epr/serviceimpl/ServiceSectionServiceImpl.java
 package com.epr.serviceimpl;
 
+import com.epr.cache.CatalogueVersion;
+import com.epr.cache.ResponseByteCache;
+import com.epr.cache.ServicePageCache;
 import com.epr.dto.admin.servicesection.ServiceSectionRequestDto;
 import com.epr.dto.admin.servicesection.ServiceSectionResponseDto;
 import com.epr.entity.ServiceSection;
@@ -31,6 +34,9 @@ public class ServiceSectionServiceImpl implements ServiceSectionService {
     private final ServiceRepository serviceRepository;
     private final UserRepository userRepository;
     private final DateTimeUtil dateTimeUtil;
+    private final ServicePageCache servicePageCache;
+    private final CatalogueVersion catalogueVersion;
+    private final ResponseByteCache responseByteCache;
 
     private User validateAndGetActiveUser(Long userId) {
         if (userId == null || userId <= 0) {
@@ -83,6 +89,7 @@ public class ServiceSectionServiceImpl implements ServiceSectionService {
         section.setDeleteStatus(2); // Active
 
         ServiceSection saved = sectionRepository.save(section);
+        servicePageChanged(service.getId());
         log.info("Service section created: {} for service {}", saved.getTabName(), service.getTitle());
         return toResponseDto(saved);
     }
@@ -109,11 +116,14 @@ public class ServiceSectionServiceImpl implements ServiceSectionService {
             throw new IllegalArgumentException("Tab name already exists for this service");
         }
 
+        Long previousServiceId = existing.getService().getId();
         mapRequestToEntity(dto, existing);
         existing.setService(service);
         existing.setModifyDate(dateTimeUtil.getCurrentUtcTime().toString());
 
         ServiceSection updated = sectionRepository.save(existing);
+        servicePageChanged(previousServiceId);
+        servicePageChanged(service.getId());
         log.info("Service section updated: {} (ID: {})", updated.getTabName(), updated.getId());
         return toResponseDto(updated);
     }
@@ -135,10 +145,17 @@ public class ServiceSectionServiceImpl implements ServiceSectionService {
         section.setDeleteStatus(1); // Soft deleted
         section.setModifyDate(dateTimeUtil.getCurrentUtcTime().toString());
         sectionRepository.save(section);
+        servicePageChanged(section.getService().getId());
         log.info("Service section soft deleted: {}", id);
     }
 
     // ================== Helpers ==================
+    private void servicePageChanged(Long serviceId) {
+        servicePageCache.evict(serviceId);
+        responseByteCache.invalidate(ResponseByteCache.service(serviceId));
+        catalogueVersion.bump();
+    }
+
     private void validateDto(ServiceSectionRequestDto dto) {
         if (dto == null) throw new IllegalArgumentException("Section data is required");
         if (dto.getTabName() == null || dto.getTabName().trim().isEmpty())
@@ -1,25 +1,52 @@
 // src/main/java/com/epr/serviceimpl/ServiceServiceImpl.java
 package com.epr.serviceimpl;
 
+import com.epr.cache.CatalogueVersion;
+import com.epr.cache.LatestRing;
+import com.epr.cache.NavigationTree;
+import com.epr.cache.ResponseByteCache;
+import com.epr.cache.ResponseCacheContext;
+import com.epr.cache.ServicePageCache;
+import com.epr.cache.SlugIndex;
+import com.epr.cache.VisitCounterBuffer;
 import com.epr.dto.admin.service.ServiceRequestDto;
 import com.epr.dto.admin.service.ServiceResponseDto;
-import com.epr.dto.customer.ServiceCustomerDto;
+import com.epr.dto.customer.*;
 import com.epr.entity.Category;
 import com.epr.entity.Services;
+import com.epr.entity.SlugHistory;
 import com.epr.entity.Subcategory;
 import com.epr.entity.User;
+import com.epr.event.ContentImportedEvent;
+import com.epr.event.ServiceChangedEvent;
+import com.epr.event.TaxonomyChangedEvent;
 import com.epr.repository.*;
+import com.epr.repository.projection.*;
+import com.epr.search.InvertedIndex;
+import com.epr.search.PublicSearchIndex;
+import com.epr.search.SearchDocument;
 import com.epr.service.ServiceService;
 import com.epr.util.DateTimeUtil;
+import com.epr.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -28,11 +55,28 @@ public class ServiceServiceImpl implements ServiceService {
 
     private static final Logger log = LoggerFactory.getLogger(ServiceServiceImpl.class);
 
+    // /services/latest asks for 10; anything above the ring size goes to the bounded query
+    private static final int LATEST_RING_CAPACITY = 20;
+
     private final ServiceRepository serviceRepository;
+    private final ServiceSectionRepository serviceSectionRepository;
+    private final ServiceFaqRepository serviceFaqRepository;
+    private final ServiceDocumentRepository serviceDocumentRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final SubcategoryRepository subcategoryRepository;
+    private final SlugHistoryRepository slugHistoryRepository;
     private final DateTimeUtil dateTimeUtil;
+    private final VisitCounterBuffer visitCounterBuffer;
+    private final CatalogueVersion catalogueVersion;
+    private final PublicSearchIndex publicSearchIndex;
+    private final ServicePageCache servicePageCache;
+    private final ResponseByteCache responseByteCache;
+    private final NavigationTree navigationTree;
+    private final SlugIndex slugIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final LatestRing<ServiceCardDto> latestServices = new LatestRing<>(LATEST_RING_CAPACITY);
 
     private User validateAndGetActiveUser(Long userId) {
         if (userId == null || userId <= 0) throw new IllegalArgumentException("User ID is required");
@@ -92,6 +136,11 @@ public class ServiceServiceImpl implements ServiceService {
         setCategoryAndSubcategory(service, dto.getCategoryId(), dto.getSubcategoryId());
 
         Services saved = serviceRepository.save(service);
+        recordSlugChange(saved.getId(), null, saved.getSlug());
+        publishChange(saved);
+        navigationTree.moved(NavigationTree.Content.SERVICE, null, placementOf(saved));
+        servicePageCache.evict(saved.getId());
+        catalogueVersion.bump();
         log.info("Service created: {} by user {}", saved.getTitle(), userId);
         return toResponseDto(saved);
     }
@@ -116,6 +165,8 @@ public class ServiceServiceImpl implements ServiceService {
                 serviceRepository.existsBySlugIgnoreCaseAndIdNot(newSlug, id))
             throw new IllegalArgumentException("Service slug already exists");
 
+        NavigationTree.Placement before = placementOf(existing);
+        String oldSlug = existing.getSlug();
         mapRequestToEntity(dto, existing);
         existing.setModifyDate(dateTimeUtil.getCurrentUtcTime());
         existing.setModifyByUUID(currentUser.getUuid());
@@ -123,6 +174,11 @@ public class ServiceServiceImpl implements ServiceService {
         setCategoryAndSubcategory(existing, dto.getCategoryId(), dto.getSubcategoryId());
 
         Services updated = serviceRepository.save(existing);
+        if (!oldSlug.equals(updated.getSlug())) recordSlugChange(updated.getId(), oldSlug, updated.getSlug());
+        publishChange(updated);
+        navigationTree.moved(NavigationTree.Content.SERVICE, before, placementOf(updated));
+        servicePageCache.evict(updated.getId());
+        catalogueVersion.bump();
         log.info("Service updated: {} (ID: {})", updated.getTitle(), updated.getId());
         return toResponseDto(updated);
     }
@@ -135,12 +191,139 @@ public class ServiceServiceImpl implements ServiceService {
         Services service = serviceRepository.findActiveById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Service not found"));
 
+        NavigationTree.Placement before = placementOf(service);
         service.setDeleteStatus(1);
         service.setModifyDate(dateTimeUtil.getCurrentUtcTime());
         serviceRepository.save(service);
+        publishChange(service);
+        navigationTree.moved(NavigationTree.Content.SERVICE, before, null);
+        servicePageCache.evict(service.getId());
+        catalogueVersion.bump();
         log.info("Service soft deleted: {} by user {}", id, userId);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String findMovedSlug(String slug) {
+        if (slug == null || slug.trim().isEmpty() || !slugIndex.isLoaded(SlugHistory.ContentType.SERVICE)) return null;
+        return slugIndex.movedTo(SlugHistory.ContentType.SERVICE, slug.trim()).orElse(null);
+    }
+
+    // ------------------- Slug index -------------------
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadSlugIndex() {
+        // Publishes and renames committing while the rows are read are replayed over them
+        long loadMark = slugIndex.beginLoad(SlugHistory.ContentType.SERVICE);
+        List<SlugRow> live;
+        List<SlugRow> history;
+        try {
+            live = serviceRepository.findPublicSlugRows();
+            history = slugHistoryRepository.findRows(SlugHistory.ContentType.SERVICE);
+        } catch (RuntimeException e) {
+            slugIndex.abandonLoad(SlugHistory.ContentType.SERVICE);
+            throw e;
+        }
+        slugIndex.replaceAll(SlugHistory.ContentType.SERVICE, loadMark, live, history);
+    }
+
+    // Unknown slugs are answered by the index; a hit reads the service by primary key.
+    // Until the index has loaded, the slug goes to the unique slug index instead.
+    private Optional<Services> findPublicBySlug(String key) {
+        if (!slugIndex.isLoaded(SlugHistory.ContentType.SERVICE)) {
+            return serviceRepository.findBySlugAndDeleteStatusAndDisplayStatus(key, 2, 1);
+        }
+        return slugIndex.find(SlugHistory.ContentType.SERVICE, key).flatMap(serviceRepository::findPublicById);
+    }
+
+    // The previous slug keeps redirecting to this service; a slug taken (back) stops redirecting
+    private void recordSlugChange(Long id, String oldSlug, String newSlug) {
+        slugHistoryRepository.recordMove(SlugHistory.ContentType.SERVICE, id, oldSlug, newSlug, dateTimeUtil.getCurrentUtcTime());
+        slugIndex.moved(SlugHistory.ContentType.SERVICE, id, oldSlug, newSlug);
+    }
+
+    // ------------------- Search index -------------------
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadSearchIndex() {
+        // Service writes committing while the rows are read are replayed over them
+        long loadMark = publicSearchIndex.services().beginLoad();
+        List<SearchDocument<ServiceCardDto>> documents;
+        try {
+            Map<Long, String> metaKeywords = new HashMap<>();
+            for (ServiceSearchRow row : serviceRepository.findPublicSearchRows()) {
+                metaKeywords.put(row.id(), row.metaKeyword());
+            }
+            documents = serviceRepository.findPublicCards()
+                    .stream()
+                    .map(r -> toSearchDocument(toCard(r), metaKeywords.get(r.id())))
+                    .collect(Collectors.toList());
+        } catch (RuntimeException e) {
+            publicSearchIndex.services().abandonLoad();
+            throw e;
+        }
+        publicSearchIndex.services().replaceAll(loadMark, documents);
+        log.info("Service search index loaded: {} documents, {} terms", publicSearchIndex.services().size(), publicSearchIndex.services().termCount());
+    }
+
+    // Indexed cards carry category/subcategory names and slugs, so reload on taxonomy edits
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onTaxonomyChanged(TaxonomyChangedEvent event) {
+        loadSearchIndex();
+        latestServices.invalidate();
+    }
+
+    // Bulk imports skip the per-service events
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onContentImported(ContentImportedEvent event) {
+        if (!event.services()) return;
+        loadSearchIndex();
+        loadSlugIndex();
+        latestServices.invalidate();
+    }
+
+    // Create, publish and unpublish all arrive here after commit
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onServiceChanged(ServiceChangedEvent event) {
+        if (event.searchDocument() != null) {
+            latestServices.upsert(new LatestRing.Entry<>(event.serviceId(), event.postDate(), event.searchDocument().payload()));
+        } else {
+            latestServices.remove(event.serviceId());
+        }
+    }
+
+    private InvertedIndex<ServiceCardDto> searchIndex() {
+        if (!publicSearchIndex.services().isLoaded()) loadSearchIndex();
+        return publicSearchIndex.services();
+    }
+
+    // Where the navigation tree counts this service; null when it is not publicly listed
+    private static NavigationTree.Placement placementOf(Services s) {
+        if (s.getDeleteStatus() != 2 || s.getDisplayStatus() != 1) return null;
+        return new NavigationTree.Placement(s.getCategory() != null ? s.getCategory().getId() : null,
+                s.getSubcategory() != null ? s.getSubcategory().getId() : null);
+    }
+
+    private void publishChange(Services s) {
+        boolean visible = s.getDeleteStatus() == 2 && s.getDisplayStatus() == 1;
+        SearchDocument<ServiceCardDto> searchDocument = visible ? toSearchDocument(toCard(s), s.getMetaKeyword()) : null;
+        eventPublisher.publishEvent(new ServiceChangedEvent(s.getId(), s.getPostDate(), searchDocument));
+        responseByteCache.invalidate(ResponseByteCache.SERVICES, ResponseByteCache.service(s.getId()));
+    }
+
+    private static SearchDocument<ServiceCardDto> toSearchDocument(ServiceCardDto card, String metaKeyword) {
+        return new SearchDocument<>(card.getId(), card, List.of(
+                new SearchDocument.Field(card.getTitle(), 3),
+                new SearchDocument.Field(metaKeyword, 2),
+                new SearchDocument.Field(card.getShortDescription(), 1)));
+    }
+
     // Helpers
     private void validateDto(ServiceRequestDto dto) {
         if (dto == null) throw new IllegalArgumentException("Service data is required");
@@ -222,71 +405,298 @@ public class ServiceServiceImpl implements ServiceService {
 
 
     @Override
-    public List<ServiceCustomerDto> findAllActivePublicServices() {
-        return serviceRepository.findAllActiveServices()
-                .stream()
-                .filter(s -> s.getDisplayStatus() == 1) // Only visible services
-                .map(this::toCustomerDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<ServiceCardDto> findAllActivePublicServices() {
+        return toCards(serviceRepository.findPublicCards());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllActivePublicServices(Consumer<? super ServiceCardDto> sink) {
+        ResponseCacheContext.tag(ResponseByteCache.SERVICES);
+        try (Stream<ServiceCardRow> rows = serviceRepository.streamPublicCards()) {
+            rows.map(this::toCard).forEach(sink);
+        }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ServiceCustomerDto findActiveBySlug(String slug) {
         if (slug == null || slug.trim().isEmpty()) return null;
 
-        return serviceRepository.findBySlugIgnoreCaseAndDeleteStatusAndDisplayStatus(slug.trim().toLowerCase(), 2, 1)
+        ServiceCustomerDto service = findPublicBySlug(slug.trim().toLowerCase())
                 .map(this::toCustomerDto)
                 .orElse(null);
+
+        // Counted in memory and flushed in batches, the read itself stays read-only
+        if (service != null) {
+            ResponseCacheContext.tag(ResponseByteCache.service(service.getId()), ResponseByteCache.category(service.getCategoryId()));
+            visitCounterBuffer.increment(VisitCounterBuffer.Target.SERVICE, service.getId());
+        }
+        return service;
     }
 
     @Override
-    public List<ServiceCustomerDto> findActiveByCategoryId(Long categoryId) {
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ServicePageDto findPublicPageBySlug(String slug) {
+        if (slug == null || slug.trim().isEmpty()) return null;
+        String key = slug.trim().toLowerCase();
+
+        ServicePageDto page = servicePageCache.get(key).orElse(null);
+        if (page == null) {
+            long generation = servicePageCache.generation();
+            page = findPublicBySlug(key)
+                    .map(this::toPageDto)
+                    .orElse(null);
+            if (page == null) return null;
+            servicePageCache.put(key, page, generation);
+        }
+
+        ResponseCacheContext.tag(ResponseByteCache.service(page.getService().getId()),
+                ResponseByteCache.category(page.getService().getCategoryId()));
+        visitCounterBuffer.increment(VisitCounterBuffer.Target.SERVICE, page.getService().getId());
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ServiceCardDto> findActiveByCategoryId(Long categoryId) {
         if (categoryId == null || categoryId <= 0) return List.of();
 
-        return serviceRepository.findByCategoryIdAndDeleteStatusAndDisplayStatus(categoryId, 2, 1)
-                .stream()
-                .map(this::toCustomerDto)
-                .collect(Collectors.toList());
+        return toCards(serviceRepository.findByCategoryIdAndDeleteStatusAndDisplayStatus(categoryId, 2, 1));
     }
 
     @Override
-    public List<ServiceCustomerDto> findActiveBySubcategoryId(Long subcategoryId) {
+    @Transactional(readOnly = true)
+    public List<ServiceCardDto> findActiveBySubcategoryId(Long subcategoryId) {
         if (subcategoryId == null || subcategoryId <= 0) {
             return List.of();
         }
-        return serviceRepository.findBySubcategoryIdAndDeleteStatusAndDisplayStatus(subcategoryId, 2, 1)
-                .stream()
-                .map(this::toCustomerDto)
-                .collect(Collectors.toList());
+        return toCards(serviceRepository.findPublicCardsBySubcategoryId(subcategoryId, 2, 1));
     }
 
     @Override
-    public List<ServiceCustomerDto> findLatestActiveServices(int limit) {
-        return serviceRepository.findTopNActiveAndVisibleServices(limit)
-                .stream()
-                .map(this::toCustomerDto)
-                .collect(Collectors.toList());
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<ServiceCardDto> findLatestActiveServices(int limit) {
+        if (limit <= 0) return List.of();
+        if (limit > latestServices.capacity()) {
+            return toCards(serviceRepository.findTopNActiveAndVisibleServices(PageRequest.of(0, limit)));
+        }
+        ResponseCacheContext.tag(ResponseByteCache.SERVICES);
+        if (!latestServices.isLoaded()) {
+            long seenGeneration = latestServices.generation();
+            List<LatestRing.Entry<ServiceCardDto>> newest = serviceRepository
+                    .findTopNActiveAndVisibleServices(PageRequest.of(0, latestServices.capacity()))
+                    .stream()
+                    .map(r -> new LatestRing.Entry<>(r.id(), r.postDate(), toCard(r)))
+                    .collect(Collectors.toList());
+            // A service write landed while reading: serve these rows once, the next read loads again
+            if (!latestServices.replaceAll(newest, seenGeneration)) {
+                return newest.stream().limit(limit).map(LatestRing.Entry::item).collect(Collectors.toList());
+            }
+        }
+        return latestServices.latest(limit);
     }
 
     @Override
-    public List<ServiceCustomerDto> searchPublicServices(String keyword) {
+    @Transactional(readOnly = true)
+    public List<ServiceCardDto> searchPublicServices(String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) {
             return findAllActivePublicServices();
         }
-        return serviceRepository.searchActivePublicServices(keyword.trim())
+        return searchPublicServiceHits(keyword)
                 .stream()
-                .map(this::toCustomerDto)
+                .map(InvertedIndex.Hit::payload)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<ServiceCustomerDto> findFeaturedServices() {
-        return serviceRepository.findByShowHomeStatusAndDeleteStatusAndDisplayStatus(1, 2, 1)
+    @Transactional(readOnly = true)
+    public List<InvertedIndex.Hit<ServiceCardDto>> searchPublicServiceHits(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) return List.of();
+        return searchIndex().search(keyword.trim(), 0);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ServiceCardDto> findFeaturedServices() {
+        return toCards(serviceRepository.findByShowHomeStatusAndDeleteStatusAndDisplayStatus(1, 2, 1));
+    }
+
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ServiceCardDto> findActivePublicServicesPage(String cursor, Integer size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = CursorPage.clampSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        return toPage(after == null
+                ? serviceRepository.findPublicFirstPage(limit)
+                : serviceRepository.findPublicPageAfter(after.postDate(), after.id(), limit), pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ServiceCardDto> findActiveByCategoryIdPage(Long categoryId, String cursor, Integer size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = CursorPage.clampSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        return toPage(after == null
+                ? serviceRepository.findPublicByCategoryIdFirstPage(categoryId, limit)
+                : serviceRepository.findPublicByCategoryIdPageAfter(categoryId, after.postDate(), after.id(), limit), pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ServiceCardDto> findActiveBySubcategoryIdPage(Long subcategoryId, String cursor, Integer size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = CursorPage.clampSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        return toPage(after == null
+                ? serviceRepository.findPublicBySubcategoryIdFirstPage(subcategoryId, limit)
+                : serviceRepository.findPublicBySubcategoryIdPageAfter(subcategoryId, after.postDate(), after.id(), limit), pageSize);
+    }
+
+    // Rows are fetched with one extra element: if it is there, another page exists
+    private CursorPage<ServiceCardDto> toPage(List<ServiceCardRow> rows, int pageSize) {
+        boolean hasMore = rows.size() > pageSize;
+        List<ServiceCardRow> items = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            ServiceCardRow last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(last.postDate(), last.id()).encode();
+        }
+        return new CursorPage<>(toCards(items), nextCursor);
+    }
+
+    // Every public service listing is mapped here, which also tags its cached response
+    private List<ServiceCardDto> toCards(List<ServiceCardRow> rows) {
+        ResponseCacheContext.tag(ResponseByteCache.SERVICES);
+        return rows.stream().map(this::toCard).collect(Collectors.toList());
+    }
+
+    private ServiceCardDto toCard(ServiceCardRow r) {
+        ServiceCardDto dto = new ServiceCardDto();
+        dto.setId(r.id());
+        dto.setTitle(r.title());
+        dto.setSlug(r.slug());
+        dto.setShortDescription(r.shortDescription());
+        dto.setThumbnail(r.thumbnail());
+        dto.setBannerImage(r.bannerImage());
+        dto.setPostDate(dateTimeUtil.formatDateTimeIst(r.postDate()));
+        dto.setVisited(r.visited());
+        dto.setCategoryId(r.categoryId());
+        dto.setCategoryName(r.categoryName());
+        dto.setCategorySlug(r.categorySlug());
+        dto.setSubcategoryId(r.subcategoryId());
+        dto.setSubcategoryName(r.subcategoryName());
+        dto.setSubcategorySlug(r.subcategorySlug());
+        return dto;
+    }
+
+    private ServiceCardDto toCard(Services s) {
+        ServiceCardDto dto = new ServiceCardDto();
+        dto.setId(s.getId());
+        dto.setTitle(s.getTitle());
+        dto.setSlug(s.getSlug());
+        dto.setShortDescription(s.getShortDescription());
+        dto.setThumbnail(s.getThumbnail());
+        dto.setBannerImage(s.getBannerImage());
+        dto.setPostDate(dateTimeUtil.formatDateTimeIst(s.getPostDate()));
+        dto.setVisited(s.getVisited());
+
+        if (s.getCategory() != null) {
+            dto.setCategoryId(s.getCategory().getId());
+            dto.setCategoryName(s.getCategory().getName());
+            dto.setCategorySlug(s.getCategory().getSlug());
+        }
+        if (s.getSubcategory() != null) {
+            dto.setSubcategoryId(s.getSubcategory().getId());
+            dto.setSubcategoryName(s.getSubcategory().getName());
+            dto.setSubcategorySlug(s.getSubcategory().getSlug());
+        }
+        return dto;
+    }
+
+    // Fixed statement count however many children: service, sections, cards (one IN query), faqs, documents
+    private ServicePageDto toPageDto(Services s) {
+        List<ServiceSectionRow> sectionRows = new ArrayList<>(serviceSectionRepository.findPublicRowsByServiceId(s.getId()));
+        // displayOrder is a varchar, so "10" would sort before "2" in SQL
+        sectionRows.sort(Comparator.comparingInt((ServiceSectionRow r) -> displayOrder(r.displayOrder()))
+                .thenComparing(ServiceSectionRow::id));
+
+        Map<Long, List<ServiceSectionCardCustomerDto>> cardsBySection = sectionRows.isEmpty()
+                ? Map.of()
+                : serviceSectionRepository.findPublicCardRowsBySectionIds(sectionRows.stream().map(ServiceSectionRow::id).toList())
+                        .stream()
+                        .collect(Collectors.groupingBy(ServiceSectionCardRow::sectionId,
+                                Collectors.mapping(this::toSectionCardDto, Collectors.toList())));
+
+        ServicePageDto page = new ServicePageDto();
+        page.setService(toCustomerDto(s));
+        page.setSections(sectionRows.stream()
+                .map(r -> toSectionDto(r, cardsBySection.getOrDefault(r.id(), List.of())))
+                .collect(Collectors.toList()));
+        page.setFaqs(serviceFaqRepository.findPublicRowsByServiceId(s.getId())
                 .stream()
-                .map(this::toCustomerDto)
-                .collect(Collectors.toList());
+                .map(this::toFaqDto)
+                .collect(Collectors.toList()));
+        page.setDocuments(serviceDocumentRepository.findPublicRowsByServiceId(s.getId())
+                .stream()
+                .map(this::toDocumentDto)
+                .collect(Collectors.toList()));
+        return page;
     }
 
+    private static int displayOrder(String value) {
+        try {
+            return value != null ? Integer.parseInt(value.trim()) : Integer.MAX_VALUE;
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private ServiceSectionCustomerDto toSectionDto(ServiceSectionRow r, List<ServiceSectionCardCustomerDto> cards) {
+        ServiceSectionCustomerDto dto = new ServiceSectionCustomerDto();
+        dto.setId(r.id());
+        dto.setTabName(r.tabName());
+        dto.setTitle(r.title());
+        dto.setDescription(r.description());
+        dto.setDisplayOrder(r.displayOrder());
+        dto.setCards(cards);
+        return dto;
+    }
+
+    private ServiceSectionCardCustomerDto toSectionCardDto(ServiceSectionCardRow r) {
+        ServiceSectionCardCustomerDto dto = new ServiceSectionCardCustomerDto();
+        dto.setId(r.id());
+        dto.setTitle(r.title());
+        dto.setDescription(r.description());
+        dto.setIcon(r.icon());
+        return dto;
+    }
+
+    private ServiceFaqCustomerDto toFaqDto(ServiceFaqRow r) {
+        ServiceFaqCustomerDto dto = new ServiceFaqCustomerDto();
+        dto.setId(r.id());
+        dto.setQuestion(r.question());
+        dto.setAnswer(r.answer());
+        dto.setDisplayOrder(r.displayOrder());
+        return dto;
+    }
+
+    private ServiceDocumentCustomerDto toDocumentDto(ServiceDocumentRow r) {
+        ServiceDocumentCustomerDto dto = new ServiceDocumentCustomerDto();
+        dto.setId(r.id());
+        dto.setDocumentName(r.documentName());
+        dto.setDescription(r.description());
+        dto.setSampleLink(r.sampleLink());
+        dto.setDownloadLink(r.downloadLink());
+        dto.setFormat(r.format());
+        dto.setMandatory(r.mandatory());
+        dto.setDisplayOrder(r.displayOrder());
+        return dto;
+    }
 
     private ServiceCustomerDto toCustomerDto(Services s) {
         ServiceCustomerDto dto = new ServiceCustomerDto();
@@ -295,6 +705,7 @@ public class ServiceServiceImpl implements ServiceService {
         dto.setTitle(s.getTitle());
         dto.setSlug(s.getSlug());
         dto.setShortDescription(s.getShortDescription());
+        dto.setFullDescription(s.getFullDescription());
         dto.setBannerImage(s.getBannerImage());
         dto.setThumbnail(s.getThumbnail());
         dto.setVideoUrl(s.getVideoUrl());
@@ -0,0 +1,291 @@
+// src/main/java/com/epr/serviceimpl/SitemapServiceImpl.java
+package com.epr.serviceimpl;
+
+import com.epr.config.SitemapProperties;
+import com.epr.event.BlogChangedEvent;
+import com.epr.event.ContentImportedEvent;
+import com.epr.event.ServiceChangedEvent;
+import com.epr.event.TaxonomyChangedEvent;
+import com.epr.repository.BlogRepository;
+import com.epr.repository.CategoryRepository;
+import com.epr.repository.ServiceRepository;
+import com.epr.repository.SubcategoryRepository;
+import com.epr.repository.projection.SitemapUrlRow;
+import com.epr.service.SitemapService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * sitemap.xml index plus gzipped child sitemaps per segment, kept in memory as compressed bytes.
+ *
+ * A segment is generated by streaming its rows from the repository straight into a gzip stream,
+ * starting a new file every app.sitemap.urls-per-file URLs, so memory does not grow with the
+ * catalogue beyond the compressed output. Admin writes mark only the segments they affect
+ * (after commit) and a background task regenerates those; the index is re-rendered from the
+ * file list on the next request.
+ */
+@Service
+@RequiredArgsConstructor
+public class SitemapServiceImpl implements SitemapService {
+
+    private static final Logger log = LoggerFactory.getLogger(SitemapServiceImpl.class);
+
+    private static final String XMLNS = "http://www.sitemaps.org/schemas/sitemap/0.9";
+    private static final String PART_PATH = "/sitemaps/";
+    private static final DateTimeFormatter W3C = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+    private record Part(String fileName, byte[] gzip, LocalDateTime lastModified, int urls) {
+    }
+
+    private final SitemapProperties properties;
+    private final BlogRepository blogRepository;
+    private final ServiceRepository serviceRepository;
+    private final CategoryRepository categoryRepository;
+    private final SubcategoryRepository subcategoryRepository;
+
+    // guarded by this
+    private final Map<Segment, List<Part>> parts = new EnumMap<>(Segment.class);
+    private final Map<String, Part> partsByName = new HashMap<>();
+    private byte[] index;
+
+    private final Set<Segment> dirty = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generations = new AtomicLong();
+
+    @Override
+    public synchronized Optional<byte[]> index() {
+        if (parts.isEmpty()) return Optional.empty();
+        if (index == null) index = renderIndex();
+        return Optional.of(index);
+    }
+
+    @Override
+    public synchronized Optional<byte[]> part(String fileName) {
+        return Optional.ofNullable(partsByName.get(fileName)).map(Part::gzip);
+    }
+
+    @Override
+    public void segmentChanged(Segment segment) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dirty.add(segment);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dirty.add(segment);
+            }
+        });
+    }
+
+    // The listeners run after commit
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogChanged(BlogChangedEvent event) {
+        dirty.add(Segment.BLOGS);
+        dirty.add(Segment.AUTHORS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceChanged(ServiceChangedEvent event) {
+        dirty.add(Segment.SERVICES);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaxonomyChanged(TaxonomyChangedEvent event) {
+        dirty.add(event.subcategoryId() == null ? Segment.CATEGORIES : Segment.SUBCATEGORIES);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentImported(ContentImportedEvent event) {
+        if (event.blogs()) {
+            dirty.add(Segment.BLOGS);
+            dirty.add(Segment.AUTHORS);
+        }
+        if (event.services()) dirty.add(Segment.SERVICES);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(5)
+    @Transactional(readOnly = true)
+    public void generateAll() {
+        for (Segment segment : Segment.values()) generate(segment);
+    }
+
+    @Scheduled(fixedDelayString = "${app.sitemap.refresh-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        for (Segment segment : Segment.values()) {
+            // Cleared first, so a write during generation marks it again
+            if (dirty.remove(segment)) generate(segment);
+        }
+    }
+
+    @Override
+    public synchronized Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        parts.forEach((segment, files) -> metrics.put(segment.key(), Map.of(
+                "files", files.size(),
+                "urls", files.stream().mapToInt(Part::urls).sum(),
+                "bytes", files.stream().mapToLong(p -> p.gzip().length).sum())));
+        metrics.put("dirty", dirty.size());
+        metrics.put("generations", generations.get());
+        return metrics;
+    }
+
+    // ---- generation ----
+
+    private void generate(Segment segment) {
+        String page = properties.getPages().get(segment.key());
+        if (page == null) return;
+        String prefix = stripTrailingSlash(properties.getBaseUrl()) + page;
+
+        List<Part> files = new ArrayList<>();
+        try (Stream<SitemapUrlRow> rows = rows(segment)) {
+            PartWriter writer = null;
+            for (Iterator<SitemapUrlRow> it = rows.iterator(); it.hasNext(); ) {
+                SitemapUrlRow row = it.next();
+                if (row.slug() == null || row.slug().isBlank()) continue;
+                if (writer == null) writer = new PartWriter(segment.key() + "-" + (files.size() + 1) + ".xml.gz");
+                writer.add(prefix.replace("{slug}", row.slug()), row.lastModified());
+                if (writer.urls == properties.getUrlsPerFile()) {
+                    files.add(writer.finish());
+                    writer = null;
+                }
+            }
+            if (writer != null) files.add(writer.finish());
+        }
+
+        synchronized (this) {
+            List<Part> previous = parts.put(segment, List.copyOf(files));
+            if (previous != null) previous.forEach(p -> partsByName.remove(p.fileName()));
+            files.forEach(p -> partsByName.put(p.fileName(), p));
+            index = null;
+        }
+        generations.incrementAndGet();
+        log.debug("Sitemap segment {} generated: {} files", segment.key(), files.size());
+    }
+
+    private Stream<SitemapUrlRow> rows(Segment segment) {
+        return switch (segment) {
+            case BLOGS -> blogRepository.streamSitemapRows();
+            case SERVICES -> serviceRepository.streamSitemapRows();
+            case CATEGORIES -> categoryRepository.streamSitemapRows();
+            case SUBCATEGORIES -> subcategoryRepository.streamSitemapRows();
+            case AUTHORS -> blogRepository.streamAuthorSitemapRows();
+        };
+    }
+
+    // callers hold the monitor
+    private byte[] renderIndex() {
+        String base = stripTrailingSlash(properties.getBaseUrl());
+        StringBuilder xml = new StringBuilder(256 + 160 * partsByName.size())
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<sitemapindex xmlns=\"").append(XMLNS).append("\">\n");
+        for (List<Part> files : parts.values()) {
+            for (Part part : files) {
+                xml.append("<sitemap><loc>").append(escape(base + PART_PATH + part.fileName())).append("</loc>");
+                if (part.lastModified() != null) xml.append("<lastmod>").append(w3c(part.lastModified())).append("</lastmod>");
+                xml.append("</sitemap>\n");
+            }
+        }
+        xml.append("</sitemapindex>\n");
+        return xml.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * One child sitemap being written: URLs go straight into the gzip stream
+     */
+    private static final class PartWriter {
+
+        private final String fileName;
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 * 1024);
+        private final Writer xml;
+        private LocalDateTime lastModified;
+        private int urls;
+
+        PartWriter(String fileName) {
+            this.fileName = fileName;
+            try {
+                this.xml = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8));
+                xml.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<urlset xmlns=\"" + XMLNS + "\">\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void add(String loc, LocalDateTime modified) {
+            try {
+                xml.write("<url><loc>");
+                xml.write(escape(loc));
+                xml.write("</loc>");
+                if (modified != null) {
+                    xml.write("<lastmod>");
+                    xml.write(w3c(modified));
+                    xml.write("</lastmod>");
+                    if (lastModified == null || modified.isAfter(lastModified)) lastModified = modified;
+                }
+                xml.write("</url>\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            urls++;
+        }
+
+        Part finish() {
+            try {
+                xml.write("</urlset>\n");
+                xml.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new Part(fileName, bytes.toByteArray(), lastModified, urls);
+        }
+    }
+
+    // Stored times are UTC
+    private static String w3c(LocalDateTime time) {
+        return time.truncatedTo(ChronoUnit.SECONDS).atOffset(ZoneOffset.UTC).format(W3C);
+    }
+
+    private static String escape(String text) {
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&apos;");
+                default -> out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -1,19 +1,26 @@
 // src/main/java/com/epr/serviceimpl/SubcategoryServiceImpl.java
 package com.epr.serviceimpl;
 
+import com.epr.cache.CatalogueVersion;
+import com.epr.cache.NavigationTree;
+import com.epr.cache.ResponseByteCache;
 import com.epr.dto.admin.subcategory.SubcategoryRequestDto;
 import com.epr.dto.admin.subcategory.SubcategoryResponseDto;
 import com.epr.entity.Category;
 import com.epr.entity.Subcategory;
 import com.epr.entity.User;
+import com.epr.event.TaxonomyChangedEvent;
 import com.epr.repository.CategoryRepository;
 import com.epr.repository.SubcategoryRepository;
 import com.epr.repository.UserRepository;
+import com.epr.repository.projection.NavigationSubcategoryRow;
+import com.epr.service.SitemapService;
 import com.epr.service.SubcategoryService;
 import com.epr.util.DateTimeUtil;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +38,11 @@ public class SubcategoryServiceImpl implements SubcategoryService {
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final DateTimeUtil dateTimeUtil;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogueVersion catalogueVersion;
+    private final ResponseByteCache responseByteCache;
+    private final NavigationTree navigationTree;
+    private final SitemapService sitemapService;
 
     private User validateAndGetActiveUser(Long userId) {
         if (userId == null || userId <= 0) throw new IllegalArgumentException("User ID is required");
@@ -92,6 +104,9 @@ public class SubcategoryServiceImpl implements SubcategoryService {
         sub.setDeleteStatus(2);
 
         Subcategory saved = subcategoryRepository.save(sub);
+        navigationTree.subcategoryChanged(saved.getId(), toNavigationRow(saved));
+        sitemapService.segmentChanged(SitemapService.Segment.SUBCATEGORIES);
+        catalogueVersion.bump();
         log.info("Subcategory created: {} under category {}", saved.getName(), category.getName());
         return toResponseDto(saved);
     }
@@ -120,11 +135,17 @@ public class SubcategoryServiceImpl implements SubcategoryService {
         Category category = categoryRepository.findByIdAndDeleteStatus(dto.getCategoryId(), 2)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found"));
 
+        Long previousCategoryId = existing.getCategory().getId();
         mapRequestToEntity(dto, existing);
         existing.setCategory(category);
         existing.setModifyDate(dateTimeUtil.getCurrentUtcTime());
 
         Subcategory updated = subcategoryRepository.save(existing);
+        eventPublisher.publishEvent(new TaxonomyChangedEvent(category.getId(), updated.getId()));
+        navigationTree.subcategoryChanged(updated.getId(), toNavigationRow(updated));
+        responseByteCache.invalidate(ResponseByteCache.BLOGS, ResponseByteCache.SERVICES,
+                ResponseByteCache.category(previousCategoryId), ResponseByteCache.category(category.getId()));
+        catalogueVersion.bump();
         return toResponseDto(updated);
     }
 
@@ -143,10 +164,19 @@ public class SubcategoryServiceImpl implements SubcategoryService {
         sub.setDeleteStatus(1);
         sub.setModifyDate(dateTimeUtil.getCurrentUtcTime());
         subcategoryRepository.save(sub);
+        eventPublisher.publishEvent(new TaxonomyChangedEvent(sub.getCategory().getId(), sub.getId()));
+        navigationTree.subcategoryChanged(sub.getId(), null);
+        responseByteCache.invalidate(ResponseByteCache.BLOGS, ResponseByteCache.SERVICES, ResponseByteCache.category(sub.getCategory().getId()));
+        catalogueVersion.bump();
         log.info("Subcategory soft deleted: {}", id);
     }
 
     // ================== Helpers ==================
+    private static NavigationSubcategoryRow toNavigationRow(Subcategory s) {
+        boolean visible = s.getDeleteStatus() == 2 && Integer.valueOf(1).equals(s.getDisplayStatus());
+        return visible ? new NavigationSubcategoryRow(s.getId(), s.getCategory().getId(), s.getName(), s.getSlug()) : null;
+    }
+
     private void validateDto(SubcategoryRequestDto dto) {
         if (dto == null) throw new IllegalArgumentException("Subcategory data is required");
         if (dto.getName() == null || dto.getName().trim().isEmpty())
@@ -0,0 +1,243 @@
+// src/main/java/com/epr/serviceimpl/SuggestServiceImpl.java
+package com.epr.serviceimpl;
+
+import com.epr.cache.PublicBlog;
+import com.epr.cache.PublicBlogCatalogue;
+import com.epr.cache.VisitCounterBuffer;
+import com.epr.dto.customer.BlogCardDto;
+import com.epr.dto.customer.ServiceCardDto;
+import com.epr.dto.customer.SuggestionDto;
+import com.epr.entity.Category;
+import com.epr.entity.Subcategory;
+import com.epr.event.BlogChangedEvent;
+import com.epr.event.ContentImportedEvent;
+import com.epr.event.ServiceChangedEvent;
+import com.epr.event.TaxonomyChangedEvent;
+import com.epr.event.VisitsFlushedEvent;
+import com.epr.repository.CategoryRepository;
+import com.epr.repository.SubcategoryRepository;
+import com.epr.search.SuggestionIndex;
+import com.epr.service.BlogService;
+import com.epr.service.ServiceService;
+import com.epr.service.SuggestService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * Builds the autocomplete trie from the public catalogue and keeps it current from the
+ * after-commit change events. Titles are weighted by their own visit count, a category or
+ * subcategory by the visits of everything filed under it, a keyword by the visits of the blogs
+ * that carry it (so a keyword shared by several blogs is one suggestion). Flushed page views are
+ * added to every weight they count towards.
+ */
+@Service
+@RequiredArgsConstructor
+public class SuggestServiceImpl implements SuggestService {
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestServiceImpl.class);
+
+    private static final int DEFAULT_LIMIT = 8;
+
+    private final BlogService blogService;
+    private final ServiceService serviceService;
+    private final PublicBlogCatalogue publicBlogCatalogue;
+    private final CategoryRepository categoryRepository;
+    private final SubcategoryRepository subcategoryRepository;
+
+    // Replaced wholesale by rebuild() so readers never see a half-built trie
+    private volatile SuggestionIndex<SuggestionDto> index = new SuggestionIndex<>();
+
+    // keyword -> (blog id -> visits of that blog); guarded by this
+    private final Map<String, Map<Long, Long>> keywordVisits = new HashMap<>();
+    // blog id -> keywords it contributed, to undo them on update/removal; guarded by this
+    private final Map<Long, Set<String>> blogKeywords = new HashMap<>();
+    // service id -> where its visits count in the taxonomy weights; guarded by this
+    private final Map<Long, Placement> servicePlacements = new HashMap<>();
+
+    private record Placement(Long categoryId, Long subcategoryId) {
+    }
+
+    @Override
+    public List<SuggestionDto> suggest(String prefix, Integer limit) {
+        if (!index.isLoaded()) rebuild();
+        return index.suggest(prefix, limit == null ? DEFAULT_LIMIT : limit);
+    }
+
+    // After BlogServiceImpl has loaded the catalogue (Order 0/1)
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)
+    public synchronized void rebuild() {
+        blogService.findAllPublicBlogs(); // loads the catalogue if it is not there yet
+        List<PublicBlog> blogs = publicBlogCatalogue.snapshot().map(PublicBlogCatalogue.Snapshot::blogs).orElse(List.of());
+        List<ServiceCardDto> services = serviceService.findAllActivePublicServices();
+
+        SuggestionIndex<SuggestionDto> fresh = new SuggestionIndex<>();
+        keywordVisits.clear();
+        blogKeywords.clear();
+        servicePlacements.clear();
+
+        Map<Long, Long> categoryVisits = new HashMap<>();
+        Map<Long, Long> subcategoryVisits = new HashMap<>();
+        for (PublicBlog blog : blogs) {
+            BlogCardDto card = blog.card();
+            putBlog(fresh, blog);
+            addVisits(categoryVisits, card.getCategoryId(), card.getVisited());
+            addVisits(subcategoryVisits, card.getSubcategoryId(), card.getVisited());
+        }
+        for (ServiceCardDto card : services) {
+            putService(fresh, card);
+            addVisits(categoryVisits, card.getCategoryId(), card.getVisited());
+            addVisits(subcategoryVisits, card.getSubcategoryId(), card.getVisited());
+        }
+        putTaxonomy(fresh, categoryVisits, subcategoryVisits);
+
+        fresh.markLoaded();
+        index = fresh;
+        log.info("Suggestion index built: {} entries", fresh.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onBlogChanged(BlogChangedEvent event) {
+        if (!index.isLoaded()) return;
+        if (event.publicBlog() != null) {
+            putBlog(index, event.publicBlog());
+        } else {
+            index.remove("blog:" + event.blogId());
+            removeKeywords(index, event.blogId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onServiceChanged(ServiceChangedEvent event) {
+        if (!index.isLoaded()) return;
+        if (event.searchDocument() != null) {
+            putService(index, event.searchDocument().payload());
+        } else {
+            index.remove("service:" + event.serviceId());
+            servicePlacements.remove(event.serviceId());
+        }
+    }
+
+    @EventListener
+    public synchronized void onVisitsFlushed(VisitsFlushedEvent event) {
+        if (!index.isLoaded()) return;
+        event.deltas().forEach((id, delta) -> {
+            Placement placement = event.target() == VisitCounterBuffer.Target.BLOG
+                    ? addBlogVisits(id, delta)
+                    : addServiceVisits(id, delta);
+            if (placement == null) return;
+            if (placement.categoryId() != null) index.addWeight("category:" + placement.categoryId(), delta);
+            if (placement.subcategoryId() != null) index.addWeight("subcategory:" + placement.subcategoryId(), delta);
+        });
+    }
+
+    // Names changed or entries were hidden; category weights are recomputed as part of the rebuild
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaxonomyChanged(TaxonomyChangedEvent event) {
+        if (index.isLoaded()) rebuild();
+    }
+
+    // Runs after BlogServiceImpl has reloaded the catalogue
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(1)
+    public void onContentImported(ContentImportedEvent event) {
+        if (index.isLoaded()) rebuild();
+    }
+
+    // ---- helpers, callers hold the monitor ----
+
+    private void putBlog(SuggestionIndex<SuggestionDto> target, PublicBlog blog) {
+        BlogCardDto card = blog.card();
+        long visits = card.getVisited() != null ? card.getVisited() : 0;
+        target.put("blog:" + card.getId(), card.getTitle(), visits, new SuggestionDto(card.getTitle(), "blog", card.getSlug()));
+
+        removeKeywords(target, card.getId());
+        Set<String> keywords = splitKeywords(blog.searchKeyword());
+        for (String keyword : keywords) {
+            keywordVisits.computeIfAbsent(keyword, k -> new HashMap<>()).put(card.getId(), visits);
+            putKeyword(target, keyword);
+        }
+        if (!keywords.isEmpty()) blogKeywords.put(card.getId(), keywords);
+    }
+
+    // null when the blog is not in the index
+    private Placement addBlogVisits(Long blogId, long delta) {
+        BlogCardDto card = publicBlogCatalogue.snapshot().flatMap(s -> s.card(blogId)).orElse(null);
+        if (card == null) return null;
+        index.addWeight("blog:" + blogId, delta);
+        for (String keyword : blogKeywords.getOrDefault(blogId, Set.of())) {
+            keywordVisits.get(keyword).merge(blogId, delta, Long::sum);
+            putKeyword(index, keyword);
+        }
+        return new Placement(card.getCategoryId(), card.getSubcategoryId());
+    }
+
+    private Placement addServiceVisits(Long serviceId, long delta) {
+        Placement placement = servicePlacements.get(serviceId);
+        if (placement != null) index.addWeight("service:" + serviceId, delta);
+        return placement;
+    }
+
+    private void removeKeywords(SuggestionIndex<SuggestionDto> target, Long blogId) {
+        Set<String> previous = blogKeywords.remove(blogId);
+        if (previous == null) return;
+        for (String keyword : previous) {
+            Map<Long, Long> visits = keywordVisits.get(keyword);
+            if (visits == null) continue;
+            visits.remove(blogId);
+            if (visits.isEmpty()) {
+                keywordVisits.remove(keyword);
+                target.remove("keyword:" + keyword);
+            } else {
+                putKeyword(target, keyword);
+            }
+        }
+    }
+
+    private void putKeyword(SuggestionIndex<SuggestionDto> target, String keyword) {
+        long weight = keywordVisits.get(keyword).values().stream().mapToLong(Long::longValue).sum();
+        target.put("keyword:" + keyword, keyword, weight, new SuggestionDto(keyword, "keyword", null));
+    }
+
+    private void putService(SuggestionIndex<SuggestionDto> target, ServiceCardDto card) {
+        long visits = card.getVisited() != null ? card.getVisited() : 0;
+        target.put("service:" + card.getId(), card.getTitle(), visits, new SuggestionDto(card.getTitle(), "service", card.getSlug()));
+        servicePlacements.put(card.getId(), new Placement(card.getCategoryId(), card.getSubcategoryId()));
+    }
+
+    private void putTaxonomy(SuggestionIndex<SuggestionDto> target, Map<Long, Long> categoryVisits, Map<Long, Long> subcategoryVisits) {
+        for (Category c : categoryRepository.findByDeleteStatus(2)) {
+            if (!Integer.valueOf(1).equals(c.getDisplayStatus())) continue;
+            target.put("category:" + c.getId(), c.getName(), categoryVisits.getOrDefault(c.getId(), 0L),
+                    new SuggestionDto(c.getName(), "category", c.getSlug()));
+        }
+        for (Subcategory s : subcategoryRepository.findByDeleteStatus(2)) {
+            if (!Integer.valueOf(1).equals(s.getDisplayStatus())) continue;
+            target.put("subcategory:" + s.getId(), s.getName(), subcategoryVisits.getOrDefault(s.getId(), 0L),
+                    new SuggestionDto(s.getName(), "subcategory", s.getSlug()));
+        }
+    }
+
+    private static void addVisits(Map<Long, Long> totals, Long id, Long visits) {
+        if (id != null && visits != null) totals.merge(id, visits, Long::sum);
+    }
+
+    // searchKeyword is free text, comma or newline separated
+    private static Set<String> splitKeywords(String searchKeyword) {
+        if (searchKeyword == null || searchKeyword.isBlank()) return Set.of();
+        Set<String> keywords = new LinkedHashSet<>();
+        for (String part : searchKeyword.split("[,;\\n]")) {
+            String keyword = part.trim().toLowerCase(Locale.ROOT);
+            if (keyword.length() > 1) keywords.add(keyword);
+        }
+        return keywords;
+    }
+}
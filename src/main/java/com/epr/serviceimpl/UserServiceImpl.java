@@ -7,6 +7,7 @@ import com.epr.entity.Role;
 import com.epr.entity.User;
 import com.epr.repository.RoleRepository;
 import com.epr.repository.UserRepository;
+import com.epr.service.SitemapService;
 import com.epr.service.UserService;
 import com.epr.util.DateTimeUtil;
 import jakarta.validation.ConstraintViolation;
@@ -50,6 +51,9 @@ public class UserServiceImpl implements UserService, UserDetailsService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private SitemapService sitemapService;
+
     private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
     @Override
@@ -145,6 +149,7 @@ public class UserServiceImpl implements UserService, UserDetailsService {
 
         try {
             User updated = userRepository.save(existing);
+            sitemapService.segmentChanged(SitemapService.Segment.AUTHORS);
             log.info("User updated successfully: {}", updated.getEmail());
             return toResponseDto(updated);
         } catch (Exception e) {
@@ -165,6 +170,7 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         user.setDeleteStatus(1);
         user.setModifyDate(dateTimeUtil.getCurrentUtcTime());
         userRepository.save(user);
+        sitemapService.segmentChanged(SitemapService.Segment.AUTHORS);
         log.info("User soft deleted: {}", id);
     }
 
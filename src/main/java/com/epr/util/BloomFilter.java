@@ -0,0 +1,88 @@
+// src/main/java/com/epr/util/BloomFilter.java
+package com.epr.util;
+
+/**
+ * Fixed-size Bloom filter over strings: {@link #mightContain} is never false for a key that was
+ * put, and true for a key that was not with about the configured probability while the filter
+ * holds no more than its expected number of keys. Not thread-safe; callers synchronize.
+ */
+public final class BloomFilter {
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final long expectedKeys;
+    private long keys;
+
+    private BloomFilter(long bitCount, int hashCount, long expectedKeys) {
+        this.bits = new long[(int) ((bitCount + 63) / 64)];
+        this.bitCount = (long) bits.length * 64;
+        this.hashCount = hashCount;
+        this.expectedKeys = expectedKeys;
+    }
+
+    /**
+     * Sized for expectedKeys keys at falsePositiveRate (e.g. 0.01 is about 9.6 bits per key)
+     */
+    public static BloomFilter create(long expectedKeys, double falsePositiveRate) {
+        long n = Math.max(1, expectedKeys);
+        double p = Math.min(0.5, Math.max(1e-9, falsePositiveRate));
+        long m = Math.max(64, (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2))));
+        // long[] is indexed by int
+        m = Math.min(m, (long) Integer.MAX_VALUE * 64);
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new BloomFilter(m, k, n);
+    }
+
+    public void put(String key) {
+        long hash = hash(key);
+        long h1 = hash;
+        long h2 = Long.rotateLeft(hash, 32) * 0x9E3779B97F4A7C15L | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+        keys++;
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        long h1 = hash;
+        long h2 = Long.rotateLeft(hash, 32) * 0x9E3779B97F4A7C15L | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Keys put so far, counting repeats
+     */
+    public long keys() {
+        return keys;
+    }
+
+    public long expectedKeys() {
+        return expectedKeys;
+    }
+
+    public long sizeInBytes() {
+        return (long) bits.length * Long.BYTES;
+    }
+
+    // FNV-1a over the UTF-16 chars, finished with the murmur3 64-bit mix
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
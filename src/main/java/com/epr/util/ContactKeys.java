@@ -0,0 +1,44 @@
+// src/main/java/com/epr/util/ContactKeys.java
+package com.epr.util;
+
+import java.util.Locale;
+
+/**
+ * Normalized forms of an enquiry's email and mobile, used to recognise the same contact across
+ * submissions: the email trimmed and lowercased, the mobile reduced to E.164-style "+" and digits.
+ */
+public final class ContactKeys {
+
+    // Numbers entered without a country code are Indian
+    private static final String DEFAULT_COUNTRY_CODE = "91";
+
+    private ContactKeys() {
+    }
+
+    public static String emailKey(String email) {
+        if (email == null || email.isBlank()) return null;
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * "+91 98765-43210", "098765 43210", "0091 9876543210" and "9876543210" all give "+919876543210";
+     * null when there are no digits
+     */
+    public static String mobileKey(String mobile) {
+        if (mobile == null || mobile.isBlank()) return null;
+        String trimmed = mobile.trim();
+        StringBuilder digits = new StringBuilder(trimmed.length());
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c >= '0' && c <= '9') digits.append(c);
+        }
+        if (digits.isEmpty()) return null;
+
+        String number = digits.toString();
+        if (trimmed.startsWith("+")) return "+" + number;
+        if (number.startsWith("00")) return "+" + number.substring(2);
+        if (number.length() == 10) return "+" + DEFAULT_COUNTRY_CODE + number;
+        if (number.length() == 11 && number.startsWith("0")) return "+" + DEFAULT_COUNTRY_CODE + number.substring(1);
+        return "+" + number;
+    }
+}
@@ -0,0 +1,86 @@
+// src/main/java/com/epr/util/DeadlineFanOut.java
+package com.epr.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Independent calls run concurrently on an executor, all sharing one deadline counted from
+ * {@link #start}. A call that misses the deadline is cancelled; one that misses it or fails is
+ * logged and named in {@link #failed()}, so the caller can degrade instead of failing as a whole.
+ * Not thread-safe: one caller submits and awaits.
+ */
+public final class DeadlineFanOut {
+
+    private static final Logger log = LoggerFactory.getLogger(DeadlineFanOut.class);
+
+    public record Call<T>(String name, CompletableFuture<T> future) {
+    }
+
+    private final String kind;
+    private final ExecutorService executor;
+    private final long timeoutMs;
+    private final long deadline;
+    private final List<String> failed = new ArrayList<>();
+    private final Map<String, Long> tookMs = new ConcurrentHashMap<>();
+
+    private DeadlineFanOut(String kind, ExecutorService executor, long timeoutMs) {
+        this.kind = kind;
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+        this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+    }
+
+    /**
+     * @param kind what a call is, for the log ("Search source", "Home page piece")
+     */
+    public static DeadlineFanOut start(String kind, ExecutorService executor, long timeoutMs) {
+        return new DeadlineFanOut(kind, executor, timeoutMs);
+    }
+
+    public <T> Call<T> submit(String name, Supplier<T> call) {
+        return new Call<>(name, CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                return call.get();
+            } finally {
+                tookMs.put(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        }, executor));
+    }
+
+    /**
+     * The call's value, or empty if it missed the deadline or failed
+     */
+    public <T> Optional<T> await(Call<T> call) {
+        try {
+            return Optional.ofNullable(call.future().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            call.future().cancel(true);
+            log.warn("{} '{}' timed out after {} ms", kind, call.name(), timeoutMs);
+        } catch (ExecutionException e) {
+            log.error("{} '{}' failed", kind, call.name(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        failed.add(call.name());
+        return Optional.empty();
+    }
+
+    // Names of the awaited calls that missed the deadline or failed, in await order
+    public List<String> failed() {
+        return List.copyOf(failed);
+    }
+
+    // Run time of every call that finished, including late ones
+    public Map<String, Long> tookMs() {
+        return Map.copyOf(tookMs);
+    }
+}
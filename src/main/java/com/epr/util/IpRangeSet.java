@@ -0,0 +1,183 @@
+// src/main/java/com/epr/util/IpRangeSet.java
+package com.epr.util;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable set of IP addresses and CIDR ranges, IPv4 and IPv6, answering {@link #contains} with
+ * a binary search over sorted primitive arrays. IPv4 is held as IPv4-mapped IPv6 (::ffff:a.b.c.d),
+ * so both families share one 128-bit keyspace; overlapping and adjacent ranges are merged.
+ */
+public final class IpRangeSet {
+
+    private static final IpRangeSet EMPTY = new IpRangeSet(new long[0], new long[0], new long[0], new long[0]);
+
+    // Range i is [start, end], each address split into high and low 64 bits; sorted by start, disjoint
+    private final long[] startHi;
+    private final long[] startLo;
+    private final long[] endHi;
+    private final long[] endLo;
+
+    private IpRangeSet(long[] startHi, long[] startLo, long[] endHi, long[] endLo) {
+        this.startHi = startHi;
+        this.startLo = startLo;
+        this.endHi = endHi;
+        this.endLo = endLo;
+    }
+
+    public static IpRangeSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds the set from entries like "203.0.113.7", "203.0.113.0/24" or "2001:db8::/32"
+     *
+     * @throws IllegalArgumentException for an entry that is not an IP literal or CIDR range
+     */
+    public static IpRangeSet of(List<String> entries) {
+        List<long[]> ranges = new ArrayList<>(entries.size());
+        for (String entry : entries) ranges.add(parseRange(entry));
+        ranges.sort((a, b) -> compare(a[0], a[1], b[0], b[1]));
+
+        List<long[]> merged = new ArrayList<>(ranges.size());
+        for (long[] range : ranges) {
+            long[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && startsWithin(range, last)) {
+                if (compare(range[2], range[3], last[2], last[3]) > 0) {
+                    last[2] = range[2];
+                    last[3] = range[3];
+                }
+            } else {
+                merged.add(range.clone());
+            }
+        }
+
+        int n = merged.size();
+        long[] sHi = new long[n], sLo = new long[n], eHi = new long[n], eLo = new long[n];
+        for (int i = 0; i < n; i++) {
+            long[] r = merged.get(i);
+            sHi[i] = r[0];
+            sLo[i] = r[1];
+            eHi[i] = r[2];
+            eLo[i] = r[3];
+        }
+        return new IpRangeSet(sHi, sLo, eHi, eLo);
+    }
+
+    /**
+     * False for null or anything that is not an IP literal
+     */
+    public boolean contains(String address) {
+        if (startHi.length == 0 || address == null) return false;
+        long[] ip = parseAddress(address.trim());
+        if (ip == null) return false;
+
+        // Last range starting at or before ip
+        int lo = 0, hi = startHi.length - 1, found = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(startHi[mid], startLo[mid], ip[0], ip[1]) <= 0) {
+                found = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return found >= 0 && compare(ip[0], ip[1], endHi[found], endLo[found]) <= 0;
+    }
+
+    public int size() {
+        return startHi.length;
+    }
+
+    /**
+     * Checks an entry without building a set; false when {@link #of} would reject it
+     */
+    public static boolean isValid(String entry) {
+        try {
+            parseRange(entry);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // ---- parsing ----
+
+    // {startHi, startLo, endHi, endLo}
+    private static long[] parseRange(String entry) {
+        if (entry == null || entry.isBlank()) throw new IllegalArgumentException("IP address is empty");
+        String text = entry.trim();
+        int slash = text.indexOf('/');
+        long[] ip = parseAddress(slash < 0 ? text : text.substring(0, slash));
+        if (ip == null) throw new IllegalArgumentException("Not an IP address or CIDR range: " + entry);
+
+        boolean v4 = text.substring(0, slash < 0 ? text.length() : slash).indexOf(':') < 0;
+        int prefix = 128;
+        if (slash >= 0) {
+            try {
+                prefix = Integer.parseInt(text.substring(slash + 1));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Not an IP address or CIDR range: " + entry);
+            }
+            if (prefix < 0 || prefix > (v4 ? 32 : 128)) throw new IllegalArgumentException("Invalid prefix length: " + entry);
+            if (v4) prefix += 96;
+        }
+
+        long maskHi = prefix >= 64 ? -1L : (prefix == 0 ? 0L : -1L << (64 - prefix));
+        long maskLo = prefix <= 64 ? 0L : (prefix == 128 ? -1L : -1L << (128 - prefix));
+        return new long[]{ip[0] & maskHi, ip[1] & maskLo, ip[0] | ~maskHi, ip[1] | ~maskLo};
+    }
+
+    // {hi, lo} as IPv6, IPv4 mapped; null if not an IP literal (never resolves host names)
+    private static long[] parseAddress(String text) {
+        if (text.isEmpty() || text.length() > 45) return null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            boolean ok = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F') || c == ':' || c == '.';
+            if (!ok) return null;
+        }
+        if (text.indexOf(':') < 0) {
+            // An invalid dotted quad would otherwise be looked up as a host name
+            if (!text.matches("\\d{1,3}(\\.\\d{1,3}){3}")) return null;
+            for (String octet : text.split("\\.")) {
+                if (Integer.parseInt(octet) > 255) return null;
+            }
+        }
+
+        byte[] bytes;
+        try {
+            bytes = InetAddress.getByName(text).getAddress();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+        if (bytes.length == 4) {
+            long v4 = ((bytes[0] & 0xFFL) << 24) | ((bytes[1] & 0xFFL) << 16) | ((bytes[2] & 0xFFL) << 8) | (bytes[3] & 0xFFL);
+            return new long[]{0L, 0x0000FFFF00000000L | v4};
+        }
+        long hi = 0, lo = 0;
+        for (int i = 0; i < 8; i++) hi = (hi << 8) | (bytes[i] & 0xFFL);
+        for (int i = 8; i < 16; i++) lo = (lo << 8) | (bytes[i] & 0xFFL);
+        return new long[]{hi, lo};
+    }
+
+    private static int compare(long aHi, long aLo, long bHi, long bLo) {
+        int c = Long.compareUnsigned(aHi, bHi);
+        return c != 0 ? c : Long.compareUnsigned(aLo, bLo);
+    }
+
+    // range starts inside last or right after its end, so the two can be one range
+    private static boolean startsWithin(long[] range, long[] last) {
+        if (isMax(last[2], last[3])) return true;
+        long afterLo = last[3] + 1;
+        long afterHi = afterLo == 0 ? last[2] + 1 : last[2];
+        return compare(range[0], range[1], afterHi, afterLo) <= 0;
+    }
+
+    private static boolean isMax(long hi, long lo) {
+        return hi == -1L && lo == -1L;
+    }
+}
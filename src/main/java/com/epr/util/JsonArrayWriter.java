@@ -0,0 +1,63 @@
+// src/main/java/com/epr/util/JsonArrayWriter.java
+package com.epr.util;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes a JSON array to the response one element at a time, for listings read through a
+ * repository {@code Stream} so neither the rows nor the rendered body are held in memory.
+ *
+ * The response is committed on the first element; if none arrives {@link #finish()} answers
+ * 204 No Content instead, like the list endpoints do for an empty result.
+ */
+public final class JsonArrayWriter implements Consumer<Object> {
+
+    private static final int FLUSH_EVERY = 100;
+
+    private final ObjectMapper objectMapper;
+    private final HttpServletResponse response;
+    private JsonGenerator generator;
+    private int count;
+
+    public JsonArrayWriter(ObjectMapper objectMapper, HttpServletResponse response) {
+        this.objectMapper = objectMapper;
+        this.response = response;
+    }
+
+    @Override
+    public void accept(Object element) {
+        if (generator == null) start();
+        generator.writePOJO(element);
+        if (++count % FLUSH_EVERY == 0) generator.flush();
+    }
+
+    public void finish() {
+        if (generator == null) {
+            response.setStatus(HttpServletResponse.SC_NO_CONTENT);
+            return;
+        }
+        generator.writeEndArray();
+        generator.close();
+    }
+
+    private void start() {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try {
+            // The servlet container owns the output stream
+            generator = objectMapper.writer()
+                    .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                    .createGenerator(response.getOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        generator.writeStartArray();
+    }
+}
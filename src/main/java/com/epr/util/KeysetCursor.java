@@ -0,0 +1,41 @@
+// src/main/java/com/epr/util/KeysetCursor.java
+package com.epr.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position in a (postDate DESC, id DESC) ordered listing.
+ * Clients only ever see the encoded, opaque token and pass it back unchanged to get the next page.
+ */
+public record KeysetCursor(LocalDateTime postDate, Long id) {
+
+    public String encode() {
+        String raw = postDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded cursor, or null for the first page
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * True if a row with this postDate/id comes after the cursor in newest-first order.
+     */
+    public boolean precedes(LocalDateTime rowPostDate, Long rowId) {
+        int cmp = rowPostDate.compareTo(postDate);
+        return cmp < 0 || (cmp == 0 && rowId < id);
+    }
+}
@@ -0,0 +1,135 @@
+// src/main/java/com/epr/util/TokenBucketLimiter.java
+package com.epr.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token buckets by key, held in memory: each key may spend burst tokens at once and gets
+ * perMinute back per minute. A call that finds no token is refused with the time until the next
+ * one.
+ *
+ * Keys are spread over lock stripes, each an access-ordered map capped at its share of maxEntries
+ * (least recently used bucket dropped first), so memory is bounded whatever the key spread and
+ * callers only contend within a stripe. A bucket left alone until it would be full again holds no
+ * information and is removed by {@link #evictIdle}.
+ */
+public final class TokenBucketLimiter {
+
+    private static final class Bucket {
+        double tokens;
+        long refilledAt;
+
+        Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+
+    private final int burst;
+    private final double tokensPerNano;
+    private final long nanosToFull;
+    private final Stripe[] stripes;
+
+    private final class Stripe extends LinkedHashMap<String, Bucket> {
+        private final int capacity;
+        long evicted;
+
+        Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+            if (size() <= capacity) return false;
+            evicted++;
+            return true;
+        }
+    }
+
+    public TokenBucketLimiter(int burst, double perMinute, int maxEntries, int stripes) {
+        if (burst < 1 || perMinute <= 0) throw new IllegalArgumentException("burst must be at least 1 and perMinute positive");
+        this.burst = burst;
+        this.tokensPerNano = perMinute / TimeUnit.MINUTES.toNanos(1);
+        this.nanosToFull = (long) Math.ceil(burst / tokensPerNano);
+        int count = Integer.highestOneBit(Math.max(1, stripes));
+        int perStripe = Math.max(1, maxEntries / count);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) this.stripes[i] = new Stripe(perStripe);
+    }
+
+    /**
+     * Takes a token for key; 0 if there was one, otherwise the nanoseconds until there will be
+     */
+    public long tryAcquire(String key) {
+        Stripe stripe = stripe(key);
+        long now = System.nanoTime();
+        synchronized (stripe) {
+            Bucket bucket = stripe.get(key);
+            if (bucket == null) {
+                stripe.put(key, new Bucket(burst - 1, now));
+                return 0;
+            }
+            bucket.tokens = Math.min(burst, bucket.tokens + (now - bucket.refilledAt) * tokensPerNano);
+            bucket.refilledAt = now;
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - bucket.tokens) / tokensPerNano);
+        }
+    }
+
+    /**
+     * Drops buckets that have refilled completely; returns how many
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                // Access order: the eldest first, so stop at the first one still in use
+                Iterator<Bucket> it = stripe.values().iterator();
+                while (it.hasNext()) {
+                    Bucket bucket = it.next();
+                    if (now - bucket.refilledAt < nanosToFull) break;
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Buckets dropped because a stripe was full, not because they were idle
+     */
+    public long evictedForSpace() {
+        long evicted = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                evicted += stripe.evicted;
+            }
+        }
+        return evicted;
+    }
+
+    private Stripe stripe(String key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return stripes[h & (stripes.length - 1)];
+    }
+}
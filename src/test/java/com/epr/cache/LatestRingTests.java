@@ -0,0 +1,53 @@
+package com.epr.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatestRingTests {
+
+    private final LatestRing<String> ring = new LatestRing<>(3);
+
+    @Test
+    void staleRowsAreNotLoadedOverAConcurrentChange() {
+        long seen = ring.generation();
+        // Unpublished after the reader's query, while the ring was still unloaded
+        ring.remove(2L);
+
+        assertFalse(ring.replaceAll(List.of(entry(1L), entry(2L)), seen));
+        assertFalse(ring.isLoaded());
+
+        assertTrue(ring.replaceAll(List.of(entry(1L)), ring.generation()));
+        assertEquals(List.of("1"), ring.latest(3));
+    }
+
+    @Test
+    void upsertAndInvalidateAdvanceTheGeneration() {
+        long seen = ring.generation();
+        ring.upsert(entry(4L));
+        assertFalse(ring.replaceAll(List.of(), seen));
+
+        seen = ring.generation();
+        ring.invalidate();
+        assertFalse(ring.replaceAll(List.of(), seen));
+    }
+
+    @Test
+    void newestFirstAndCappedAtCapacity() {
+        assertTrue(ring.replaceAll(List.of(entry(1L), entry(4L), entry(2L), entry(3L)), ring.generation()));
+        assertEquals(List.of("4", "3", "2"), ring.latest(10));
+
+        ring.remove(3L);
+        // Items beyond the ring exist, so a removal cannot be backfilled from memory
+        assertFalse(ring.isLoaded());
+    }
+
+    private static LatestRing.Entry<String> entry(Long id) {
+        return new LatestRing.Entry<>(id, LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(id), String.valueOf(id));
+    }
+}
@@ -0,0 +1,86 @@
+package com.epr.cache;
+
+import com.epr.dto.customer.BlogCardDto;
+import com.epr.event.VisitsFlushedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PublicBlogCatalogueTests {
+
+    private final PublicBlogCatalogue catalogue = new PublicBlogCatalogue();
+
+    @Test
+    void changesDuringTheFirstLoadAreReplayed() {
+        long mark = catalogue.beginLoad();
+        // Committed after the rows were read: blog 2 unpublished, blog 3 published
+        catalogue.remove(2L);
+        catalogue.upsert(blog(3L, "new"));
+        catalogue.replaceAll(mark, List.of(blog(1L, "one"), blog(2L, "two")));
+
+        PublicBlogCatalogue.Snapshot snapshot = catalogue.snapshot().orElseThrow();
+        assertEquals(List.of(1L, 3L), ids(snapshot));
+    }
+
+    @Test
+    void reloadDoesNotUndoConcurrentChanges() {
+        catalogue.replaceAll(catalogue.beginLoad(), List.of(blog(1L, "one"), blog(2L, "two")));
+
+        long mark = catalogue.beginLoad();
+        catalogue.remove(1L);
+        catalogue.upsert(blog(2L, "renamed"));
+        // Stale rows read before both changes committed
+        catalogue.replaceAll(mark, List.of(blog(1L, "one"), blog(2L, "two")));
+
+        PublicBlogCatalogue.Snapshot snapshot = catalogue.snapshot().orElseThrow();
+        assertEquals(List.of(2L), ids(snapshot));
+        assertEquals("renamed", snapshot.card(2L).orElseThrow().getSlug());
+    }
+
+    @Test
+    void changesBeforeTheMarkAreNotReplayed() {
+        catalogue.replaceAll(catalogue.beginLoad(), List.of(blog(1L, "one")));
+        catalogue.remove(1L);
+
+        // Rows read after the removal committed and blog 1 was published again
+        catalogue.replaceAll(catalogue.beginLoad(), List.of(blog(1L, "one")));
+        assertEquals(List.of(1L), ids(catalogue.snapshot().orElseThrow()));
+    }
+
+    @Test
+    void abandonedLoadLeavesTheSnapshotAlone() {
+        catalogue.beginLoad();
+        catalogue.upsert(blog(1L, "one"));
+        catalogue.abandonLoad();
+        assertTrue(catalogue.snapshot().isEmpty());
+    }
+
+    @Test
+    void flushedVisitsReachTheCards() {
+        catalogue.replaceAll(catalogue.beginLoad(), List.of(blog(1L, "one"), blog(2L, "two")));
+
+        catalogue.onVisitsFlushed(new VisitsFlushedEvent(VisitCounterBuffer.Target.BLOG, Map.of(1L, 3L, 9L, 1L)));
+        catalogue.onVisitsFlushed(new VisitsFlushedEvent(VisitCounterBuffer.Target.SERVICE, Map.of(2L, 5L)));
+
+        PublicBlogCatalogue.Snapshot snapshot = catalogue.snapshot().orElseThrow();
+        assertEquals(13L, snapshot.card(1L).orElseThrow().getVisited());
+        assertEquals(10L, snapshot.card(2L).orElseThrow().getVisited());
+    }
+
+    private static List<Long> ids(PublicBlogCatalogue.Snapshot snapshot) {
+        return snapshot.all().stream().map(BlogCardDto::getId).sorted().toList();
+    }
+
+    private static PublicBlog blog(Long id, String slug) {
+        BlogCardDto card = new BlogCardDto();
+        card.setId(id);
+        card.setSlug(slug);
+        card.setVisited(10L);
+        return new PublicBlog(card, LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(id), 0, null, List.of());
+    }
+}
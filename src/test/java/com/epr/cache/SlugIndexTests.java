@@ -0,0 +1,61 @@
+package com.epr.cache;
+
+import com.epr.dto.customer.ServiceCardDto;
+import com.epr.entity.SlugHistory.ContentType;
+import com.epr.event.ServiceChangedEvent;
+import com.epr.repository.projection.SlugRow;
+import com.epr.search.SearchDocument;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class SlugIndexTests {
+
+    private final SlugIndex index = new SlugIndex();
+
+    @Test
+    void renameDuringAReloadIsReplayed() {
+        index.replaceAll(ContentType.SERVICE, index.beginLoad(ContentType.SERVICE), List.of(new SlugRow(1L, "gst")), List.of());
+
+        long mark = index.beginLoad(ContentType.SERVICE);
+        // Renamed after the rows were read
+        index.onServiceChanged(published(1L, "gst-registration"));
+        index.moved(ContentType.SERVICE, 1L, "gst", "gst-registration");
+        index.replaceAll(ContentType.SERVICE, mark, List.of(new SlugRow(1L, "gst")), List.of());
+
+        assertEquals(Optional.of(1L), index.find(ContentType.SERVICE, "gst-registration"));
+        assertEquals(Optional.empty(), index.find(ContentType.SERVICE, "gst"));
+        assertEquals(Optional.of("gst-registration"), index.movedTo(ContentType.SERVICE, "gst"));
+    }
+
+    @Test
+    void unpublishDuringTheFirstLoadIsReplayed() {
+        long mark = index.beginLoad(ContentType.SERVICE);
+        index.onServiceChanged(new ServiceChangedEvent(2L, null, null));
+        index.replaceAll(ContentType.SERVICE, mark, List.of(new SlugRow(1L, "gst"), new SlugRow(2L, "iec")), List.of());
+
+        assertEquals(Optional.empty(), index.find(ContentType.SERVICE, "iec"));
+        assertEquals(Optional.of(1L), index.find(ContentType.SERVICE, "gst"));
+    }
+
+    @Test
+    void changesToOtherTypesAreNotReplayed() {
+        long mark = index.beginLoad(ContentType.BLOG);
+        index.onServiceChanged(published(1L, "gst"));
+        index.replaceAll(ContentType.BLOG, mark, List.of(new SlugRow(1L, "why-gst")), List.of());
+
+        assertEquals(Optional.empty(), index.find(ContentType.BLOG, "gst"));
+        assertFalse(index.isLoaded(ContentType.SERVICE));
+    }
+
+    private static ServiceChangedEvent published(Long id, String slug) {
+        ServiceCardDto card = new ServiceCardDto();
+        card.setId(id);
+        card.setSlug(slug);
+        return new ServiceChangedEvent(id, null, new SearchDocument<>(id, card, List.of()));
+    }
+}
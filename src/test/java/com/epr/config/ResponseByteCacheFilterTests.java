@@ -0,0 +1,85 @@
+package com.epr.config;
+
+import com.epr.cache.CatalogueVersion;
+import com.epr.cache.ResponseByteCache;
+import com.epr.cache.ResponseCacheContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResponseByteCacheFilterTests {
+
+    private final ResponseByteCache cache = new ResponseByteCache(16, DataSize.ofMegabytes(1), false);
+    private final ResponseByteCacheFilter filter =
+            new ResponseByteCacheFilter(cache, new CatalogueVersion(), null, List.of("/services", "/services/**"));
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest("GET", "/services");
+        response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void bufferedResponseIsStored() throws Exception {
+        filter.doFilter(request, response, json(false));
+
+        assertEquals("[1,2]", response.getContentAsString());
+        assertEquals(1, cache.metrics().get("entries"));
+    }
+
+    @Test
+    void streamedResponseBypassesTheBufferAndIsNotStored() throws Exception {
+        filter.doFilter(request, response, json(true));
+
+        assertEquals("[1,2]", response.getContentAsString());
+        assertEquals(0, cache.metrics().get("entries"));
+    }
+
+    @Test
+    void streamedBytesReachTheClientWhileTheHandlerRuns() throws Exception {
+        filter.doFilter(request, response, (req, res) -> {
+            ResponseCacheContext.tag(ResponseByteCache.SERVICES);
+            HttpServletResponse unbuffered = ResponseCacheContext.unbuffered((HttpServletResponse) res);
+            unbuffered.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            unbuffered.getOutputStream().write("[1".getBytes(StandardCharsets.UTF_8));
+            assertEquals("[1", response.getContentAsString());
+            unbuffered.getOutputStream().write("]".getBytes(StandardCharsets.UTF_8));
+        });
+
+        assertEquals("[1]", response.getContentAsString());
+    }
+
+    // A tagged 200 JSON handler, written like a streamed listing or like a regular controller
+    private static FilterChain json(boolean streamed) {
+        return (req, res) -> {
+            ResponseCacheContext.tag(ResponseByteCache.SERVICES);
+            HttpServletResponse out = streamed
+                    ? ResponseCacheContext.unbuffered((HttpServletResponse) res)
+                    : (HttpServletResponse) res;
+            out.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            out.getOutputStream().write("[1,2]".getBytes(StandardCharsets.UTF_8));
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.epr.controller.customer;
+
+import com.epr.dto.customer.BlogCardDto;
+import com.epr.dto.customer.CursorPage;
+import com.epr.service.BlogService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CustomerBlogControllerTests {
+
+    private final BlogService blogService = mock(BlogService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        CustomerBlogController controller = new CustomerBlogController();
+        ReflectionTestUtils.setField(controller, "blogService", blogService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        when(blogService.findPublicBlogsPage(any(), any())).thenReturn(new CursorPage<>(List.of(new BlogCardDto()), "next"));
+    }
+
+    @Test
+    void listIsPagedWithoutParameters() throws Exception {
+        mockMvc.perform(get("/blogs"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(PagedResponses.NEXT_CURSOR_HEADER, "next"));
+
+        verify(blogService).findPublicBlogsPage(isNull(), isNull());
+        verify(blogService, never()).findAllPublicBlogs();
+    }
+
+    @Test
+    void fullListOnlyOnExplicitOptIn() throws Exception {
+        mockMvc.perform(get("/blogs").param("all", "true")).andExpect(status().isOk());
+        verify(blogService).findAllPublicBlogs();
+
+        // Paging parameters win over the opt-in
+        mockMvc.perform(get("/blogs").param("all", "true").param("size", "5")).andExpect(status().isOk());
+        verify(blogService).findPublicBlogsPage(isNull(), eq(5));
+        verify(blogService, times(1)).findAllPublicBlogs();
+    }
+}
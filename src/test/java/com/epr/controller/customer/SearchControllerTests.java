@@ -0,0 +1,67 @@
+package com.epr.controller.customer;
+
+import com.epr.cache.CatalogueVersion;
+import com.epr.config.CatalogueConditionalGetInterceptor;
+import com.epr.dto.customer.SearchHitDto;
+import com.epr.dto.customer.SearchResultDto;
+import com.epr.service.SearchService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class SearchControllerTests {
+
+    private final SearchResultDto result = new SearchResultDto(List.of(), List.of());
+
+    @Test
+    void completeResultsAreCacheable() throws Exception {
+        result.setResults(List.of(new SearchHitDto("blog", 1.0, null)));
+
+        MvcResult response = search();
+        assertFalse(cacheControl(response).contains("no-store"));
+    }
+
+    @Test
+    void partialResultsAreNotStored() throws Exception {
+        result.setResults(List.of());
+        result.setPartial(true);
+        result.setFailedSources(List.of("services"));
+
+        MvcResult response = search();
+        assertEquals(200, response.getResponse().getStatus());
+        // no-store wins over the endpoint's max-age for every cache
+        assertTrue(cacheControl(response).contains("no-store"));
+    }
+
+    private static List<String> cacheControl(MvcResult response) {
+        return response.getResponse().getHeaders("Cache-Control").stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .toList();
+    }
+
+    private MvcResult search() throws Exception {
+        SearchController controller = new SearchController();
+        SearchService searchService = (keyword, limit) -> result;
+        ReflectionTestUtils.setField(controller, "searchService", searchService);
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(30))
+                .staleWhileRevalidate(Duration.ofMinutes(2))
+                .cachePublic();
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addMappedInterceptors(new String[]{"/search"}, new CatalogueConditionalGetInterceptor(new CatalogueVersion(), cacheControl))
+                .build();
+        return mockMvc.perform(get("/search").param("q", "gst")).andReturn();
+    }
+}
@@ -0,0 +1,149 @@
+package com.epr.ingest;
+
+import com.epr.dto.admin.enquiry.EnquiryRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EnquiryLogTests {
+
+    @TempDir
+    Path dir;
+
+    private final List<EnquiryLog> logs = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        logs.forEach(EnquiryLog::close);
+    }
+
+    @Test
+    void restartReplaysRecordsPastTheCheckpoint() {
+        EnquiryLog first = open(0);
+        for (int i = 0; i < 5; i++) append(first, "Visitor " + i);
+        first.close();
+
+        EnquiryLog second = open(2);
+        assertEquals(first.logId(), second.logId());
+        assertEquals(List.of(3L, 4L, 5L), seqs(second.durableBatch(10)));
+        assertEquals("Visitor 2", second.durableBatch(1).get(0).enquiry().getName());
+
+        // The sequence continues after the recovered records
+        assertEquals(6L, append(second, "Visitor 5").seq());
+    }
+
+    @Test
+    void tornLastLineIsSkipped() throws IOException {
+        EnquiryLog first = open(0);
+        for (int i = 0; i < 3; i++) append(first, "Visitor " + i);
+        first.close();
+        // A crash half way through the fourth line
+        Files.writeString(segments().get(0), "1a2b3c4d {\"seq\":4,\"uuid\":\"", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        EnquiryLog second = open(0);
+        assertEquals(List.of(1L, 2L, 3L), seqs(second.durableBatch(10)));
+        assertEquals(1L, second.metrics().get("corrupt"));
+        assertEquals(4L, append(second, "Visitor 3").seq());
+    }
+
+    @Test
+    void appliedSegmentsAreDeleted() throws IOException {
+        // One record per segment
+        EnquiryLog enquiryLog = open(0, DataSize.ofBytes(1));
+        for (int i = 0; i < 3; i++) append(enquiryLog, "Visitor " + i);
+        assertEquals(3, segments().size());
+
+        enquiryLog.applied(2);
+        assertEquals(List.of(3L), seqs(enquiryLog.durableBatch(10)));
+        assertEquals(1, segments().size());
+    }
+
+    @Test
+    void concurrentAppendsShareFsyncs() throws Exception {
+        EnquiryLog enquiryLog = open(0);
+        int threads = 16;
+        int perThread = 50;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) append(enquiryLog, "Visitor");
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) future.get();
+        } finally {
+            pool.shutdown();
+        }
+
+        List<EnquiryLogRecord> durable = enquiryLog.durableBatch(threads * perThread);
+        assertEquals(threads * perThread, durable.size());
+        for (int i = 0; i < durable.size(); i++) assertEquals(i + 1L, durable.get(i).seq());
+        long fsyncs = (Long) enquiryLog.metrics().get("fsyncs");
+        assertTrue(fsyncs < threads * perThread, "expected shared fsyncs, got " + fsyncs);
+    }
+
+    @Test
+    void eachDirectoryHasItsOwnLogId(@TempDir Path other) {
+        EnquiryLog here = open(0);
+        EnquiryLog there = track(new EnquiryLog(JsonMapper.builder().build(), other.toString(), DataSize.ofMegabytes(1), 1000));
+        assertNotEquals(here.logId(), there.logId());
+    }
+
+    private EnquiryLog open(long checkpoint) {
+        return open(checkpoint, DataSize.ofMegabytes(1));
+    }
+
+    private EnquiryLog open(long checkpoint, DataSize segmentSize) {
+        EnquiryLog enquiryLog = track(new EnquiryLog(JsonMapper.builder().build(), dir.toString(), segmentSize, 1000));
+        enquiryLog.open(checkpoint);
+        return enquiryLog;
+    }
+
+    private EnquiryLog track(EnquiryLog enquiryLog) {
+        logs.add(enquiryLog);
+        return enquiryLog;
+    }
+
+    private static EnquiryLogRecord append(EnquiryLog enquiryLog, String name) {
+        EnquiryRequestDto dto = new EnquiryRequestDto();
+        dto.setName(name);
+        dto.setCity("Pune");
+        return enquiryLog.append(UUID.randomUUID().toString(), LocalDateTime.now(), "127.0.0.1", "/", dto);
+    }
+
+    private static List<Long> seqs(List<EnquiryLogRecord> records) {
+        return records.stream().map(EnquiryLogRecord::seq).toList();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+}
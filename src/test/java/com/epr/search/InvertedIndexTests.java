@@ -0,0 +1,66 @@
+package com.epr.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class InvertedIndexTests {
+
+    private final InvertedIndex<String> index = new InvertedIndex<>();
+
+    @Test
+    void changesDuringTheFirstLoadAreReplayed() {
+        long mark = index.beginLoad();
+        // Committed after the rows were read: document 2 unpublished, document 3 published
+        index.remove(2L);
+        index.upsert(doc(3L, "gst registration"));
+        index.replaceAll(mark, List.of(doc(1L, "gst return"), doc(2L, "gst refund")));
+
+        assertEquals(List.of(1L, 3L), ids("gst"));
+    }
+
+    @Test
+    void reloadDoesNotUndoConcurrentChanges() {
+        index.replaceAll(index.beginLoad(), List.of(doc(1L, "trademark"), doc(2L, "copyright")));
+
+        long mark = index.beginLoad();
+        index.remove(1L);
+        index.upsert(doc(2L, "patent"));
+        // Stale rows read before both changes committed
+        index.replaceAll(mark, List.of(doc(1L, "trademark"), doc(2L, "copyright")));
+
+        assertEquals(List.of(), ids("trademark"));
+        assertEquals(List.of(), ids("copyright"));
+        assertEquals(List.of(2L), ids("patent"));
+    }
+
+    @Test
+    void changesBeforeTheMarkAreNotReplayed() {
+        index.replaceAll(index.beginLoad(), List.of(doc(1L, "trademark")));
+        index.remove(1L);
+
+        // Rows read after the removal committed and document 1 was published again
+        index.replaceAll(index.beginLoad(), List.of(doc(1L, "trademark")));
+        assertEquals(List.of(1L), ids("trademark"));
+    }
+
+    @Test
+    void abandonedLoadLeavesTheIndexUnloaded() {
+        index.beginLoad();
+        index.upsert(doc(1L, "trademark"));
+        index.abandonLoad();
+        assertFalse(index.isLoaded());
+        assertEquals(0, index.size());
+    }
+
+    private List<Long> ids(String query) {
+        return index.search(query, 0).stream().map(InvertedIndex.Hit::id).sorted().toList();
+    }
+
+    private static SearchDocument<String> doc(Long id, String title) {
+        return new SearchDocument<>(id, title, List.of(new SearchDocument.Field(title, 1)));
+    }
+}
@@ -0,0 +1,135 @@
+package com.epr.serviceimpl;
+
+import com.epr.cache.ContactKeyIndex;
+import com.epr.dto.admin.enquiry.EnquiryFilterDto;
+import com.epr.dto.admin.enquiry.EnquiryRequestDto;
+import com.epr.dto.admin.enquiry.EnquiryResponseDto;
+import com.epr.dto.customer.CursorPage;
+import com.epr.entity.Enquiry;
+import com.epr.ingest.EnquiryLog;
+import com.epr.util.DateTimeUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Statement counts of the enquiry intake and the admin enquiry list.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({EnquiryServiceImpl.class, EnquiryLog.class, ContactKeyIndex.class, DateTimeUtil.class, JsonMapper.class})
+class EnquiryServiceImplTests {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EnquiryServiceImpl enquiryService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void firstTimeContactSkipsDuplicateLookups() {
+        // The load reads in transactions of its own, so the row it backfills must be committed
+        TransactionTemplate separate = new TransactionTemplate(transactionManager);
+        separate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Enquiry legacy = new Enquiry();
+        legacy.setUuid(UUID.randomUUID().toString());
+        legacy.setName("Legacy");
+        legacy.setCity("Delhi");
+        legacy.setMobile("098765 43210");
+        separate.executeWithoutResult(status -> em.persist(legacy));
+        try {
+            enquiryService.loadContactKeys();
+
+            // Only the insert: neither key can be in the filter
+            assertEquals(1, statementsFor(() -> enquiryService.createEnquiry(enquiry("new@example.com", "9123456789"), "127.0.0.1", "/")));
+
+            // Same number written differently: one indexed lookup, merged into the existing row
+            statementsFor(() -> assertEquals(legacy.getId(),
+                    enquiryService.createEnquiry(enquiry(null, "+91 98765-43210"), "127.0.0.1", "/").getId()));
+            assertEquals(2L, em.find(Enquiry.class, legacy.getId()).getCount());
+        } finally {
+            // Roll back the test's own changes first; they hold the row's lock
+            TestTransaction.end();
+            jdbcTemplate.update("DELETE FROM enquiries WHERE id = ?", legacy.getId());
+        }
+    }
+
+    @Test
+    void filteredEnquiryPagesWalkTheKeyset() {
+        for (int i = 0; i < 5; i++) {
+            Enquiry enquiry = new Enquiry();
+            enquiry.setUuid(UUID.randomUUID().toString());
+            enquiry.setName("Visitor " + i);
+            enquiry.setCity(i % 2 == 0 ? "Pune" : "Delhi");
+            em.persist(enquiry);
+        }
+        EnquiryFilterDto filter = new EnquiryFilterDto();
+        filter.setCity(" Pune ");
+
+        List<CursorPage<EnquiryResponseDto>> pages = new ArrayList<>();
+        assertEquals(1, statementsFor(() -> pages.add(enquiryService.findActivePage(filter, null, 2))));
+        CursorPage<EnquiryResponseDto> first = pages.get(0);
+        assertEquals(2, first.items().size());
+        assertNotNull(first.nextCursor());
+
+        CursorPage<EnquiryResponseDto> second = enquiryService.findActivePage(filter, Long.valueOf(first.nextCursor()), 2);
+        assertEquals(1, second.items().size());
+        assertNull(second.nextCursor());
+        assertTrue(first.items().get(1).getId() > second.items().get(0).getId());
+
+        assertEquals(1, statementsFor(() -> assertEquals(3L, enquiryService.countActive(filter))));
+    }
+
+    private long statementsFor(Runnable call) {
+        em.flush();
+        em.clear();
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static EnquiryRequestDto enquiry(String email, String mobile) {
+        EnquiryRequestDto dto = new EnquiryRequestDto();
+        dto.setName("Visitor");
+        dto.setCity("Delhi");
+        dto.setEmail(email);
+        dto.setMobile(mobile);
+        return dto;
+    }
+}
@@ -0,0 +1,352 @@
+package com.epr.serviceimpl;
+
+import com.epr.cache.CatalogueVersion;
+import com.epr.cache.NavigationTree;
+import com.epr.cache.PublicBlogCatalogue;
+import com.epr.cache.ResponseByteCache;
+import com.epr.cache.ServicePageCache;
+import com.epr.cache.SlugIndex;
+import com.epr.cache.VisitCounterBuffer;
+import com.epr.config.SitemapProperties;
+import com.epr.dto.admin.importer.ImportReportDto;
+import com.epr.dto.admin.importer.ImportRowErrorDto;
+import com.epr.dto.customer.NavigationCategoryDto;
+import com.epr.dto.customer.ServicePageDto;
+import com.epr.entity.*;
+import com.epr.search.PublicSearchIndex;
+import com.epr.service.BulkImportService;
+import com.epr.util.DateTimeUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Guards the list mappers against N+1 regressions: the number of SQL statements an endpoint
+ * issues must not depend on how many rows it returns.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({BlogServiceImpl.class, ServiceServiceImpl.class, PublicBlogCatalogue.class, VisitCounterBuffer.class, CatalogueVersion.class,
+        PublicSearchIndex.class, ServicePageCache.class, ResponseByteCache.class, SlugIndex.class, NavigationTree.class, NavigationServiceImpl.class,
+        SitemapServiceImpl.class, SitemapProperties.class, BulkImportServiceImpl.class, JsonMapper.class, DateTimeUtil.class})
+class PublicQueryCountTests {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BlogServiceImpl blogService;
+
+    @Autowired
+    private ServiceServiceImpl serviceService;
+
+    @Autowired
+    private ServicePageCache servicePageCache;
+
+    @Autowired
+    private NavigationServiceImpl navigationService;
+
+    @Autowired
+    private SitemapServiceImpl sitemapService;
+
+    @Autowired
+    private BulkImportServiceImpl bulkImportService;
+
+    private Statistics statistics;
+    private Category category;
+    private int seq;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        category = new Category();
+        category.setUuid(UUID.randomUUID().toString());
+        category.setName("Compliance");
+        category.setSlug("compliance");
+        category.setPostDate(LocalDateTime.now());
+        em.persist(category);
+    }
+
+    @Test
+    void adminBlogListingIsConstantInRowCount() {
+        assertConstant(() -> blogService.findAllActiveBlogs());
+    }
+
+    @Test
+    void publicCatalogueLoadIsConstantInRowCount() {
+        assertConstant(() -> blogService.loadPublicCatalogue());
+    }
+
+    @Test
+    void publicServiceListingsAreConstantInRowCount() {
+        assertConstant(() -> serviceService.findAllActivePublicServices());
+        assertConstant(() -> serviceService.findActiveByCategoryId(category.getId()));
+    }
+
+    @Test
+    void streamedListingsAreConstantInRowCount() {
+        assertConstant(() -> serviceService.streamAllActivePublicServices(card -> { }));
+        assertConstant(() -> blogService.streamAllActiveBlogs(blog -> { }));
+    }
+
+    @Test
+    void navigationLoadIsConstantInRowCount() {
+        // categories, subcategories, blog counts, service counts
+        assertConstant(() -> navigationService.load(), 4);
+
+        NavigationCategoryDto node = navigationService.findNavigation().get(0);
+        assertEquals(33, node.getBlogCount());
+        assertEquals(33, node.getServiceCount());
+        assertEquals(33, node.getSubcategories().size());
+        assertEquals(1, node.getSubcategories().get(0).getServiceCount());
+    }
+
+    @Test
+    void sitemapGenerationIsConstantInRowCount() {
+        // one streamed query per segment
+        assertConstant(() -> sitemapService.generateAll(), 5);
+
+        String index = new String(sitemapService.index().orElseThrow(), StandardCharsets.UTF_8);
+        assertTrue(index.contains("/sitemaps/blogs-1.xml.gz"));
+        String blogs = gunzip(sitemapService.part("blogs-1.xml.gz").orElseThrow());
+        assertEquals(33, blogs.split("<url>", -1).length - 1);
+        assertTrue(blogs.contains("<loc>http://localhost:3000/blogs/blog-0</loc>"));
+    }
+
+    @Test
+    void slugLookupsStayInMemory() {
+        Services service = new Services();
+        service.setUuid(UUID.randomUUID().toString());
+        service.setTitle("Renamed service");
+        service.setSlug("renamed-service");
+        service.setCategory(category);
+        em.persist(service);
+
+        SlugHistory history = new SlugHistory();
+        history.setContentType(SlugHistory.ContentType.SERVICE);
+        history.setOldSlug("old-service");
+        history.setContentId(service.getId());
+        history.setCreatedDate(LocalDateTime.now());
+        em.persist(history);
+        em.flush();
+        serviceService.loadSlugIndex();
+
+        assertEquals(0, statementsFor(() -> serviceService.findActiveBySlug("no-such-service")));
+        assertEquals(0, statementsFor(() -> serviceService.findPublicPageBySlug("no-such-service")));
+        assertEquals(0, statementsFor(() -> assertEquals("renamed-service", serviceService.findMovedSlug("Old-Service"))));
+        assertEquals(1, statementsFor(() -> assertEquals(service.getId(), serviceService.findActiveBySlug("renamed-service").getId())));
+    }
+
+    @Test
+    void bulkImportIsConstantInRowCount() {
+        User user = new User();
+        user.setUuid(UUID.randomUUID().toString());
+        user.setFullName("Importer");
+        user.setEmail("importer@example.com");
+        user.setPassword("secret");
+        user.setJobTitle("Editor");
+        user.setAboutMe("Migrates content");
+        em.persist(user);
+
+        Services service = new Services();
+        service.setUuid(UUID.randomUUID().toString());
+        service.setTitle("Linked service");
+        service.setSlug("linked-service");
+        service.setCategory(category);
+        em.persist(service);
+
+        // JDBC batches are not Hibernate statements; this counts the lookups and uniqueness checks
+        long small = statementsFor(() -> assertEquals(3, importBlogs(user, 3).getImported()));
+        long large = statementsFor(() -> assertEquals(30, importBlogs(user, 30).getImported()));
+        assertEquals(small, large, "statement count grew with row count");
+        assertEquals(33L, em.getEntityManager()
+                .createQuery("SELECT COUNT(b) FROM Blogs b JOIN b.services s WHERE s.id = :id", Long.class)
+                .setParameter("id", service.getId()).getSingleResult());
+
+        String csv = "title,slug,summary,description,metaTitle,metaKeyword,metaDescription,categorySlug\n" +
+                "\"Quoted, title\",csv-blog,Summary,Description,Meta,Keyword,Meta description,compliance\n" +
+                "Taken slug,import-blog-0,Summary,Description,Meta,Keyword,Meta description,compliance\n" +
+                "No category,csv-blog-2,Summary,Description,Meta,Keyword,Meta description,\n";
+        ImportReportDto report = runImport(BulkImportService.Kind.BLOGS, BulkImportService.Format.CSV, csv, user);
+        assertEquals(1, report.getImported());
+        assertEquals(2, report.getFailed());
+        assertEquals(Set.of(2, 3), report.getErrors().stream().map(ImportRowErrorDto::getRow).collect(Collectors.toSet()));
+
+        String faqs = "{\"parentSlug\":\"linked-service\",\"question\":\"Q\",\"answer\":\"A\"}\n" +
+                "{\"parentSlug\":\"missing\",\"question\":\"Q\",\"answer\":\"A\"}\n";
+        report = runImport(BulkImportService.Kind.SERVICE_FAQS, BulkImportService.Format.NDJSON, faqs, user);
+        assertEquals(1, report.getImported());
+        assertEquals(2, report.getErrors().get(0).getRow());
+    }
+
+    @Test
+    void servicePageIsConstantInChildCount() {
+        Services service = new Services();
+        service.setUuid(UUID.randomUUID().toString());
+        service.setTitle("Paged service");
+        service.setSlug("paged-service");
+        service.setCategory(category);
+        em.persist(service);
+        em.flush();
+        serviceService.loadSlugIndex();
+
+        seedPageChildren(service, 3);
+        long small = pageStatements(service);
+        seedPageChildren(service, 30);
+        long large = pageStatements(service);
+
+        assertEquals(small, large, "statement count grew with child count");
+        assertTrue(large <= 5, "expected a bounded number of statements but was " + large);
+
+        servicePageCache.evict(service.getId());
+        ServicePageDto page = serviceService.findPublicPageBySlug("paged-service");
+        assertEquals(33, page.getSections().size());
+        assertEquals(2, page.getSections().get(0).getCards().size());
+        assertEquals(33, page.getFaqs().size());
+        assertEquals(33, page.getDocuments().size());
+    }
+
+    private long pageStatements(Services service) {
+        servicePageCache.evict(service.getId());
+        return statementsFor(() -> serviceService.findPublicPageBySlug(service.getSlug()));
+    }
+
+    private void assertConstant(Runnable endpoint) {
+        assertConstant(endpoint, 3);
+    }
+
+    private void assertConstant(Runnable endpoint, int maxStatements) {
+        seed(3);
+        long small = statementsFor(endpoint);
+        seed(30);
+        long large = statementsFor(endpoint);
+
+        assertEquals(small, large, "statement count grew with row count");
+        assertTrue(large <= maxStatements, "expected a bounded number of statements but was " + large);
+    }
+
+    private long statementsFor(Runnable endpoint) {
+        em.flush();
+        em.clear();
+        statistics.clear();
+        endpoint.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private ImportReportDto importBlogs(User user, int rows) {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            int n = seq++;
+            ndjson.append("{\"title\":\"Imported ").append(n).append("\",\"slug\":\"import-blog-").append(n)
+                    .append("\",\"summary\":\"S\",\"description\":\"D\",\"metaTitle\":\"M\",\"metaKeyword\":\"K\",")
+                    .append("\"metaDescription\":\"MD\",\"categorySlug\":\"compliance\",\"serviceSlugs\":[\"linked-service\"]}\n");
+        }
+        return runImport(BulkImportService.Kind.BLOGS, BulkImportService.Format.NDJSON, ndjson.toString(), user);
+    }
+
+    private ImportReportDto runImport(BulkImportService.Kind kind, BulkImportService.Format format, String body, User user) {
+        return bulkImportService.importRows(kind, format,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), user.getId());
+    }
+
+    private static String gunzip(byte[] gzip) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void seed(int rows) {
+        for (int i = 0; i < rows; i++) {
+            int n = seq++;
+
+            // A distinct subcategory per row makes any lazy load show up as one extra statement per row
+            Subcategory subcategory = new Subcategory();
+            subcategory.setUuid(UUID.randomUUID().toString());
+            subcategory.setName("Subcategory " + n);
+            subcategory.setSlug("subcategory-" + n);
+            subcategory.setCategory(category);
+            em.persist(subcategory);
+
+            Services service = new Services();
+            service.setUuid(UUID.randomUUID().toString());
+            service.setTitle("Service " + n);
+            service.setSlug("service-" + n);
+            service.setCategory(category);
+            service.setSubcategory(subcategory);
+            em.persist(service);
+
+            Blogs blog = new Blogs();
+            blog.setUuid(UUID.randomUUID().toString());
+            blog.setTitle("Blog " + n);
+            blog.setSlug("blog-" + n);
+            blog.setSummary("Summary " + n);
+            blog.setDescription("Description " + n);
+            blog.setMetaTitle("Meta " + n);
+            blog.setPostedByUuid("author");
+            blog.setCategory(category);
+            blog.setSubcategory(subcategory);
+            blog.setServices(List.of(service));
+            em.persist(blog);
+        }
+    }
+
+    private void seedPageChildren(Services service, int rows) {
+        for (int i = 0; i < rows; i++) {
+            int n = seq++;
+
+            ServiceSection section = new ServiceSection();
+            section.setUuid(UUID.randomUUID().toString());
+            section.setTabName("Tab " + n);
+            section.setDisplayOrder(String.valueOf(n));
+            section.setService(service);
+            em.persist(section);
+
+            for (int c = 0; c < 2; c++) {
+                ServiceSectionCard card = new ServiceSectionCard();
+                card.setUuid(UUID.randomUUID().toString());
+                card.setTitle("Card " + n + "." + c);
+                card.setSection(section);
+                em.persist(card);
+            }
+
+            ServiceFaq faq = new ServiceFaq();
+            faq.setUuid(UUID.randomUUID().toString());
+            faq.setQuestion("Question " + n);
+            faq.setAnswer("Answer " + n);
+            faq.setService(service);
+            em.persist(faq);
+
+            ServiceDocument document = new ServiceDocument();
+            document.setUuid(UUID.randomUUID().toString());
+            document.setDocumentName("Document " + n);
+            document.setService(service);
+            em.persist(document);
+        }
+    }
+}
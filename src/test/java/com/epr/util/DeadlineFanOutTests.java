@@ -0,0 +1,48 @@
+package com.epr.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeadlineFanOutTests {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void slowAndFailingCallsAreDroppedAndNamed() {
+        CountDownLatch never = new CountDownLatch(1);
+        DeadlineFanOut fanOut = DeadlineFanOut.start("Test call", executor, 100);
+        DeadlineFanOut.Call<String> fast = fanOut.submit("fast", () -> "ok");
+        DeadlineFanOut.Call<String> slow = fanOut.submit("slow", () -> {
+            try {
+                never.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "late";
+        });
+        DeadlineFanOut.Call<String> failing = fanOut.submit("failing", () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertEquals(Optional.of("ok"), fanOut.await(fast));
+        assertEquals(Optional.empty(), fanOut.await(slow));
+        assertEquals(Optional.empty(), fanOut.await(failing));
+        assertEquals(List.of("slow", "failing"), fanOut.failed());
+        assertTrue(slow.future().isCancelled());
+        assertTrue(fanOut.tookMs().containsKey("fast"));
+    }
+}
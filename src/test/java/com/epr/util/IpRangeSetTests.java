@@ -0,0 +1,109 @@
+package com.epr.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IpRangeSetTests {
+
+    @Test
+    void prefixZeroCoversItsWholeFamily() {
+        IpRangeSet v4 = IpRangeSet.of(List.of("0.0.0.0/0"));
+        assertTrue(v4.contains("0.0.0.0"));
+        assertTrue(v4.contains("255.255.255.255"));
+        assertFalse(v4.contains("2001:db8::1"));
+
+        IpRangeSet all = IpRangeSet.of(List.of("::/0"));
+        assertTrue(all.contains("2001:db8::1"));
+        assertTrue(all.contains("203.0.113.7"));
+        assertTrue(all.contains("ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff"));
+    }
+
+    @Test
+    void fullLengthPrefixIsOneAddress() {
+        IpRangeSet v4 = IpRangeSet.of(List.of("203.0.113.7/32"));
+        assertTrue(v4.contains("203.0.113.7"));
+        assertFalse(v4.contains("203.0.113.6"));
+        assertFalse(v4.contains("203.0.113.8"));
+
+        IpRangeSet v6 = IpRangeSet.of(List.of("2001:db8::7/128"));
+        assertTrue(v6.contains("2001:0db8:0000:0000:0000:0000:0000:0007"));
+        assertFalse(v6.contains("2001:db8::8"));
+
+        assertTrue(IpRangeSet.of(List.of("203.0.113.7")).contains(" 203.0.113.7 "));
+    }
+
+    @Test
+    void hostBitsOfTheEntryAreIgnored() {
+        IpRangeSet set = IpRangeSet.of(List.of("198.51.100.77/24"));
+        assertTrue(set.contains("198.51.100.0"));
+        assertTrue(set.contains("198.51.100.255"));
+        assertFalse(set.contains("198.51.101.0"));
+    }
+
+    @Test
+    void overlappingRangesAreMerged() {
+        IpRangeSet set = IpRangeSet.of(List.of("10.0.0.128/25", "10.0.0.0/24", "10.0.0.7"));
+        assertEquals(1, set.size());
+        assertTrue(set.contains("10.0.0.200"));
+        assertFalse(set.contains("10.0.1.0"));
+    }
+
+    @Test
+    void adjacentRangesAreMergedAndGapsKept() {
+        IpRangeSet adjacent = IpRangeSet.of(List.of("10.0.0.0/25", "10.0.0.128/25"));
+        assertEquals(1, adjacent.size());
+        assertTrue(adjacent.contains("10.0.0.255"));
+
+        IpRangeSet gap = IpRangeSet.of(List.of("10.0.0.0/25", "10.0.1.0/24"));
+        assertEquals(2, gap.size());
+        assertFalse(gap.contains("10.0.0.200"));
+        assertTrue(gap.contains("10.0.1.200"));
+    }
+
+    @Test
+    void adjacencyCarriesAcrossTheHalvesAndStopsAtTheMaxAddress() {
+        // Low 64 bits all ones, next address carries into the high half
+        assertEquals(1, IpRangeSet.of(List.of("::ffff:ffff:ffff:ffff", "0:0:0:1::/64")).size());
+        assertEquals(1, IpRangeSet.of(List.of("::/1", "8000::/1")).size());
+
+        IpRangeSet top = IpRangeSet.of(List.of("ffff:ffff:ffff:ffff:ffff:ffff:ffff:fff0/124",
+                "ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff", "ffff:ffff:ffff:ffff:ffff:ffff:ffff:fffe/127"));
+        assertEquals(1, top.size());
+        assertTrue(top.contains("ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff"));
+        assertFalse(top.contains("ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffef"));
+    }
+
+    @Test
+    void ipv4AndMappedIpv6AreTheSameAddresses() {
+        IpRangeSet set = IpRangeSet.of(List.of("203.0.113.0/24", "::ffff:203.0.113.0/120"));
+        assertEquals(1, set.size());
+        assertTrue(set.contains("::ffff:203.0.113.9"));
+        assertTrue(IpRangeSet.of(List.of("::ffff:192.0.2.1")).contains("192.0.2.1"));
+    }
+
+    @Test
+    void invalidEntriesAreRejected() {
+        for (String entry : Arrays.asList(null, "", " ", "256.1.1.1", "1.2.3", "1.2.3.4.5", "example.com",
+                "10.0.0.0/33", "10.0.0.0/-1", "10.0.0.0/x", "2001:db8::/129", "2001:db8:::1")) {
+            assertFalse(IpRangeSet.isValid(entry), String.valueOf(entry));
+            List<String> entries = Arrays.asList(entry);
+            assertThrows(IllegalArgumentException.class, () -> IpRangeSet.of(entries), String.valueOf(entry));
+        }
+    }
+
+    @Test
+    void containsIsFalseForAnythingButAnIpLiteral() {
+        IpRangeSet all = IpRangeSet.of(List.of("::/0"));
+        assertFalse(all.contains(null));
+        assertFalse(all.contains("localhost"));
+        assertFalse(all.contains("300.1.1.1"));
+        assertFalse(IpRangeSet.empty().contains("10.0.0.1"));
+    }
+}